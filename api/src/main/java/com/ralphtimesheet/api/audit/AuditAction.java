@@ -0,0 +1,9 @@
+package com.ralphtimesheet.api.audit;
+
+public enum AuditAction {
+    CREATED,
+    UPDATED,
+    DELETED,
+    BULK_DELETED,
+    BULK_REASSIGNED
+}
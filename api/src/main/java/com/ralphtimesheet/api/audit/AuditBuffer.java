@@ -0,0 +1,123 @@
+package com.ralphtimesheet.api.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AuditBuffer {
+
+    private final AuditRecord[] ring;
+    private final AuditOverflowPolicy overflowPolicy;
+    private final long offerTimeoutNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Counter accepted;
+    private final Counter dropped;
+    private final Counter blocked;
+    private int head;
+    private int size;
+
+    @Autowired
+    public AuditBuffer(AuditProperties properties, MeterRegistry meterRegistry) {
+        this(properties.getCapacity(), properties.getOverflowPolicy(), properties.getOfferTimeout(), meterRegistry);
+    }
+
+    AuditBuffer(int capacity, AuditOverflowPolicy overflowPolicy, Duration offerTimeout, MeterRegistry meterRegistry) {
+        this.ring = new AuditRecord[capacity];
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.accepted = meterRegistry.counter("timesheet.audit.records", "outcome", "accepted");
+        this.dropped = meterRegistry.counter("timesheet.audit.records", "outcome", "dropped");
+        this.blocked = meterRegistry.counter("timesheet.audit.buffer.blocked");
+        Gauge.builder("timesheet.audit.buffer.size", this, AuditBuffer::size).register(meterRegistry);
+        Gauge.builder("timesheet.audit.buffer.capacity", this, AuditBuffer::capacity).register(meterRegistry);
+    }
+
+    public boolean offer(AuditRecord record) {
+        lock.lock();
+        try {
+            if (size == ring.length && !makeRoom()) {
+                dropped.increment();
+                return false;
+            }
+            ring[(head + size) % ring.length] = record;
+            size++;
+            accepted.increment();
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int drainTo(List<AuditRecord> batch, int maxRecords, Duration maxWait) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = maxWait.toNanos();
+            while (size == 0 && remaining > 0) {
+                remaining = notEmpty.awaitNanos(remaining);
+            }
+            int drained = Math.min(size, maxRecords);
+            for (int i = 0; i < drained; i++) {
+                batch.add(ring[head]);
+                ring[head] = null;
+                head = (head + 1) % ring.length;
+            }
+            size -= drained;
+            if (drained > 0) {
+                notFull.signalAll();
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int capacity() {
+        return ring.length;
+    }
+
+    private boolean makeRoom() {
+        switch (overflowPolicy) {
+            case DROP_OLDEST -> {
+                ring[head] = null;
+                head = (head + 1) % ring.length;
+                size--;
+                dropped.increment();
+                return true;
+            }
+            case BLOCK -> {
+                blocked.increment();
+                long remaining = offerTimeoutNanos;
+                try {
+                    while (size == ring.length && remaining > 0) {
+                        remaining = notFull.awaitNanos(remaining);
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return size < ring.length;
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+}
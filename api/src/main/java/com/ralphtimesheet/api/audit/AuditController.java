@@ -0,0 +1,40 @@
+package com.ralphtimesheet.api.audit;
+
+import com.ralphtimesheet.api.audit.dto.AuditRecordResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/audit")
+@RequiredArgsConstructor
+@Tag(name = "Audit", description = "Who changed what and when")
+public class AuditController {
+
+    private final AuditService auditService;
+
+    @Operation(
+        summary = "Audit trail",
+        description = "Committed changes for an entity type, optionally narrowed to one id, newest first. "
+            + "Records are written asynchronously and appear shortly after the change commits."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Audit records retrieved successfully."),
+        @ApiResponse(responseCode = "400", description = "Unknown entity or invalid limit.")
+    })
+    @GetMapping
+    public List<AuditRecordResponse> getAuditTrail(
+        @RequestParam AuditEntityType entity,
+        @RequestParam(required = false) Long id,
+        @RequestParam(defaultValue = "100") int limit
+    ) {
+        return auditService.getAuditTrail(entity, id, limit);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ralphtimesheet.api.audit;
+
+public enum AuditEntityType {
+    TIME_ENTRY,
+    EMPLOYEE,
+    PROJECT
+}
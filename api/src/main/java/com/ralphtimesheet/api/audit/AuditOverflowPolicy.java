@@ -0,0 +1,7 @@
+package com.ralphtimesheet.api.audit;
+
+public enum AuditOverflowPolicy {
+    BLOCK,
+    DROP_NEWEST,
+    DROP_OLDEST
+}
@@ -0,0 +1,30 @@
+package com.ralphtimesheet.api.audit;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "timesheet.audit")
+public class AuditProperties {
+
+    private boolean enabled = true;
+
+    private int capacity = 8192;
+
+    private int batchSize = 200;
+
+    private Duration flushInterval = Duration.ofMillis(500);
+
+    private AuditOverflowPolicy overflowPolicy = AuditOverflowPolicy.BLOCK;
+
+    private Duration offerTimeout = Duration.ofMillis(50);
+
+    private int writeAttempts = 3;
+
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    private String actorHeader = "X-Actor";
+}
@@ -0,0 +1,12 @@
+package com.ralphtimesheet.api.audit;
+
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AuditRecordRepository extends JpaRepository<AuditRecord, Long> {
+
+    List<AuditRecord> findByEntityTypeOrderByIdDesc(AuditEntityType entityType, Limit limit);
+
+    List<AuditRecord> findByEntityTypeAndEntityIdOrderByIdDesc(AuditEntityType entityType, Long entityId, Limit limit);
+}
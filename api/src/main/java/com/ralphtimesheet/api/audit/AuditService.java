@@ -0,0 +1,9 @@
+package com.ralphtimesheet.api.audit;
+
+import com.ralphtimesheet.api.audit.dto.AuditRecordResponse;
+import java.util.List;
+
+public interface AuditService {
+
+    List<AuditRecordResponse> getAuditTrail(AuditEntityType entity, Long id, int limit);
+}
@@ -0,0 +1,45 @@
+package com.ralphtimesheet.api.audit;
+
+import com.ralphtimesheet.api.audit.dto.AuditRecordResponse;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AuditServiceImpl implements AuditService {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final AuditRecordRepository auditRecordRepository;
+
+    @Override
+    public List<AuditRecordResponse> getAuditTrail(AuditEntityType entity, Long id, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new AuditValidationException("Limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+
+        List<AuditRecord> records = id == null
+            ? auditRecordRepository.findByEntityTypeOrderByIdDesc(entity, Limit.of(limit))
+            : auditRecordRepository.findByEntityTypeAndEntityIdOrderByIdDesc(entity, id, Limit.of(limit));
+        return records.stream()
+            .map(AuditServiceImpl::toResponse)
+            .toList();
+    }
+
+    private static AuditRecordResponse toResponse(AuditRecord record) {
+        return AuditRecordResponse.builder()
+            .id(record.getId())
+            .entity(record.getEntityType().name())
+            .entityId(record.getEntityId())
+            .action(record.getAction().name())
+            .actor(record.getActor())
+            .occurredAt(record.getOccurredAt())
+            .before(record.getBeforeState())
+            .after(record.getAfterState())
+            .build();
+    }
+}
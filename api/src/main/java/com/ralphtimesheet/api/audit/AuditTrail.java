@@ -0,0 +1,99 @@
+package com.ralphtimesheet.api.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ralphtimesheet.api.employee.EmployeeChangedEvent;
+import com.ralphtimesheet.api.project.ProjectChangedEvent;
+import com.ralphtimesheet.api.timeentry.TimeEntryBulkChangedEvent;
+import com.ralphtimesheet.api.timeentry.TimeEntryChangedEvent;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditTrail {
+
+    static final String SYSTEM_ACTOR = "system";
+    static final String ANONYMOUS_ACTOR = "anonymous";
+    private static final int MAX_ACTOR_LENGTH = 100;
+
+    private final AuditBuffer buffer;
+    private final AuditProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        record(AuditEntityType.TIME_ENTRY, event.getTimeEntryId(), AuditAction.valueOf(event.getType().name()),
+            event.getBefore(), event.getAfter());
+    }
+
+    @TransactionalEventListener
+    public void onTimeEntriesBulkChanged(TimeEntryBulkChangedEvent event) {
+        record(AuditEntityType.TIME_ENTRY, null, AuditAction.valueOf(event.getType().name()), null, event);
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        record(AuditEntityType.EMPLOYEE, event.getEmployeeId(), action(event.getBefore()), event.getBefore(),
+            event.getAfter());
+    }
+
+    @TransactionalEventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        record(AuditEntityType.PROJECT, event.getProjectId(), action(event.getBefore()), event.getBefore(),
+            event.getAfter());
+    }
+
+    private void record(AuditEntityType entityType, Long entityId, AuditAction action, Object before, Object after) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        AuditRecord record = AuditRecord.builder()
+            .entityType(entityType)
+            .entityId(entityId)
+            .action(action)
+            .actor(currentActor())
+            .occurredAt(Instant.now())
+            .beforeState(toJson(before))
+            .afterState(toJson(after))
+            .build();
+        if (!buffer.offer(record)) {
+            log.warn("Audit buffer full; dropped {} {} record for id {}", action, entityType, entityId);
+        }
+    }
+
+    private String currentActor() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return SYSTEM_ACTOR;
+        }
+        String actor = servletAttributes.getRequest().getHeader(properties.getActorHeader());
+        if (!StringUtils.hasText(actor)) {
+            return ANONYMOUS_ACTOR;
+        }
+        return actor.length() > MAX_ACTOR_LENGTH ? actor.substring(0, MAX_ACTOR_LENGTH) : actor;
+    }
+
+    private String toJson(Object state) {
+        if (state == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(state);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize audit state", ex);
+        }
+    }
+
+    private static AuditAction action(Object before) {
+        return before == null ? AuditAction.CREATED : AuditAction.UPDATED;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ralphtimesheet.api.audit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class AuditValidationException extends RuntimeException {
+
+    public AuditValidationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,119 @@
+package com.ralphtimesheet.api.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class AuditWriter implements SmartLifecycle {
+
+    private final AuditBuffer buffer;
+    private final AuditRecordRepository auditRecordRepository;
+    private final AuditProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter written;
+    private final Counter failed;
+    private final DistributionSummary batchSizes;
+    private final Timer writeTimer;
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditWriter(
+        AuditBuffer buffer,
+        AuditRecordRepository auditRecordRepository,
+        AuditProperties properties,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.buffer = buffer;
+        this.auditRecordRepository = auditRecordRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.written = meterRegistry.counter("timesheet.audit.writes", "outcome", "written");
+        this.failed = meterRegistry.counter("timesheet.audit.writes", "outcome", "failed");
+        this.batchSizes = meterRegistry.summary("timesheet.audit.batch.size");
+        this.writeTimer = meterRegistry.timer("timesheet.audit.batch.duration");
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().name("audit-writer").daemon().start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            worker.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            worker.interrupt();
+            log.warn("Audit writer did not drain within {}; {} records left unwritten",
+                properties.getShutdownTimeout(), buffer.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    int flush() throws InterruptedException {
+        List<AuditRecord> batch = new ArrayList<>(properties.getBatchSize());
+        buffer.drainTo(batch, properties.getBatchSize(), properties.getFlushInterval());
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+        return batch.size();
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                flush();
+            }
+            while (buffer.size() > 0) {
+                flush();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(List<AuditRecord> batch) {
+        for (int attempt = 1; attempt <= properties.getWriteAttempts(); attempt++) {
+            try {
+                writeTimer.record(() -> transactionTemplate.executeWithoutResult(
+                    status -> auditRecordRepository.saveAll(batch)));
+                written.increment(batch.size());
+                batchSizes.record(batch.size());
+                return;
+            } catch (RuntimeException ex) {
+                batch.forEach(record -> record.setId(null));
+                log.warn("Audit batch of {} records failed (attempt {} of {})", batch.size(), attempt,
+                    properties.getWriteAttempts(), ex);
+            }
+        }
+        failed.increment(batch.size());
+    }
+}
@@ -0,0 +1,30 @@
+package com.ralphtimesheet.api.audit.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditRecordResponse {
+
+    private Long id;
+    private String entity;
+    private Long entityId;
+    private String action;
+    private String actor;
+    private Instant occurredAt;
+
+    @JsonRawValue
+    private String before;
+
+    @JsonRawValue
+    private String after;
+}
@@ -0,0 +1,8 @@
+package com.ralphtimesheet.api.budget;
+
+public enum BudgetStatus {
+    UNBUDGETED,
+    ON_TRACK,
+    WARNING,
+    EXCEEDED
+}
@@ -0,0 +1,34 @@
+package com.ralphtimesheet.api.budget;
+
+import com.ralphtimesheet.api.budget.dto.ProjectBudgetResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/projects/{id}/budget")
+@RequiredArgsConstructor
+@Tag(name = "Project budgets", description = "Track hours burned against project budgets")
+public class ProjectBudgetController {
+
+    private final ProjectBudgetService projectBudgetService;
+
+    @Operation(
+        summary = "Get project budget status",
+        description = "Report hours burned against the project's budget from the in-memory burn counter."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Budget status retrieved successfully."),
+        @ApiResponse(responseCode = "404", description = "Project not found.")
+    })
+    @GetMapping
+    public ProjectBudgetResponse getBudgetStatus(@PathVariable Long id) {
+        return projectBudgetService.getBudgetStatus(id);
+    }
+}
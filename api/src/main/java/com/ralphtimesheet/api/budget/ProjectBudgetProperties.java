@@ -0,0 +1,17 @@
+package com.ralphtimesheet.api.budget;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "timesheet.projects.budget")
+public class ProjectBudgetProperties {
+
+    private List<Integer> thresholds = List.of(80, 100);
+
+    private Duration reconcileInterval = Duration.ofMinutes(5);
+}
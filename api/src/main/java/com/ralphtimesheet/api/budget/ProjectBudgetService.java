@@ -0,0 +1,12 @@
+package com.ralphtimesheet.api.budget;
+
+import com.ralphtimesheet.api.budget.dto.ProjectBudgetResponse;
+import java.util.Collection;
+import java.util.List;
+
+public interface ProjectBudgetService {
+
+    ProjectBudgetResponse getBudgetStatus(Long projectId);
+
+    List<ProjectBudgetResponse> getBudgetStatuses(Collection<Long> projectIds);
+}
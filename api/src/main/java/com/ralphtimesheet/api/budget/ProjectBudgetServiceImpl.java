@@ -0,0 +1,71 @@
+package com.ralphtimesheet.api.budget;
+
+import com.ralphtimesheet.api.budget.dto.ProjectBudgetResponse;
+import com.ralphtimesheet.api.project.Project;
+import com.ralphtimesheet.api.project.ProjectNotFoundException;
+import com.ralphtimesheet.api.project.ProjectRepository;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProjectBudgetServiceImpl implements ProjectBudgetService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final ProjectRepository projectRepository;
+    private final ProjectBudgetTracker budgetTracker;
+    private final ProjectBudgetProperties properties;
+
+    @Override
+    public ProjectBudgetResponse getBudgetStatus(Long projectId) {
+        return toResponse(projectRepository.findById(projectId)
+            .orElseThrow(() -> new ProjectNotFoundException(projectId)));
+    }
+
+    @Override
+    public List<ProjectBudgetResponse> getBudgetStatuses(Collection<Long> projectIds) {
+        return projectRepository.findAllById(Set.copyOf(projectIds))
+            .stream()
+            .map(this::toResponse)
+            .toList();
+    }
+
+    private ProjectBudgetResponse toResponse(Project project) {
+        BigDecimal burned = budgetTracker.burnedHours(project.getId());
+        BigDecimal budget = project.getBudgetHours();
+
+        ProjectBudgetResponse.ProjectBudgetResponseBuilder response = ProjectBudgetResponse.builder()
+            .projectId(project.getId())
+            .projectName(project.getName())
+            .budgetHours(budget)
+            .enforcement(project.getBudgetEnforcement())
+            .burnedHours(burned)
+            .reconciledAt(budgetTracker.getReconciledAt());
+        if (budget == null) {
+            return response.status(BudgetStatus.UNBUDGETED).build();
+        }
+
+        BigDecimal percentUsed = burned.multiply(HUNDRED).divide(budget, 1, RoundingMode.HALF_UP);
+        return response
+            .remainingHours(budget.subtract(burned).max(BigDecimal.ZERO))
+            .percentUsed(percentUsed)
+            .status(statusOf(percentUsed))
+            .build();
+    }
+
+    private BudgetStatus statusOf(BigDecimal percentUsed) {
+        if (percentUsed.compareTo(HUNDRED) >= 0) {
+            return BudgetStatus.EXCEEDED;
+        }
+        int warning = properties.getThresholds().stream().mapToInt(Integer::intValue).min().orElse(100);
+        return percentUsed.compareTo(BigDecimal.valueOf(warning)) >= 0 ? BudgetStatus.WARNING : BudgetStatus.ON_TRACK;
+    }
+}
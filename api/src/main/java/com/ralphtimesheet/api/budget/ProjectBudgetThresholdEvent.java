@@ -0,0 +1,17 @@
+package com.ralphtimesheet.api.budget;
+
+import com.ralphtimesheet.api.project.BudgetEnforcement;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProjectBudgetThresholdEvent {
+
+    private final Long projectId;
+    private final int threshold;
+    private final BigDecimal burnedHours;
+    private final BigDecimal budgetHours;
+    private final BudgetEnforcement enforcement;
+}
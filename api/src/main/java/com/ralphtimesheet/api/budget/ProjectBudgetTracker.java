@@ -0,0 +1,218 @@
+package com.ralphtimesheet.api.budget;
+
+import com.ralphtimesheet.api.project.BudgetEnforcement;
+import com.ralphtimesheet.api.project.Project;
+import com.ralphtimesheet.api.project.ProjectChangedEvent;
+import com.ralphtimesheet.api.project.ProjectRepository;
+import com.ralphtimesheet.api.project.dto.ProjectResponse;
+import com.ralphtimesheet.api.timeentry.ArchivedTimeEntryRepository;
+import com.ralphtimesheet.api.timeentry.ProjectHoursTotal;
+import com.ralphtimesheet.api.timeentry.TimeEntryBulkChangedEvent;
+import com.ralphtimesheet.api.timeentry.TimeEntryChangedEvent;
+import com.ralphtimesheet.api.timeentry.TimeEntryRepository;
+import com.ralphtimesheet.api.timeentry.TimeEntrySnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+public class ProjectBudgetTracker {
+
+    private static final BigDecimal QUARTERS_PER_HOUR = BigDecimal.valueOf(4);
+    private static final int MAX_RECONCILE_ROUNDS = 3;
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final ArchivedTimeEntryRepository archivedTimeEntryRepository;
+    private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final int[] thresholds;
+    private final Map<Long, Burn> burns = new ConcurrentHashMap<>();
+    private final Object reconcileLock = new Object();
+    private boolean reconciling;
+    private boolean changedDuringReconcile;
+    private volatile Instant reconciledAt;
+
+    public ProjectBudgetTracker(
+        TimeEntryRepository timeEntryRepository,
+        ArchivedTimeEntryRepository archivedTimeEntryRepository,
+        ProjectRepository projectRepository,
+        ProjectBudgetProperties properties,
+        ApplicationEventPublisher eventPublisher,
+        MeterRegistry meterRegistry
+    ) {
+        this.timeEntryRepository = timeEntryRepository;
+        this.archivedTimeEntryRepository = archivedTimeEntryRepository;
+        this.projectRepository = projectRepository;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.thresholds = properties.getThresholds().stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    /**
+     * Totals read while a change commits may or may not include it, so a round that overlapped a change keeps the
+     * event-driven counters and runs again; the scheduled reconcile corrects anything left after the last round.
+     */
+    @Scheduled(
+        fixedDelayString = "${timesheet.projects.budget.reconcile-interval:PT5M}",
+        initialDelayString = "${timesheet.projects.budget.reconcile-interval:PT5M}"
+    )
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            boolean settled = false;
+            for (int round = 0; round < MAX_RECONCILE_ROUNDS && !settled; round++) {
+                synchronized (burns) {
+                    reconciling = true;
+                    changedDuringReconcile = false;
+                }
+                Map<Long, Long> totals = new HashMap<>();
+                timeEntryRepository.sumHoursByProject()
+                    .forEach(total -> totals.merge(total.getProjectId(), toQuarterHours(total.getHours()), Long::sum));
+                archivedTimeEntryRepository.sumHoursByProject()
+                    .forEach(total -> totals.merge(total.getProjectId(), toQuarterHours(total.getHours()), Long::sum));
+                List<Project> projects = projectRepository.findAll();
+
+                long drift = 0;
+                synchronized (burns) {
+                    reconciling = false;
+                    settled = !changedDuringReconcile;
+                    for (Project project : projects) {
+                        Burn burn = burn(project.getId());
+                        burn.setBudget(project.getBudgetHours(), project.getBudgetEnforcement());
+                        if (settled) {
+                            long delta = totals.getOrDefault(project.getId(), 0L) - burn.quarterHours.sum();
+                            burn.quarterHours.add(delta);
+                            drift += Math.abs(delta);
+                        }
+                        burn.level.set(levelOf(burn));
+                    }
+                }
+                if (settled) {
+                    reconciledAt = Instant.now();
+                    log.debug("Reconciled project burn counters for {} projects; corrected {} quarter-hours of drift",
+                        burns.size(), drift);
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        TimeEntrySnapshot before = event.getBefore();
+        TimeEntrySnapshot after = event.getAfter();
+        synchronized (burns) {
+            changedDuringReconcile |= reconciling;
+            if (before != null) {
+                burn(before.getProjectId()).quarterHours.add(-toQuarterHours(before.getHours()));
+            }
+            if (after != null) {
+                burn(after.getProjectId()).quarterHours.add(toQuarterHours(after.getHours()));
+            }
+        }
+        if (after != null) {
+            checkThresholds(after.getProjectId());
+        }
+        if (before != null && (after == null || !before.getProjectId().equals(after.getProjectId()))) {
+            checkThresholds(before.getProjectId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTimeEntriesBulkChanged(TimeEntryBulkChangedEvent event) {
+        synchronized (burns) {
+            if (reconciling) {
+                changedDuringReconcile = true;
+                return;
+            }
+        }
+        reconcile();
+    }
+
+    @TransactionalEventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        ProjectResponse after = event.getAfter();
+        burn(event.getProjectId()).setBudget(after.getBudgetHours(), after.getBudgetEnforcement());
+        checkThresholds(event.getProjectId());
+    }
+
+    public BigDecimal burnedHours(Long projectId) {
+        Burn burn = burns.get(projectId);
+        return toHours(burn == null ? 0 : burn.quarterHours.sum());
+    }
+
+    public Instant getReconciledAt() {
+        return reconciledAt;
+    }
+
+    private void checkThresholds(Long projectId) {
+        Burn burn = burn(projectId);
+        int level = levelOf(burn);
+        int previous = burn.level.getAndSet(level);
+        for (int crossed = previous; crossed < level; crossed++) {
+            ProjectBudgetThresholdEvent alert = new ProjectBudgetThresholdEvent(projectId, thresholds[crossed],
+                toHours(burn.quarterHours.sum()), toHours(burn.budgetQuarterHours), burn.enforcement);
+            log.warn("Project {} crossed {}% of its {} hour budget ({} hours burned)", projectId, alert.getThreshold(),
+                alert.getBudgetHours(), alert.getBurnedHours());
+            meterRegistry.counter("timesheet.projects.budget.alerts", "threshold", String.valueOf(alert.getThreshold()))
+                .increment();
+            eventPublisher.publishEvent(alert);
+        }
+    }
+
+    private int levelOf(Burn burn) {
+        long budget = burn.budgetQuarterHours;
+        if (budget <= 0) {
+            return 0;
+        }
+        long burned = burn.quarterHours.sum();
+        int level = 0;
+        while (level < thresholds.length && burned * 100 >= (long) thresholds[level] * budget) {
+            level++;
+        }
+        return level;
+    }
+
+    private Burn burn(Long projectId) {
+        return burns.computeIfAbsent(projectId, id -> new Burn());
+    }
+
+    private static long toQuarterHours(BigDecimal hours) {
+        return hours.multiply(QUARTERS_PER_HOUR).longValue();
+    }
+
+    private static BigDecimal toHours(long quarterHours) {
+        return BigDecimal.valueOf(quarterHours).divide(QUARTERS_PER_HOUR).setScale(2);
+    }
+
+    private static final class Burn {
+
+        private final LongAdder quarterHours = new LongAdder();
+        private final AtomicInteger level = new AtomicInteger();
+        private volatile long budgetQuarterHours;
+        private volatile BudgetEnforcement enforcement;
+
+        private void setBudget(BigDecimal budgetHours, BudgetEnforcement enforcement) {
+            this.budgetQuarterHours = budgetHours == null ? 0 : toQuarterHours(budgetHours);
+            this.enforcement = enforcement;
+        }
+    }
+}
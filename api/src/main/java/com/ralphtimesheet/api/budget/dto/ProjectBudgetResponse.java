@@ -0,0 +1,29 @@
+package com.ralphtimesheet.api.budget.dto;
+
+import com.ralphtimesheet.api.budget.BudgetStatus;
+import com.ralphtimesheet.api.project.BudgetEnforcement;
+import java.math.BigDecimal;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectBudgetResponse {
+
+    private Long projectId;
+    private String projectName;
+    private BigDecimal budgetHours;
+    private BudgetEnforcement enforcement;
+    private BigDecimal burnedHours;
+    private BigDecimal remainingHours;
+    private BigDecimal percentUsed;
+    private BudgetStatus status;
+    private Instant reconciledAt;
+}
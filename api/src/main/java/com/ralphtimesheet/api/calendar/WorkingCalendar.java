@@ -0,0 +1,109 @@
+package com.ralphtimesheet.api.calendar;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WorkingCalendar {
+
+    private final Set<DayOfWeek> workingDays;
+    private final BigDecimal hoursPerDay;
+    private final Map<Integer, Set<LocalDate>> holidaysByYear;
+    private final Map<Integer, YearBits> years = new ConcurrentHashMap<>();
+
+    public WorkingCalendar(WorkingCalendarProperties properties) {
+        this.workingDays = Set.copyOf(properties.getWorkingDays());
+        this.hoursPerDay = properties.getHoursPerDay();
+        this.holidaysByYear = properties.getHolidays()
+            .stream()
+            .collect(Collectors.groupingBy(LocalDate::getYear, Collectors.toUnmodifiableSet()));
+        holidaysByYear.keySet().forEach(this::year);
+        year(LocalDate.now().getYear());
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        return year(date.getYear()).isSet(date.getDayOfYear() - 1);
+    }
+
+    public boolean isHoliday(LocalDate date) {
+        return holidaysByYear.getOrDefault(date.getYear(), Set.of()).contains(date);
+    }
+
+    public int workingDays(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            return 0;
+        }
+        if (startDate.getYear() == endDate.getYear()) {
+            return year(startDate.getYear()).count(startDate.getDayOfYear() - 1, endDate.getDayOfYear() - 1);
+        }
+
+        YearBits first = year(startDate.getYear());
+        int count = first.count(startDate.getDayOfYear() - 1, first.length - 1);
+        for (int year = startDate.getYear() + 1; year < endDate.getYear(); year++) {
+            count += year(year).total();
+        }
+        return count + year(endDate.getYear()).count(0, endDate.getDayOfYear() - 1);
+    }
+
+    public BigDecimal expectedHours(LocalDate startDate, LocalDate endDate) {
+        return hoursPerDay.multiply(BigDecimal.valueOf(workingDays(startDate, endDate)));
+    }
+
+    private YearBits year(int year) {
+        return years.computeIfAbsent(year, this::build);
+    }
+
+    private YearBits build(int year) {
+        int length = Year.of(year).length();
+        long[] words = new long[(length + Long.SIZE - 1) / Long.SIZE];
+        Set<LocalDate> holidays = holidaysByYear.getOrDefault(year, Set.of());
+        LocalDate date = LocalDate.ofYearDay(year, 1);
+        for (int day = 0; day < length; day++, date = date.plusDays(1)) {
+            if (workingDays.contains(date.getDayOfWeek()) && !holidays.contains(date)) {
+                words[day >>> 6] |= 1L << day;
+            }
+        }
+        return new YearBits(words, length);
+    }
+
+    private static final class YearBits {
+
+        private final long[] words;
+        private final int[] countBefore;
+        private final int length;
+
+        private YearBits(long[] words, int length) {
+            this.words = words;
+            this.length = length;
+            this.countBefore = new int[words.length + 1];
+            for (int word = 0; word < words.length; word++) {
+                countBefore[word + 1] = countBefore[word] + Long.bitCount(words[word]);
+            }
+        }
+
+        private boolean isSet(int day) {
+            return (words[day >>> 6] & (1L << day)) != 0;
+        }
+
+        private int total() {
+            return countBefore[words.length];
+        }
+
+        private int count(int fromDay, int toDay) {
+            return rank(toDay) - (fromDay == 0 ? 0 : rank(fromDay - 1));
+        }
+
+        private int rank(int day) {
+            int word = day >>> 6;
+            long mask = -1L >>> (Long.SIZE - 1 - (day & 63));
+            return countBefore[word] + Long.bitCount(words[word] & mask);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ralphtimesheet.api.calendar;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.format.annotation.DateTimeFormat;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "timesheet.calendar")
+public class WorkingCalendarProperties {
+
+    private Set<DayOfWeek> workingDays = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+
+    private BigDecimal hoursPerDay = new BigDecimal("8.00");
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private List<LocalDate> holidays = new ArrayList<>();
+}
@@ -0,0 +1,70 @@
+package com.ralphtimesheet.api.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RequestCoalescer {
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executions;
+    private final Counter coalesced;
+
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        this.executions = meterRegistry.counter("timesheet.coalescing.requests", "outcome", "executed");
+        this.coalesced = meterRegistry.counter("timesheet.coalescing.requests", "outcome", "coalesced");
+        meterRegistry.gaugeMapSize("timesheet.coalescing.in-flight", Tags.empty(), inFlight);
+        Gauge.builder("timesheet.coalescing.ratio", this, RequestCoalescer::getCoalescingRatio)
+            .description("Share of read requests served by joining an identical in-flight query")
+            .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return (T) join(existing);
+        }
+
+        executions.increment();
+        try {
+            T result = loader.get();
+            call.complete(result);
+            return result;
+        } catch (Throwable ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    public double getCoalescingRatio() {
+        double total = executions.count() + coalesced.count();
+        return total == 0 ? 0 : coalesced.count() / total;
+    }
+
+    private Object join(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+}
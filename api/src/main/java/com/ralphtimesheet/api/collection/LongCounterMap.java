@@ -0,0 +1,115 @@
+package com.ralphtimesheet.api.collection;
+
+import java.util.Arrays;
+
+public class LongCounterMap {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+
+    public LongCounterMap() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    public void add(long key, long delta) {
+        int slot = slotOf(keys, key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] += delta;
+        if (size * 4 > keys.length * 3) {
+            grow();
+        }
+    }
+
+    public long get(long key) {
+        int slot = slotOf(keys, key);
+        return keys[slot] == EMPTY ? 0 : values[slot];
+    }
+
+    public long remove(long key) {
+        int mask = keys.length - 1;
+        int gap = slotOf(keys, key);
+        if (keys[gap] == EMPTY) {
+            return 0;
+        }
+        long removed = values[gap];
+        for (int next = (gap + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = homeSlot(keys[next], mask);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        keys[gap] = EMPTY;
+        values[gap] = 0;
+        size--;
+        return removed;
+    }
+
+    public void forEach(Visitor visitor) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                visitor.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, 0);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slotOf(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    private static int slotOf(long[] keys, long key) {
+        int mask = keys.length - 1;
+        int slot = homeSlot(key, mask);
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int homeSlot(long key, int mask) {
+        return Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+
+        void accept(long key, long value);
+    }
+}
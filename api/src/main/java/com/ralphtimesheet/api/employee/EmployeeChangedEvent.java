@@ -0,0 +1,14 @@
+package com.ralphtimesheet.api.employee;
+
+import com.ralphtimesheet.api.employee.dto.EmployeeResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EmployeeChangedEvent {
+
+    private final Long employeeId;
+    private final EmployeeResponse before;
+    private final EmployeeResponse after;
+}
@@ -2,6 +2,7 @@ package com.ralphtimesheet.api.employee;
 
 import com.ralphtimesheet.api.employee.dto.EmployeeRequest;
 import com.ralphtimesheet.api.employee.dto.EmployeeResponse;
+import java.util.Collection;
 import java.util.List;
 
 public interface EmployeeService {
@@ -10,6 +11,8 @@ public interface EmployeeService {
 
     EmployeeResponse getEmployee(Long id);
 
+    List<EmployeeResponse> getEmployeesByIds(Collection<Long> ids);
+
     EmployeeResponse createEmployee(EmployeeRequest request);
 
     EmployeeResponse updateEmployee(Long id, EmployeeRequest request);
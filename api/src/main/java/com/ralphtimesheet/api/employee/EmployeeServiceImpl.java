@@ -2,17 +2,24 @@ package com.ralphtimesheet.api.employee;
 
 import com.ralphtimesheet.api.employee.dto.EmployeeRequest;
 import com.ralphtimesheet.api.employee.dto.EmployeeResponse;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
+@Transactional
 public class EmployeeServiceImpl implements EmployeeService {
 
     private final EmployeeRepository employeeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional(readOnly = true)
     public List<EmployeeResponse> getEmployees() {
         return employeeRepository.findAll()
             .stream()
@@ -21,6 +28,16 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeResponse> getEmployeesByIds(Collection<Long> ids) {
+        return employeeRepository.findAllById(Set.copyOf(ids))
+            .stream()
+            .map(EmployeeMapper::toResponse)
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public EmployeeResponse getEmployee(Long id) {
         Employee employee = findEmployee(id);
         return EmployeeMapper.toResponse(employee);
@@ -30,15 +47,20 @@ public class EmployeeServiceImpl implements EmployeeService {
     public EmployeeResponse createEmployee(EmployeeRequest request) {
         Employee employee = EmployeeMapper.toEntity(request);
         Employee saved = employeeRepository.save(employee);
-        return EmployeeMapper.toResponse(saved);
+        EmployeeResponse response = EmployeeMapper.toResponse(saved);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(saved.getId(), null, response));
+        return response;
     }
 
     @Override
     public EmployeeResponse updateEmployee(Long id, EmployeeRequest request) {
         Employee employee = findEmployee(id);
+        EmployeeResponse before = EmployeeMapper.toResponse(employee);
         EmployeeMapper.updateEntity(request, employee);
         Employee saved = employeeRepository.save(employee);
-        return EmployeeMapper.toResponse(saved);
+        EmployeeResponse response = EmployeeMapper.toResponse(saved);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(saved.getId(), before, response));
+        return response;
     }
 
     private Employee findEmployee(Long id) {
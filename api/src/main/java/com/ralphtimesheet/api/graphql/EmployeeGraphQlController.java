@@ -0,0 +1,76 @@
+package com.ralphtimesheet.api.graphql;
+
+import com.ralphtimesheet.api.employee.EmployeeService;
+import com.ralphtimesheet.api.employee.dto.EmployeeResponse;
+import com.ralphtimesheet.api.timeentry.TimeEntryService;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryResponse;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.dataloader.DataLoader;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+@Controller
+public class EmployeeGraphQlController {
+
+    private final EmployeeService employeeService;
+    private final TimeEntryService timeEntryService;
+
+    public EmployeeGraphQlController(
+        EmployeeService employeeService,
+        TimeEntryService timeEntryService,
+        BatchLoaderRegistry batchLoaderRegistry
+    ) {
+        this.employeeService = employeeService;
+        this.timeEntryService = timeEntryService;
+        batchLoaderRegistry.<EmployeeTimeEntriesKey, List<TimeEntryResponse>>forName("employeeTimeEntries")
+            .registerMappedBatchLoader((keys, environment) -> Mono.fromSupplier(() -> loadTimeEntries(keys)));
+    }
+
+    @QueryMapping
+    public List<EmployeeResponse> employees() {
+        return employeeService.getEmployees();
+    }
+
+    @QueryMapping
+    public EmployeeResponse employee(@Argument Long id) {
+        return employeeService.getEmployee(id);
+    }
+
+    @SchemaMapping(typeName = "Employee")
+    public CompletableFuture<List<TimeEntryResponse>> timeEntries(
+        EmployeeResponse employee,
+        @Argument LocalDate startDate,
+        @Argument LocalDate endDate,
+        DataLoader<EmployeeTimeEntriesKey, List<TimeEntryResponse>> employeeTimeEntries
+    ) {
+        return employeeTimeEntries.load(new EmployeeTimeEntriesKey(employee.getId(), startDate, endDate));
+    }
+
+    private Map<EmployeeTimeEntriesKey, List<TimeEntryResponse>> loadTimeEntries(Set<EmployeeTimeEntriesKey> keys) {
+        Map<EmployeeTimeEntriesKey, List<TimeEntryResponse>> loaded = new HashMap<>();
+        keys.stream()
+            .collect(Collectors.groupingBy(EmployeeTimeEntriesKey::window))
+            .forEach((window, windowKeys) -> {
+                Map<Long, List<TimeEntryResponse>> byEmployee = timeEntryService
+                    .getTimeEntriesForEmployees(
+                        windowKeys.stream().map(EmployeeTimeEntriesKey::employeeId).toList(),
+                        window.startDate(),
+                        window.endDate()
+                    )
+                    .stream()
+                    .collect(Collectors.groupingBy(TimeEntryResponse::getEmployeeId));
+                windowKeys.forEach(key -> loaded.put(key, byEmployee.getOrDefault(key.employeeId(), List.of())));
+            });
+        return loaded;
+    }
+}
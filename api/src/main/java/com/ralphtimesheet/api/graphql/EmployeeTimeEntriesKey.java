@@ -0,0 +1,13 @@
+package com.ralphtimesheet.api.graphql;
+
+import java.time.LocalDate;
+
+record EmployeeTimeEntriesKey(Long employeeId, LocalDate startDate, LocalDate endDate) {
+
+    Window window() {
+        return new Window(startDate, endDate);
+    }
+
+    record Window(LocalDate startDate, LocalDate endDate) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.ralphtimesheet.api.graphql;
+
+import graphql.GraphQLContext;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.CoercedVariables;
+import graphql.language.StringValue;
+import graphql.language.Value;
+import graphql.schema.Coercing;
+import graphql.schema.CoercingParseLiteralException;
+import graphql.schema.CoercingParseValueException;
+import graphql.schema.CoercingSerializeException;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLTypeUtil;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.RuntimeWiringConfigurer;
+
+@Configuration
+public class GraphQlConfig {
+
+    static final GraphQLScalarType DATE = GraphQLScalarType.newScalar()
+        .name("Date")
+        .description("An ISO-8601 calendar date, such as 2024-06-03.")
+        .coercing(new DateCoercing())
+        .build();
+
+    @Bean
+    public RuntimeWiringConfigurer dateScalarConfigurer() {
+        return wiring -> wiring.scalar(DATE);
+    }
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(GraphQlLimitProperties properties) {
+        return new MaxQueryDepthInstrumentation(properties.getMaxDepth());
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(GraphQlLimitProperties properties) {
+        int listWeight = properties.getListWeight();
+        return new MaxQueryComplexityInstrumentation(properties.getMaxComplexity(), (environment, childComplexity) ->
+            GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(environment.getFieldDefinition().getType()))
+                ? 1 + childComplexity * listWeight
+                : 1 + childComplexity);
+    }
+
+    private static final class DateCoercing implements Coercing<LocalDate, String> {
+
+        @Override
+        public String serialize(Object value, GraphQLContext context, Locale locale) {
+            if (value instanceof LocalDate date) {
+                return date.toString();
+            }
+            throw new CoercingSerializeException("Expected a LocalDate but got " + value.getClass().getSimpleName() + ".");
+        }
+
+        @Override
+        public LocalDate parseValue(Object input, GraphQLContext context, Locale locale) {
+            try {
+                return LocalDate.parse(input.toString());
+            } catch (DateTimeParseException ex) {
+                throw new CoercingParseValueException("Invalid date '" + input + "'; expected yyyy-MM-dd.", ex);
+            }
+        }
+
+        @Override
+        public LocalDate parseLiteral(Value<?> input, CoercedVariables variables, GraphQLContext context, Locale locale) {
+            if (!(input instanceof StringValue string)) {
+                throw new CoercingParseLiteralException("Expected a date string in yyyy-MM-dd format.");
+            }
+            try {
+                return LocalDate.parse(string.getValue());
+            } catch (DateTimeParseException ex) {
+                throw new CoercingParseLiteralException("Invalid date '" + string.getValue() + "'; expected yyyy-MM-dd.", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.ralphtimesheet.api.graphql;
+
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@Component
+public class GraphQlExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+    @Override
+    protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment environment) {
+        ResponseStatus status = AnnotatedElementUtils.findMergedAnnotation(ex.getClass(), ResponseStatus.class);
+        if (status == null || !status.code().is4xxClientError()) {
+            return null;
+        }
+        return GraphqlErrorBuilder.newError(environment)
+            .errorType(switch (status.code()) {
+                case NOT_FOUND -> ErrorType.NOT_FOUND;
+                case FORBIDDEN -> ErrorType.FORBIDDEN;
+                case UNAUTHORIZED -> ErrorType.UNAUTHORIZED;
+                default -> ErrorType.BAD_REQUEST;
+            })
+            .message(ex.getMessage())
+            .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.ralphtimesheet.api.graphql;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "timesheet.graphql")
+public class GraphQlLimitProperties {
+
+    private int maxDepth = 8;
+
+    private int maxComplexity = 500;
+
+    private int listWeight = 5;
+}
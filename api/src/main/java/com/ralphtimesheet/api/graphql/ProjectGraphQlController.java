@@ -0,0 +1,45 @@
+package com.ralphtimesheet.api.graphql;
+
+import com.ralphtimesheet.api.budget.ProjectBudgetService;
+import com.ralphtimesheet.api.budget.dto.ProjectBudgetResponse;
+import com.ralphtimesheet.api.project.ProjectService;
+import com.ralphtimesheet.api.project.dto.ProjectResponse;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+@Controller
+@RequiredArgsConstructor
+public class ProjectGraphQlController {
+
+    private final ProjectService projectService;
+    private final ProjectBudgetService projectBudgetService;
+
+    @QueryMapping
+    public List<ProjectResponse> projects(@Argument Boolean active) {
+        return projectService.getProjects(active);
+    }
+
+    @QueryMapping
+    public ProjectResponse project(@Argument Long id) {
+        return projectService.getProject(id);
+    }
+
+    @BatchMapping(typeName = "Project")
+    public Map<ProjectResponse, ProjectBudgetResponse> budget(List<ProjectResponse> projects) {
+        Map<Long, ProjectBudgetResponse> budgets = projectBudgetService
+            .getBudgetStatuses(projects.stream().map(ProjectResponse::getId).toList())
+            .stream()
+            .collect(Collectors.toMap(ProjectBudgetResponse::getProjectId, Function.identity()));
+        Map<ProjectResponse, ProjectBudgetResponse> resolved = new LinkedHashMap<>();
+        projects.forEach(project -> resolved.put(project, budgets.get(project.getId())));
+        return resolved;
+    }
+}
@@ -0,0 +1,65 @@
+package com.ralphtimesheet.api.graphql;
+
+import com.ralphtimesheet.api.employee.EmployeeService;
+import com.ralphtimesheet.api.employee.dto.EmployeeResponse;
+import com.ralphtimesheet.api.project.ProjectService;
+import com.ralphtimesheet.api.project.dto.ProjectResponse;
+import com.ralphtimesheet.api.timeentry.TimeEntryService;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryResponse;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+@Controller
+@RequiredArgsConstructor
+public class TimeEntryGraphQlController {
+
+    private final TimeEntryService timeEntryService;
+    private final EmployeeService employeeService;
+    private final ProjectService projectService;
+
+    @QueryMapping
+    public List<TimeEntryResponse> timeEntries(
+        @Argument Long employeeId,
+        @Argument Long projectId,
+        @Argument LocalDate startDate,
+        @Argument LocalDate endDate
+    ) {
+        return timeEntryService.getTimeEntries(employeeId, projectId, startDate, endDate);
+    }
+
+    @QueryMapping
+    public TimeEntryResponse timeEntry(@Argument Long id) {
+        return timeEntryService.getTimeEntry(id);
+    }
+
+    @BatchMapping(typeName = "TimeEntry")
+    public Map<TimeEntryResponse, EmployeeResponse> employee(List<TimeEntryResponse> timeEntries) {
+        Map<Long, EmployeeResponse> employees = employeeService
+            .getEmployeesByIds(timeEntries.stream().map(TimeEntryResponse::getEmployeeId).toList())
+            .stream()
+            .collect(Collectors.toMap(EmployeeResponse::getId, Function.identity()));
+        Map<TimeEntryResponse, EmployeeResponse> resolved = new LinkedHashMap<>();
+        timeEntries.forEach(timeEntry -> resolved.put(timeEntry, employees.get(timeEntry.getEmployeeId())));
+        return resolved;
+    }
+
+    @BatchMapping(typeName = "TimeEntry")
+    public Map<TimeEntryResponse, ProjectResponse> project(List<TimeEntryResponse> timeEntries) {
+        Map<Long, ProjectResponse> projects = projectService
+            .getProjectsByIds(timeEntries.stream().map(TimeEntryResponse::getProjectId).toList())
+            .stream()
+            .collect(Collectors.toMap(ProjectResponse::getId, Function.identity()));
+        Map<TimeEntryResponse, ProjectResponse> resolved = new LinkedHashMap<>();
+        timeEntries.forEach(timeEntry -> resolved.put(timeEntry, projects.get(timeEntry.getProjectId())));
+        return resolved;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ralphtimesheet.api.idempotency;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "timesheet.idempotency")
+public class IdempotencyProperties {
+
+    private Duration ttl = Duration.ofHours(24);
+
+    private int maxEntries = 10_000;
+
+    private Duration waitTimeout = Duration.ofSeconds(30);
+}
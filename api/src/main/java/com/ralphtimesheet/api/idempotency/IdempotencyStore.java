@@ -0,0 +1,182 @@
+package com.ralphtimesheet.api.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final LongSupplier clock;
+    // Insertion order is expiry order because every entry gets the same TTL.
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    private final Counter executions;
+    private final Counter replays;
+    private final Counter rejections;
+    private final Counter evictions;
+
+    @Autowired
+    public IdempotencyStore(IdempotencyProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this(properties, objectMapper, meterRegistry, System::currentTimeMillis);
+    }
+
+    IdempotencyStore(
+        IdempotencyProperties properties,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        LongSupplier clock
+    ) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.executions = meterRegistry.counter("timesheet.idempotency.requests", "outcome", "executed");
+        this.replays = meterRegistry.counter("timesheet.idempotency.requests", "outcome", "replayed");
+        this.rejections = meterRegistry.counter("timesheet.idempotency.requests", "outcome", "rejected");
+        this.evictions = meterRegistry.counter("timesheet.idempotency.evictions");
+        meterRegistry.gauge("timesheet.idempotency.entries", this, IdempotencyStore::size);
+    }
+
+    public <T> ResponseEntity<T> execute(String scope, String key, Object request, Supplier<ResponseEntity<T>> action) {
+        String storeKey = scope + '|' + key;
+        String fingerprint = fingerprint(request);
+        long now = clock.getAsLong();
+        Entry candidate = new Entry(fingerprint, now + properties.getTtl().toMillis());
+        Entry existing = reserve(storeKey, candidate, now);
+        if (existing == null) {
+            rejections.increment();
+            throw new IdempotencyStoreFullException(key);
+        }
+        if (existing != candidate) {
+            return replay(key, existing, fingerprint);
+        }
+
+        try {
+            ResponseEntity<T> response = action.get();
+            existing.response.complete(response);
+            executions.increment();
+            return response;
+        } catch (RuntimeException ex) {
+            synchronized (entries) {
+                entries.remove(storeKey, existing);
+            }
+            existing.response.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> replay(String key, Entry entry, String fingerprint) {
+        if (!entry.fingerprint.equals(fingerprint)) {
+            throw new IdempotencyKeyConflictException(key);
+        }
+
+        ResponseEntity<?> original;
+        try {
+            original = entry.response.get(properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            throw new IdempotentRequestInProgressException(key);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotentRequestInProgressException(key);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+
+        replays.increment();
+        return (ResponseEntity<T>) ResponseEntity.status(original.getStatusCode())
+            .headers(original.getHeaders())
+            .header(REPLAYED_HEADER, "true")
+            .body(original.getBody());
+    }
+
+    /**
+     * Returns the live entry already stored under the key, the candidate once it has been stored, or null when
+     * every stored entry is still in progress. A full store evicts its oldest completed entry to make room.
+     */
+    private Entry reserve(String storeKey, Entry candidate, long now) {
+        synchronized (entries) {
+            Entry current = entries.get(storeKey);
+            if (current != null && !current.isExpired(now)) {
+                return current;
+            }
+            entries.remove(storeKey);
+            Iterator<Entry> oldest = entries.values().iterator();
+            while (oldest.hasNext() && oldest.next().isExpired(now)) {
+                oldest.remove();
+            }
+            if (entries.size() >= properties.getMaxEntries() && !evictOldestCompleted()) {
+                return null;
+            }
+            entries.put(storeKey, candidate);
+            return candidate;
+        }
+    }
+
+    private boolean evictOldestCompleted() {
+        Iterator<Entry> oldest = entries.values().iterator();
+        while (oldest.hasNext()) {
+            if (oldest.next().response.isDone()) {
+                oldest.remove();
+                evictions.increment();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] payload = objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(payload));
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Unable to fingerprint idempotent request.", ex);
+        }
+    }
+
+    private static final class Entry {
+
+        private final String fingerprint;
+        private final long expiresAt;
+        private final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+
+        private Entry(String fingerprint, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
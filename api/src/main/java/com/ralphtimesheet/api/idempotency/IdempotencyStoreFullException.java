@@ -0,0 +1,12 @@
+package com.ralphtimesheet.api.idempotency;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class IdempotencyStoreFullException extends RuntimeException {
+
+    public IdempotencyStoreFullException(String key) {
+        super("Too many idempotency keys are retained; retry later: " + key);
+    }
+}
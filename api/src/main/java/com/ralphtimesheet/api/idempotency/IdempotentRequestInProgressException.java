@@ -0,0 +1,12 @@
+package com.ralphtimesheet.api.idempotency;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class IdempotentRequestInProgressException extends RuntimeException {
+
+    public IdempotentRequestInProgressException(String key) {
+        super("A request with this idempotency key is still in progress: " + key);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ralphtimesheet.api.ingest;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "timesheet.ingest")
+public class IngestProperties {
+
+    private boolean enabled = true;
+
+    private int capacity = 10000;
+
+    private int batchSize = 200;
+
+    private Duration flushInterval = Duration.ofMillis(5);
+
+    private Duration offerTimeout = Duration.ofMillis(50);
+
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
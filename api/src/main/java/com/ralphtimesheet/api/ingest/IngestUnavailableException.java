@@ -0,0 +1,12 @@
+package com.ralphtimesheet.api.ingest;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class IngestUnavailableException extends RuntimeException {
+
+    public IngestUnavailableException(String message) {
+        super(message);
+    }
+}
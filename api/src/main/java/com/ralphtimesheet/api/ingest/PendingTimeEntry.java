@@ -0,0 +1,16 @@
+package com.ralphtimesheet.api.ingest;
+
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryRequest;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryResponse;
+import java.util.concurrent.CompletableFuture;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PendingTimeEntry {
+
+    private final TimeEntryRequest request;
+    private final CompletableFuture<TimeEntryResponse> acknowledgement;
+    private final long enqueuedAt;
+}
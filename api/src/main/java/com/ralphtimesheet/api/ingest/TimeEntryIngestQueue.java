@@ -0,0 +1,96 @@
+package com.ralphtimesheet.api.ingest;
+
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryRequest;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryResponse;
+import com.ralphtimesheet.api.timeentry.rule.TimeEntryCandidate;
+import com.ralphtimesheet.api.timeentry.rule.TimeEntryRuleEngine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TimeEntryIngestQueue {
+
+    private final BlockingQueue<PendingTimeEntry> queue;
+    private final TimeEntryRuleEngine ruleEngine;
+    private final IngestProperties properties;
+    private final Counter accepted;
+    private final Counter rejected;
+    private volatile boolean open;
+
+    public TimeEntryIngestQueue(IngestProperties properties, TimeEntryRuleEngine ruleEngine, MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(properties.getCapacity());
+        this.ruleEngine = ruleEngine;
+        this.properties = properties;
+        this.accepted = meterRegistry.counter("timesheet.ingest.entries", "outcome", "accepted");
+        this.rejected = meterRegistry.counter("timesheet.ingest.entries", "outcome", "rejected");
+        Gauge.builder("timesheet.ingest.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+        Gauge.builder("timesheet.ingest.queue.capacity", properties, IngestProperties::getCapacity).register(meterRegistry);
+    }
+
+    public CompletableFuture<TimeEntryResponse> submit(TimeEntryRequest request) {
+        if (!open) {
+            throw new IngestUnavailableException("Time entry ingest is not accepting entries.");
+        }
+        ruleEngine.reject(ruleEngine.evaluate(TimeEntryCandidate.builder()
+            .date(request.getDate())
+            .hours(request.getHours())
+            .build()));
+
+        PendingTimeEntry pending = new PendingTimeEntry(request, new CompletableFuture<>(), System.nanoTime());
+        boolean offered;
+        try {
+            offered = queue.offer(pending, properties.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            offered = false;
+        }
+        if (!offered) {
+            rejected.increment();
+            throw new IngestUnavailableException("Time entry ingest queue is full.");
+        }
+        accepted.increment();
+        return pending.getAcknowledgement();
+    }
+
+    public int drainTo(List<PendingTimeEntry> batch, int maxEntries, Duration linger) throws InterruptedException {
+        PendingTimeEntry first = queue.poll(linger.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return 0;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + linger.toNanos();
+        while (batch.size() < maxEntries) {
+            queue.drainTo(batch, maxEntries - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxEntries || remaining <= 0) {
+                break;
+            }
+            PendingTimeEntry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch.size();
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    void open() {
+        open = true;
+    }
+
+    void close() {
+        open = false;
+    }
+}
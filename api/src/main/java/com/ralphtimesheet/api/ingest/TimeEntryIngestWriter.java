@@ -0,0 +1,145 @@
+package com.ralphtimesheet.api.ingest;
+
+import com.ralphtimesheet.api.timeentry.TimeEntryService;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryRequest;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class TimeEntryIngestWriter implements SmartLifecycle {
+
+    private final TimeEntryIngestQueue queue;
+    private final TimeEntryService timeEntryService;
+    private final IngestProperties properties;
+    private final Counter committed;
+    private final Counter failed;
+    private final Counter fallbacks;
+    private final DistributionSummary batchSizes;
+    private final Timer commitTimer;
+    private final Timer acknowledgementTimer;
+    private volatile boolean running;
+    private Thread worker;
+
+    public TimeEntryIngestWriter(
+        TimeEntryIngestQueue queue,
+        TimeEntryService timeEntryService,
+        IngestProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.queue = queue;
+        this.timeEntryService = timeEntryService;
+        this.properties = properties;
+        this.committed = meterRegistry.counter("timesheet.ingest.entries", "outcome", "committed");
+        this.failed = meterRegistry.counter("timesheet.ingest.entries", "outcome", "failed");
+        this.fallbacks = meterRegistry.counter("timesheet.ingest.batch.fallbacks");
+        this.batchSizes = meterRegistry.summary("timesheet.ingest.batch.size");
+        this.commitTimer = meterRegistry.timer("timesheet.ingest.commit.duration");
+        this.acknowledgementTimer = meterRegistry.timer("timesheet.ingest.acknowledgement.latency");
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().name("time-entry-ingest").daemon().start(this::run);
+        queue.open();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        queue.close();
+        running = false;
+        try {
+            worker.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            worker.interrupt();
+            log.warn("Ingest writer did not drain within {}; {} entries left uncommitted",
+                properties.getShutdownTimeout(), queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    int flush() throws InterruptedException {
+        List<PendingTimeEntry> batch = new ArrayList<>(properties.getBatchSize());
+        queue.drainTo(batch, properties.getBatchSize(), properties.getFlushInterval());
+        if (!batch.isEmpty()) {
+            commit(batch);
+        }
+        return batch.size();
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                flush();
+            }
+            while (queue.size() > 0) {
+                flush();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void commit(List<PendingTimeEntry> batch) {
+        batchSizes.record(batch.size());
+        List<TimeEntryRequest> requests = batch.stream().map(PendingTimeEntry::getRequest).toList();
+        List<TimeEntryResponse> created;
+        try {
+            created = commitTimer.recordCallable(() -> timeEntryService.createTimeEntries(requests));
+        } catch (Exception ex) {
+            if (batch.size() == 1) {
+                fail(batch.get(0), ex);
+                return;
+            }
+            fallbacks.increment();
+            log.debug("Ingest batch of {} entries rejected; committing entries individually", batch.size(), ex);
+            batch.forEach(this::commitIndividually);
+            return;
+        }
+        for (int index = 0; index < batch.size(); index++) {
+            acknowledge(batch.get(index), created.get(index));
+        }
+    }
+
+    private void commitIndividually(PendingTimeEntry pending) {
+        try {
+            acknowledge(pending, timeEntryService.createTimeEntry(pending.getRequest()));
+        } catch (RuntimeException ex) {
+            fail(pending, ex);
+        }
+    }
+
+    private void acknowledge(PendingTimeEntry pending, TimeEntryResponse response) {
+        committed.increment();
+        acknowledgementTimer.record(System.nanoTime() - pending.getEnqueuedAt(), TimeUnit.NANOSECONDS);
+        pending.getAcknowledgement().complete(response);
+    }
+
+    private void fail(PendingTimeEntry pending, Exception ex) {
+        failed.increment();
+        pending.getAcknowledgement().completeExceptionally(ex);
+    }
+}
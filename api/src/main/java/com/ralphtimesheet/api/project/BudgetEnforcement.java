@@ -0,0 +1,6 @@
+package com.ralphtimesheet.api.project;
+
+public enum BudgetEnforcement {
+    SOFT,
+    HARD
+}
@@ -2,10 +2,13 @@ package com.ralphtimesheet.api.project;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -36,4 +39,11 @@ public class Project {
 
     @Column(nullable = false)
     private boolean active;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal budgetHours;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private BudgetEnforcement budgetEnforcement;
 }
@@ -0,0 +1,14 @@
+package com.ralphtimesheet.api.project;
+
+import com.ralphtimesheet.api.project.dto.ProjectResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProjectChangedEvent {
+
+    private final Long projectId;
+    private final ProjectResponse before;
+    private final ProjectResponse after;
+}
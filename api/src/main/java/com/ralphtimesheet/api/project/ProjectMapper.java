@@ -19,6 +19,8 @@ public final class ProjectMapper {
             .code(project.getCode())
             .description(project.getDescription())
             .active(project.isActive())
+            .budgetHours(project.getBudgetHours())
+            .budgetEnforcement(project.getBudgetEnforcement())
             .build();
     }
 
@@ -32,6 +34,8 @@ public final class ProjectMapper {
             .code(request.getCode())
             .description(request.getDescription())
             .active(Boolean.TRUE.equals(request.getActive()))
+            .budgetHours(request.getBudgetHours())
+            .budgetEnforcement(budgetEnforcement(request))
             .build();
     }
 
@@ -44,5 +48,14 @@ public final class ProjectMapper {
         project.setCode(request.getCode());
         project.setDescription(request.getDescription());
         project.setActive(Boolean.TRUE.equals(request.getActive()));
+        project.setBudgetHours(request.getBudgetHours());
+        project.setBudgetEnforcement(budgetEnforcement(request));
+    }
+
+    private static BudgetEnforcement budgetEnforcement(ProjectRequest request) {
+        if (request.getBudgetHours() == null) {
+            return null;
+        }
+        return request.getBudgetEnforcement() != null ? request.getBudgetEnforcement() : BudgetEnforcement.SOFT;
     }
 }
@@ -2,6 +2,7 @@ package com.ralphtimesheet.api.project;
 
 import com.ralphtimesheet.api.project.dto.ProjectRequest;
 import com.ralphtimesheet.api.project.dto.ProjectResponse;
+import java.util.Collection;
 import java.util.List;
 
 public interface ProjectService {
@@ -10,6 +11,8 @@ public interface ProjectService {
 
     ProjectResponse getProject(Long id);
 
+    List<ProjectResponse> getProjectsByIds(Collection<Long> ids);
+
     ProjectResponse createProject(ProjectRequest request);
 
     ProjectResponse updateProject(Long id, ProjectRequest request);
@@ -2,17 +2,24 @@ package com.ralphtimesheet.api.project;
 
 import com.ralphtimesheet.api.project.dto.ProjectRequest;
 import com.ralphtimesheet.api.project.dto.ProjectResponse;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
+@Transactional
 public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProjectResponse> getProjects(Boolean active) {
         List<Project> projects = active == null
             ? projectRepository.findAll()
@@ -24,24 +31,39 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ProjectResponse getProject(Long id) {
         Project project = findProject(id);
         return ProjectMapper.toResponse(project);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectResponse> getProjectsByIds(Collection<Long> ids) {
+        return projectRepository.findAllById(Set.copyOf(ids))
+            .stream()
+            .map(ProjectMapper::toResponse)
+            .toList();
+    }
+
     @Override
     public ProjectResponse createProject(ProjectRequest request) {
         Project project = ProjectMapper.toEntity(request);
         Project saved = projectRepository.save(project);
-        return ProjectMapper.toResponse(saved);
+        ProjectResponse response = ProjectMapper.toResponse(saved);
+        eventPublisher.publishEvent(new ProjectChangedEvent(saved.getId(), null, response));
+        return response;
     }
 
     @Override
     public ProjectResponse updateProject(Long id, ProjectRequest request) {
         Project project = findProject(id);
+        ProjectResponse before = ProjectMapper.toResponse(project);
         ProjectMapper.updateEntity(request, project);
         Project saved = projectRepository.save(project);
-        return ProjectMapper.toResponse(saved);
+        ProjectResponse response = ProjectMapper.toResponse(saved);
+        eventPublisher.publishEvent(new ProjectChangedEvent(saved.getId(), before, response));
+        return response;
     }
 
     private Project findProject(Long id) {
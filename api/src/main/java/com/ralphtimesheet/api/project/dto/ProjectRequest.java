@@ -1,8 +1,12 @@
 package com.ralphtimesheet.api.project.dto;
 
+import com.ralphtimesheet.api.project.BudgetEnforcement;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -29,4 +33,10 @@ public class ProjectRequest {
 
     @NotNull
     private Boolean active;
+
+    @DecimalMin(value = "0.25")
+    @Digits(integer = 8, fraction = 2)
+    private BigDecimal budgetHours;
+
+    private BudgetEnforcement budgetEnforcement;
 }
@@ -1,5 +1,7 @@
 package com.ralphtimesheet.api.project.dto;
 
+import com.ralphtimesheet.api.project.BudgetEnforcement;
+import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,4 +20,6 @@ public class ProjectResponse {
     private String code;
     private String description;
     private boolean active;
+    private BigDecimal budgetHours;
+    private BudgetEnforcement budgetEnforcement;
 }
@@ -0,0 +1,19 @@
+package com.ralphtimesheet.api.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RateLimitDecision {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean allowed;
+    private final long retryAfterNanos;
+
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfterNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+}
@@ -0,0 +1,60 @@
+package com.ralphtimesheet.api.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "timesheet.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PATH_PREFIX = "/api/";
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ClientKeyResolver clientKeyResolver;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(API_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        RateLimitDecision decision = rateLimiter.tryAcquire(clientKeyResolver.resolve(request), classify(request));
+        if (!decision.isAllowed()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(decision.getRetryAfterSeconds()));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Rate limit exceeded.");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    RequestBudget classify(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (String pattern : properties.getExpensivePaths()) {
+            if (pathMatcher.match(pattern, path)) {
+                return RequestBudget.EXPENSIVE;
+            }
+        }
+
+        boolean unfilteredList = HttpMethod.GET.matches(request.getMethod())
+            && properties.getUnfilteredListPaths().contains(path)
+            && request.getParameter("employeeId") == null
+            && request.getParameter("projectId") == null;
+        return unfilteredList ? RequestBudget.EXPENSIVE : RequestBudget.STANDARD;
+    }
+}
@@ -0,0 +1,56 @@
+package com.ralphtimesheet.api.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "timesheet.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private String apiKeyHeader = "X-API-Key";
+
+    private int maxClients = 10_000;
+
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private Budget standard = new Budget(120, 60);
+
+    private Budget expensive = new Budget(10, 1);
+
+    private List<String> unfilteredListPaths = new ArrayList<>(List.of("/api/v1/time-entries"));
+
+    private List<String> expensivePaths = new ArrayList<>(List.of(
+        "/api/v1/reports/**",
+        "/api/v1/time-entries/search",
+        "/api/v1/time-entries/read-model/**",
+        "/api/v1/graphql"
+    ));
+
+    public Budget budget(RequestBudget budget) {
+        return budget == RequestBudget.EXPENSIVE ? expensive : standard;
+    }
+
+    @Getter
+    @Setter
+    public static class Budget {
+
+        private long capacity;
+
+        private double refillPerSecond;
+
+        public Budget() {
+        }
+
+        public Budget(long capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.ralphtimesheet.api.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RateLimiter {
+
+    private static final String OVERFLOW_CLIENT = "*";
+
+    private final RateLimitProperties properties;
+    private final LongSupplier nanoClock;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepAt = new AtomicLong();
+    private final Map<RequestBudget, Counter> allowedCounters = new EnumMap<>(RequestBudget.class);
+    private final Map<RequestBudget, Counter> rejectedCounters = new EnumMap<>(RequestBudget.class);
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        for (RequestBudget budget : RequestBudget.values()) {
+            String budgetTag = budget.name().toLowerCase();
+            allowedCounters.put(budget, meterRegistry.counter(
+                "timesheet.rate-limit.decisions", "budget", budgetTag, "outcome", "allowed"));
+            rejectedCounters.put(budget, meterRegistry.counter(
+                "timesheet.rate-limit.decisions", "budget", budgetTag, "outcome", "rejected"));
+        }
+        meterRegistry.gaugeMapSize("timesheet.rate-limit.buckets", Tags.empty(), buckets);
+    }
+
+    public RateLimitDecision tryAcquire(String clientKey, RequestBudget budget) {
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = bucketFor(budget, clientKey, now);
+        long waitNanos = bucket.tryConsume(now);
+
+        if (waitNanos == 0) {
+            allowedCounters.get(budget).increment();
+            return new RateLimitDecision(true, 0);
+        }
+        rejectedCounters.get(budget).increment();
+        return new RateLimitDecision(false, waitNanos);
+    }
+
+    int getBucketCount() {
+        return buckets.size();
+    }
+
+    private TokenBucket bucketFor(RequestBudget budget, String clientKey, long now) {
+        String key = budget.name() + '|' + clientKey;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+
+        if (buckets.size() >= properties.getMaxClients()) {
+            evictIdleBuckets(now);
+            if (buckets.size() >= properties.getMaxClients()) {
+                key = budget.name() + '|' + OVERFLOW_CLIENT;
+            }
+        }
+        return buckets.computeIfAbsent(key, ignored -> newBucket(budget, now));
+    }
+
+    private TokenBucket newBucket(RequestBudget budget, long now) {
+        RateLimitProperties.Budget limits = properties.budget(budget);
+        return new TokenBucket(limits.getCapacity(), limits.getRefillPerSecond(), now);
+    }
+
+    private void evictIdleBuckets(long now) {
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        long previousSweep = lastSweepAt.get();
+        if (now - previousSweep < idleNanos / 10 || !lastSweepAt.compareAndSet(previousSweep, now)) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> now - bucket.lastUpdatedAt() > idleNanos);
+    }
+}
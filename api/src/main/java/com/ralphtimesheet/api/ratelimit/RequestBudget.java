@@ -0,0 +1,6 @@
+package com.ralphtimesheet.api.ratelimit;
+
+public enum RequestBudget {
+    STANDARD,
+    EXPENSIVE
+}
@@ -0,0 +1,40 @@
+package com.ralphtimesheet.api.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+final class TokenBucket {
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    TokenBucket(long capacity, double refillPerSecond, long now) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.state = new AtomicReference<>(new State(capacity, now));
+    }
+
+    long tryConsume(long now) {
+        while (true) {
+            State current = state.get();
+            long updatedAt = Math.max(now, current.updatedAt());
+            double elapsed = Math.max(0, now - current.updatedAt());
+            double tokens = Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / tokensPerNano);
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, updatedAt))) {
+                return 0;
+            }
+        }
+    }
+
+    long lastUpdatedAt() {
+        return state.get().updatedAt();
+    }
+
+    private record State(double tokens, long updatedAt) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.ralphtimesheet.api.report;
+
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class HoursTotal {
+
+    private static final BigDecimal QUARTERS_PER_HOUR = BigDecimal.valueOf(4);
+
+    private final long id;
+    private final long quarterHours;
+
+    public BigDecimal getHours() {
+        return BigDecimal.valueOf(quarterHours).divide(QUARTERS_PER_HOUR).setScale(2);
+    }
+
+    static long toQuarterHours(BigDecimal hours) {
+        return hours.multiply(QUARTERS_PER_HOUR).longValue();
+    }
+}
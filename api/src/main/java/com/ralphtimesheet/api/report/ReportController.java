@@ -0,0 +1,58 @@
+package com.ralphtimesheet.api.report;
+
+import com.ralphtimesheet.api.report.dto.OvertimeReportResponse;
+import com.ralphtimesheet.api.report.dto.TopHoursResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.YearMonth;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/reports")
+@RequiredArgsConstructor
+@Tag(name = "Reports", description = "Aggregated hours for dashboards")
+public class ReportController {
+
+    private final ReportService reportService;
+
+    @Operation(
+        summary = "Top projects and employees",
+        description = "Rank projects and employees by hours logged over the trailing window ending today, "
+            + "served from in-memory daily counters."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Rankings retrieved successfully."),
+        @ApiResponse(responseCode = "400", description = "Invalid window or limit.")
+    })
+    @GetMapping("/top")
+    public TopHoursResponse getTopHours(
+        @RequestParam(defaultValue = "7d") String window,
+        @RequestParam(defaultValue = "20") int limit
+    ) {
+        return reportService.getTopHours(window, limit);
+    }
+
+    @Operation(
+        summary = "Monthly overtime",
+        description = "Compare hours logged per employee in a month, including archived entries, with the expected hours "
+            + "of the configured working-day calendar. Holidays are excluded from the expected hours."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Overtime report retrieved successfully."),
+        @ApiResponse(responseCode = "400", description = "Invalid month.")
+    })
+    @GetMapping("/overtime")
+    public OvertimeReportResponse getOvertime(
+        @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+        @RequestParam(required = false) Long employeeId
+    ) {
+        return reportService.getOvertime(month, employeeId);
+    }
+}
@@ -0,0 +1,12 @@
+package com.ralphtimesheet.api.report;
+
+import com.ralphtimesheet.api.report.dto.OvertimeReportResponse;
+import com.ralphtimesheet.api.report.dto.TopHoursResponse;
+import java.time.YearMonth;
+
+public interface ReportService {
+
+    TopHoursResponse getTopHours(String window, int limit);
+
+    OvertimeReportResponse getOvertime(YearMonth month, Long employeeId);
+}
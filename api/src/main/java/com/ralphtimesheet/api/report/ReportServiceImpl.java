@@ -0,0 +1,153 @@
+package com.ralphtimesheet.api.report;
+
+import com.ralphtimesheet.api.calendar.WorkingCalendar;
+import com.ralphtimesheet.api.employee.Employee;
+import com.ralphtimesheet.api.employee.EmployeeNotFoundException;
+import com.ralphtimesheet.api.employee.EmployeeRepository;
+import com.ralphtimesheet.api.project.Project;
+import com.ralphtimesheet.api.project.ProjectRepository;
+import com.ralphtimesheet.api.report.dto.EmployeeOvertimeResponse;
+import com.ralphtimesheet.api.report.dto.OvertimeReportResponse;
+import com.ralphtimesheet.api.report.dto.RankedHoursResponse;
+import com.ralphtimesheet.api.report.dto.TopHoursResponse;
+import com.ralphtimesheet.api.timeentry.ArchivedTimeEntryRepository;
+import com.ralphtimesheet.api.timeentry.TimeEntryArchiveProperties;
+import com.ralphtimesheet.api.timeentry.TimeEntryRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReportServiceImpl implements ReportService {
+
+    private static final Pattern WINDOW_PATTERN = Pattern.compile("(\\d{1,4})d");
+
+    private final TopHoursTracker topHoursTracker;
+    private final TopHoursProperties properties;
+    private final EmployeeRepository employeeRepository;
+    private final ProjectRepository projectRepository;
+    private final TimeEntryRepository timeEntryRepository;
+    private final ArchivedTimeEntryRepository archivedTimeEntryRepository;
+    private final TimeEntryArchiveProperties archiveProperties;
+    private final WorkingCalendar workingCalendar;
+
+    @Override
+    public TopHoursResponse getTopHours(String window, int limit) {
+        int days = parseWindow(window);
+        if (limit < 1 || limit > properties.getMaxLimit()) {
+            throw new ReportValidationException("Limit must be between 1 and " + properties.getMaxLimit() + ".");
+        }
+
+        List<HoursTotal> projects = topHoursTracker.topProjects(days, limit);
+        List<HoursTotal> employees = topHoursTracker.topEmployees(days, limit);
+        Map<Long, String> projectNames = projectRepository.findAllById(ids(projects))
+            .stream()
+            .collect(Collectors.toMap(Project::getId, Project::getName));
+        Map<Long, String> employeeNames = employeeRepository.findAllById(ids(employees))
+            .stream()
+            .collect(Collectors.toMap(Employee::getId, employee -> employee.getFirstName() + " " + employee.getLastName()));
+
+        LocalDate today = LocalDate.now();
+        return TopHoursResponse.builder()
+            .window(days + "d")
+            .startDate(today.minusDays(days - 1))
+            .endDate(today)
+            .projects(ranked(projects, projectNames::get))
+            .employees(ranked(employees, employeeNames::get))
+            .build();
+    }
+
+    @Override
+    public OvertimeReportResponse getOvertime(YearMonth month, Long employeeId) {
+        LocalDate startDate = month.atDay(1);
+        LocalDate endDate = month.atEndOfMonth();
+        if (startDate.isAfter(LocalDate.now())) {
+            throw new ReportValidationException("Month cannot be in the future.");
+        }
+
+        Map<Long, BigDecimal> workedHours = new TreeMap<>();
+        timeEntryRepository.sumHoursByEmployeeBetween(employeeId, startDate, endDate)
+            .forEach(total -> workedHours.merge(total.getEmployeeId(), total.getHours(), BigDecimal::add));
+        if (startDate.isBefore(archiveProperties.cutoff(LocalDate.now()))) {
+            archivedTimeEntryRepository.sumHoursByEmployeeBetween(employeeId, startDate, endDate)
+                .forEach(total -> workedHours.merge(total.getEmployeeId(), total.getHours(), BigDecimal::add));
+        }
+        if (employeeId != null) {
+            workedHours.putIfAbsent(employeeId, BigDecimal.ZERO);
+        }
+
+        Map<Long, String> employeeNames = employeeRepository.findAllById(workedHours.keySet())
+            .stream()
+            .collect(Collectors.toMap(Employee::getId, employee -> employee.getFirstName() + " " + employee.getLastName()));
+        if (employeeId != null && !employeeNames.containsKey(employeeId)) {
+            throw new EmployeeNotFoundException(employeeId);
+        }
+        int workingDays = workingCalendar.workingDays(startDate, endDate);
+        BigDecimal expectedHours = workingCalendar.expectedHours(startDate, endDate);
+        List<EmployeeOvertimeResponse> employees = workedHours.entrySet()
+            .stream()
+            .filter(worked -> employeeNames.containsKey(worked.getKey()))
+            .map(worked -> EmployeeOvertimeResponse.builder()
+                .employeeId(worked.getKey())
+                .name(employeeNames.get(worked.getKey()))
+                .workedHours(worked.getValue())
+                .expectedHours(expectedHours)
+                .overtimeHours(worked.getValue().subtract(expectedHours).max(BigDecimal.ZERO))
+                .build())
+            .sorted(Comparator.comparing(EmployeeOvertimeResponse::getOvertimeHours).reversed())
+            .toList();
+
+        return OvertimeReportResponse.builder()
+            .month(month)
+            .startDate(startDate)
+            .endDate(endDate)
+            .workingDays(workingDays)
+            .expectedHours(expectedHours)
+            .employees(employees)
+            .build();
+    }
+
+    private int parseWindow(String window) {
+        Matcher matcher = WINDOW_PATTERN.matcher(window);
+        if (!matcher.matches()) {
+            throw new ReportValidationException("Window must be a number of days such as 7d or 30d.");
+        }
+
+        int days = Integer.parseInt(matcher.group(1));
+        if (days < 1 || days > topHoursTracker.getRetentionDays()) {
+            throw new ReportValidationException(
+                "Window must be between 1d and " + topHoursTracker.getRetentionDays() + "d."
+            );
+        }
+        return days;
+    }
+
+    private List<Long> ids(List<HoursTotal> totals) {
+        return totals.stream().map(HoursTotal::getId).toList();
+    }
+
+    private List<RankedHoursResponse> ranked(List<HoursTotal> totals, Function<Long, String> names) {
+        return IntStream.range(0, totals.size())
+            .mapToObj(index -> RankedHoursResponse.builder()
+                .rank(index + 1)
+                .id(totals.get(index).getId())
+                .name(names.apply(totals.get(index).getId()))
+                .hours(totals.get(index).getHours())
+                .build())
+            .toList();
+    }
+}
@@ -0,0 +1,12 @@
+package com.ralphtimesheet.api.report;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class ReportValidationException extends RuntimeException {
+
+    public ReportValidationException(String message) {
+        super(message);
+    }
+}
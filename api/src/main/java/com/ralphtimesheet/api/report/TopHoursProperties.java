@@ -0,0 +1,18 @@
+package com.ralphtimesheet.api.report;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "timesheet.reports.top")
+public class TopHoursProperties {
+
+    private int retentionDays = 90;
+
+    private int maxLimit = 100;
+
+    private Duration rebuildInterval = Duration.ofMinutes(15);
+}
@@ -0,0 +1,183 @@
+package com.ralphtimesheet.api.report;
+
+import com.ralphtimesheet.api.collection.LongCounterMap;
+import com.ralphtimesheet.api.timeentry.DailyHoursTotal;
+import com.ralphtimesheet.api.timeentry.TimeEntryBulkChangedEvent;
+import com.ralphtimesheet.api.timeentry.TimeEntryChangedEvent;
+import com.ralphtimesheet.api.timeentry.TimeEntryRepository;
+import com.ralphtimesheet.api.timeentry.TimeEntrySnapshot;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+public class TopHoursTracker {
+
+    private static final Comparator<HoursTotal> BY_HOURS = Comparator
+        .comparingLong(HoursTotal::getQuarterHours)
+        .thenComparing(Comparator.comparingLong(HoursTotal::getId).reversed());
+    private static final int MAX_REBUILD_ROUNDS = 3;
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final DayBucket[] buckets;
+    private final Object rebuildLock = new Object();
+    private boolean rebuilding;
+    private boolean changedDuringRebuild;
+
+    public TopHoursTracker(TimeEntryRepository timeEntryRepository, TopHoursProperties properties) {
+        this.timeEntryRepository = timeEntryRepository;
+        this.buckets = new DayBucket[properties.getRetentionDays()];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new DayBucket();
+        }
+    }
+
+    public int getRetentionDays() {
+        return buckets.length;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * A change committed while the totals query runs may or may not be part of its result, so a rebuild that
+     * overlapped a change runs again; the scheduled rebuild catches anything left after the last round.
+     */
+    @Scheduled(
+        fixedDelayString = "${timesheet.reports.top.rebuild-interval:PT15M}",
+        initialDelayString = "${timesheet.reports.top.rebuild-interval:PT15M}"
+    )
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            boolean settled = false;
+            for (int round = 0; round < MAX_REBUILD_ROUNDS && !settled; round++) {
+                LocalDate today = LocalDate.now();
+                LocalDate since = today.minusDays(buckets.length - 1);
+                synchronized (buckets) {
+                    rebuilding = true;
+                    changedDuringRebuild = false;
+                }
+                List<DailyHoursTotal> totals = timeEntryRepository.sumHoursByDaySince(since);
+                synchronized (buckets) {
+                    for (DayBucket bucket : buckets) {
+                        bucket.reset(Long.MIN_VALUE);
+                    }
+                    for (DailyHoursTotal total : totals) {
+                        add(total.getDate(), total.getEmployeeId(), total.getProjectId(),
+                            HoursTotal.toQuarterHours(total.getHours()), today);
+                    }
+                    rebuilding = false;
+                    settled = !changedDuringRebuild;
+                }
+                log.info("Rebuilt top hours tracker from {} daily totals since {}", totals.size(), since);
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        LocalDate today = LocalDate.now();
+        synchronized (buckets) {
+            changedDuringRebuild |= rebuilding;
+            record(event.getBefore(), -1, today);
+            record(event.getAfter(), 1, today);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTimeEntriesBulkChanged(TimeEntryBulkChangedEvent event) {
+        LocalDate windowStart = LocalDate.now().minusDays(buckets.length - 1);
+        if (event.getEndDate() != null && event.getEndDate().isBefore(windowStart)) {
+            return;
+        }
+        synchronized (buckets) {
+            if (rebuilding) {
+                changedDuringRebuild = true;
+                return;
+            }
+        }
+        rebuild();
+    }
+
+    public List<HoursTotal> topProjects(int days, int limit) {
+        return top(days, limit, LocalDate.now(), true);
+    }
+
+    public List<HoursTotal> topEmployees(int days, int limit) {
+        return top(days, limit, LocalDate.now(), false);
+    }
+
+    List<HoursTotal> top(int days, int limit, LocalDate today, boolean projects) {
+        LongCounterMap totals = new LongCounterMap();
+        long todayEpochDay = today.toEpochDay();
+        synchronized (buckets) {
+            for (int offset = 0; offset < Math.min(days, buckets.length); offset++) {
+                long epochDay = todayEpochDay - offset;
+                DayBucket bucket = buckets[slotOf(epochDay)];
+                if (bucket.epochDay == epochDay) {
+                    (projects ? bucket.projects : bucket.employees).forEach(totals::add);
+                }
+            }
+        }
+
+        PriorityQueue<HoursTotal> leaders = new PriorityQueue<>(limit + 1, BY_HOURS);
+        totals.forEach((id, quarterHours) -> {
+            if (quarterHours > 0) {
+                leaders.add(new HoursTotal(id, quarterHours));
+                if (leaders.size() > limit) {
+                    leaders.poll();
+                }
+            }
+        });
+        return leaders.stream().sorted(BY_HOURS.reversed()).toList();
+    }
+
+    void record(TimeEntrySnapshot snapshot, int sign, LocalDate today) {
+        if (snapshot != null) {
+            add(snapshot.getDate(), snapshot.getEmployeeId(), snapshot.getProjectId(),
+                sign * HoursTotal.toQuarterHours(snapshot.getHours()), today);
+        }
+    }
+
+    private void add(LocalDate date, long employeeId, long projectId, long quarterHours, LocalDate today) {
+        long epochDay = date.toEpochDay();
+        long todayEpochDay = today.toEpochDay();
+        if (epochDay > todayEpochDay || epochDay <= todayEpochDay - buckets.length) {
+            return;
+        }
+
+        DayBucket bucket = buckets[slotOf(epochDay)];
+        if (bucket.epochDay != epochDay) {
+            bucket.reset(epochDay);
+        }
+        bucket.employees.add(employeeId, quarterHours);
+        bucket.projects.add(projectId, quarterHours);
+    }
+
+    private int slotOf(long epochDay) {
+        return (int) Math.floorMod(epochDay, (long) buckets.length);
+    }
+
+    private static final class DayBucket {
+
+        private final LongCounterMap employees = new LongCounterMap();
+        private final LongCounterMap projects = new LongCounterMap();
+        private long epochDay = Long.MIN_VALUE;
+
+        private void reset(long epochDay) {
+            this.epochDay = epochDay;
+            employees.clear();
+            projects.clear();
+        }
+    }
+}
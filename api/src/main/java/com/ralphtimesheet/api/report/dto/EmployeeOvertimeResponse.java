@@ -0,0 +1,22 @@
+package com.ralphtimesheet.api.report.dto;
+
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeOvertimeResponse {
+
+    private Long employeeId;
+    private String name;
+    private BigDecimal workedHours;
+    private BigDecimal expectedHours;
+    private BigDecimal overtimeHours;
+}
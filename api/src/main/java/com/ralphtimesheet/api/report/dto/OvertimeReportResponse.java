@@ -0,0 +1,26 @@
+package com.ralphtimesheet.api.report.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OvertimeReportResponse {
+
+    private YearMonth month;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int workingDays;
+    private BigDecimal expectedHours;
+    private List<EmployeeOvertimeResponse> employees;
+}
@@ -0,0 +1,21 @@
+package com.ralphtimesheet.api.report.dto;
+
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankedHoursResponse {
+
+    private int rank;
+    private Long id;
+    private String name;
+    private BigDecimal hours;
+}
@@ -0,0 +1,23 @@
+package com.ralphtimesheet.api.report.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TopHoursResponse {
+
+    private String window;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<RankedHoursResponse> projects;
+    private List<RankedHoursResponse> employees;
+}
@@ -0,0 +1,95 @@
+package com.ralphtimesheet.api.sharding;
+
+import com.ralphtimesheet.api.employee.EmployeeChangedEvent;
+import com.ralphtimesheet.api.employee.dto.EmployeeResponse;
+import com.ralphtimesheet.api.project.ProjectChangedEvent;
+import com.ralphtimesheet.api.project.dto.ProjectResponse;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "timesheet.sharding", name = "enabled", havingValue = "true")
+public class ShardReplicator {
+
+    private static final String UPDATE_EMPLOYEE =
+        "update employees set first_name = ?, last_name = ?, email = ?, department = ? where id = ?";
+    private static final String INSERT_EMPLOYEE =
+        "insert into employees (first_name, last_name, email, department, id) values (?, ?, ?, ?, ?)";
+    private static final String UPDATE_PROJECT =
+        "update projects set name = ?, code = ?, description = ?, active = ? where id = ?";
+    private static final String INSERT_PROJECT =
+        "insert into projects (name, code, description, active, id) values (?, ?, ?, ?, ?)";
+
+    private static final List<String> VIEW_TABLES = List.of("time_entry_views", "time_entry_archive_views");
+    private static final String RENAME_EMPLOYEE_VIEWS = "update %s set employee_first_name = ?,"
+        + " employee_last_name = ?, employee_email = ? where employee_id = ?";
+    private static final String RENAME_PROJECT_VIEWS =
+        "update %s set project_name = ?, project_code = ? where project_id = ?";
+
+    private final ShardRouter shardRouter;
+
+    public void replicateAll() {
+        JdbcTemplate primary = shardRouter.jdbc(ShardingProperties.PRIMARY);
+        List<Map<String, Object>> employees = primary.queryForList(
+            "select id, first_name, last_name, email, department from employees");
+        List<Map<String, Object>> projects = primary.queryForList(
+            "select id, name, code, description, active from projects");
+        for (String shard : replicas()) {
+            JdbcTemplate replica = shardRouter.jdbc(shard);
+            employees.forEach(row -> upsert(replica, UPDATE_EMPLOYEE, INSERT_EMPLOYEE, row.get("first_name"),
+                row.get("last_name"), row.get("email"), row.get("department"), row.get("id")));
+            projects.forEach(row -> upsert(replica, UPDATE_PROJECT, INSERT_PROJECT, row.get("name"), row.get("code"),
+                row.get("description"), row.get("active"), row.get("id")));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        EmployeeResponse employee = event.getAfter();
+        if (employee == null) {
+            return;
+        }
+        for (String shard : replicas()) {
+            upsert(shardRouter.jdbc(shard), UPDATE_EMPLOYEE, INSERT_EMPLOYEE, employee.getFirstName(),
+                employee.getLastName(), employee.getEmail(), employee.getDepartment(), employee.getId());
+            for (String table : VIEW_TABLES) {
+                shardRouter.jdbc(shard).update(RENAME_EMPLOYEE_VIEWS.formatted(table), employee.getFirstName(),
+                    employee.getLastName(), employee.getEmail(), employee.getId());
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        ProjectResponse project = event.getAfter();
+        if (project == null) {
+            return;
+        }
+        for (String shard : replicas()) {
+            upsert(shardRouter.jdbc(shard), UPDATE_PROJECT, INSERT_PROJECT, project.getName(), project.getCode(),
+                project.getDescription(), project.isActive(), project.getId());
+            for (String table : VIEW_TABLES) {
+                shardRouter.jdbc(shard).update(RENAME_PROJECT_VIEWS.formatted(table), project.getName(),
+                    project.getCode(), project.getId());
+            }
+        }
+    }
+
+    private List<String> replicas() {
+        return shardRouter.shards().stream()
+            .filter(shard -> !ShardingProperties.PRIMARY.equals(shard))
+            .toList();
+    }
+
+    private static void upsert(JdbcTemplate jdbc, String update, String insert, Object... columns) {
+        if (jdbc.update(update, columns) == 0) {
+            jdbc.update(insert, columns);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ralphtimesheet.api.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class ShardRing {
+
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+    private final Map<Long, String> pinned;
+
+    public ShardRing(Map<String, Integer> weights, int virtualNodes, Map<Long, String> pinned) {
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required.");
+        }
+        for (Map.Entry<String, Integer> shard : weights.entrySet()) {
+            for (int node = 0; node < virtualNodes * shard.getValue(); node++) {
+                ring.put(hash(shard.getKey() + '#' + node), shard.getKey());
+            }
+        }
+        for (Map.Entry<Long, String> pin : pinned.entrySet()) {
+            if (!weights.containsKey(pin.getValue())) {
+                throw new IllegalArgumentException(
+                    "Employee " + pin.getKey() + " is pinned to unknown shard " + pin.getValue() + ".");
+            }
+        }
+        this.pinned = Map.copyOf(pinned);
+    }
+
+    public String shardFor(long employeeId) {
+        String pinnedShard = pinned.get(employeeId);
+        if (pinnedShard != null) {
+            return pinnedShard;
+        }
+        Map.Entry<Long, String> node = ring.ceilingEntry(mix(employeeId));
+        return node != null ? node.getValue() : ring.firstEntry().getValue();
+    }
+
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,122 @@
+package com.ralphtimesheet.api.sharding;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+@Component
+@ConditionalOnProperty(prefix = "timesheet.sharding", name = "enabled", havingValue = "true")
+public class ShardRouter {
+
+    private static final String LOCATE_SQL = "select employee_id from time_entries where id = ?"
+        + " union all select employee_id from time_entries_archive where id = ?";
+
+    private final ShardRing ring;
+    private final Map<String, JdbcTemplate> jdbcTemplates = new LinkedHashMap<>();
+    private final List<String> shards;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter routed;
+    private final Counter scattered;
+
+    public ShardRouter(ShardRoutingDataSource dataSource, ShardRing ring, MeterRegistry meterRegistry) {
+        this.ring = ring;
+        dataSource.getShards().forEach((name, shard) -> jdbcTemplates.put(name, new JdbcTemplate(shard)));
+        this.shards = List.copyOf(jdbcTemplates.keySet());
+        this.routed = meterRegistry.counter("timesheet.sharding.calls", "mode", "routed");
+        this.scattered = meterRegistry.counter("timesheet.sharding.calls", "mode", "scatter");
+    }
+
+    public List<String> shards() {
+        return shards;
+    }
+
+    public int indexOf(String shard) {
+        return shards.indexOf(shard);
+    }
+
+    public String shardFor(Long employeeId) {
+        return ring.shardFor(employeeId);
+    }
+
+    public JdbcTemplate jdbc(String shard) {
+        return jdbcTemplates.get(shard);
+    }
+
+    public <T> T on(String shard, Supplier<T> action) {
+        routed.increment();
+        return join(submit(shard, action));
+    }
+
+    public <T> List<T> scatter(Supplier<T> action) {
+        scattered.increment();
+        List<Future<T>> futures = new ArrayList<>(shards.size());
+        for (String shard : shards) {
+            futures.add(submit(shard, action));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            results.add(join(future));
+        }
+        return results;
+    }
+
+    public Optional<String> locate(Long timeEntryId) {
+        List<Future<Boolean>> probes = new ArrayList<>(shards.size());
+        for (String shard : shards) {
+            probes.add(executor.submit(() -> !jdbc(shard).queryForList(LOCATE_SQL, Long.class, timeEntryId, timeEntryId)
+                .isEmpty()));
+        }
+        for (int i = 0; i < shards.size(); i++) {
+            if (join(probes.get(i))) {
+                return Optional.of(shards.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Future<T> submit(String shard, Supplier<T> action) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return executor.submit(() -> {
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                return ShardContext.callOn(shard, action);
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        });
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for shard", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Shard call failed", ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.ralphtimesheet.api.sharding;
+
+import com.ralphtimesheet.api.timeentry.TimeEntryArchiveService;
+import com.ralphtimesheet.api.timeentry.dto.ArchiveRunResponse;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@Primary
+@ConditionalOnProperty(prefix = "timesheet.sharding", name = "enabled", havingValue = "true")
+public class ShardRoutingArchiveService implements TimeEntryArchiveService {
+
+    private final TimeEntryArchiveService delegate;
+    private final ShardRouter shardRouter;
+
+    public ShardRoutingArchiveService(
+        @Qualifier("timeEntryArchiveServiceImpl") TimeEntryArchiveService delegate,
+        ShardRouter shardRouter
+    ) {
+        this.delegate = delegate;
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    public ArchiveRunResponse archiveEntries() {
+        return sum(shardRouter.scatter(delegate::archiveEntries));
+    }
+
+    @Scheduled(cron = "${timesheet.time-entries.archive.cron:-}")
+    public void archiveReplicaShards() {
+        shardRouter.shards().stream()
+            .filter(shard -> !ShardingProperties.PRIMARY.equals(shard))
+            .forEach(shard -> shardRouter.on(shard, delegate::archiveEntries));
+    }
+
+    private static ArchiveRunResponse sum(List<ArchiveRunResponse> partials) {
+        return ArchiveRunResponse.builder()
+            .cutoff(partials.get(0).getCutoff())
+            .archived(partials.stream().mapToLong(ArchiveRunResponse::getArchived).sum())
+            .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.ralphtimesheet.api.sharding;
+
+import com.ralphtimesheet.api.timeentry.ArchivedTimeEntryRepository;
+import com.ralphtimesheet.api.timeentry.TimeEntryBulkProperties;
+import com.ralphtimesheet.api.timeentry.TimeEntryRepository;
+import com.ralphtimesheet.api.timeentry.TimeEntryService;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+public class ShardRoutingPostProcessor implements BeanPostProcessor, BeanFactoryAware {
+
+    private static final String TIME_ENTRY_SERVICE = "timeEntryServiceImpl";
+
+    private BeanFactory beanFactory;
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (TIME_ENTRY_SERVICE.equals(beanName) && bean instanceof TimeEntryService service) {
+            return new ShardRoutingTimeEntryService(service, beanFactory.getBean(ShardRouter.class),
+                beanFactory.getBean(TimeEntryBulkProperties.class));
+        }
+        if (bean instanceof TimeEntryRepository) {
+            return scatterReads(bean, TimeEntryRepository.class);
+        }
+        if (bean instanceof ArchivedTimeEntryRepository) {
+            return scatterReads(bean, ArchivedTimeEntryRepository.class);
+        }
+        return bean;
+    }
+
+    private Object scatterReads(Object repository, Class<?> repositoryInterface) {
+        return Proxy.newProxyInstance(repositoryInterface.getClassLoader(), new Class<?>[] {repositoryInterface},
+            (proxy, method, args) -> {
+                if (ShardContext.current() != null || !List.class.equals(method.getReturnType())) {
+                    return invoke(repository, method, args);
+                }
+                List<Object> merged = new ArrayList<>();
+                beanFactory.getBean(ShardRouter.class)
+                    .scatter(() -> (List<?>) invoke(repository, method, args))
+                    .forEach(merged::addAll);
+                return merged;
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.ralphtimesheet.api.sharding;
+
+import com.ralphtimesheet.api.timeentry.TimeEntryBulkProperties;
+import com.ralphtimesheet.api.timeentry.TimeEntryNotFoundException;
+import com.ralphtimesheet.api.timeentry.TimeEntryService;
+import com.ralphtimesheet.api.timeentry.TimeEntryValidationException;
+import com.ralphtimesheet.api.timeentry.dto.BulkOperationResponse;
+import com.ralphtimesheet.api.timeentry.dto.BulkReassignRequest;
+import com.ralphtimesheet.api.timeentry.dto.DailyHoursResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryChangeFeedResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryPatchRequest;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryRequest;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntrySearchHitResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntrySearchResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryValidationResponse;
+import com.ralphtimesheet.api.timeentry.dto.WeeklySummaryResponse;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetCopyResponse;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetRequest;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetResponse;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public class ShardRoutingTimeEntryService implements TimeEntryService {
+
+    private static final Comparator<TimeEntryResponse> BY_DATE_AND_ID = Comparator
+        .comparing(TimeEntryResponse::getDate)
+        .thenComparing(TimeEntryResponse::getId);
+    private static final Comparator<TimeEntrySearchHitResponse> BY_RANK = Comparator
+        .comparingDouble(TimeEntrySearchHitResponse::getScore).reversed()
+        .thenComparing(hit -> hit.getTimeEntry().getDate(), Comparator.reverseOrder())
+        .thenComparing(hit -> hit.getTimeEntry().getId(), Comparator.reverseOrder());
+
+    private final TimeEntryService delegate;
+    private final ShardRouter shardRouter;
+    private final TimeEntryBulkProperties bulkProperties;
+
+    public ShardRoutingTimeEntryService(
+        TimeEntryService delegate,
+        ShardRouter shardRouter,
+        TimeEntryBulkProperties bulkProperties
+    ) {
+        this.delegate = delegate;
+        this.shardRouter = shardRouter;
+        this.bulkProperties = bulkProperties;
+    }
+
+    @Override
+    public List<TimeEntryResponse> getTimeEntries(Long employeeId, Long projectId, LocalDate startDate, LocalDate endDate) {
+        Supplier<List<TimeEntryResponse>> query = () -> delegate.getTimeEntries(employeeId, projectId, startDate, endDate);
+        if (employeeId != null) {
+            return shardRouter.on(shardRouter.shardFor(employeeId), query);
+        }
+        return mergeSorted(shardRouter.scatter(query), BY_DATE_AND_ID);
+    }
+
+    @Override
+    public TimeEntryResponse getTimeEntry(Long id) {
+        return shardRouter.on(locate(id), () -> delegate.getTimeEntry(id));
+    }
+
+    @Override
+    public List<TimeEntryResponse> getTimeEntriesForEmployees(
+        Collection<Long> employeeIds,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        Map<String, List<Long>> employeeIdsByShard = employeeIds.stream()
+            .collect(Collectors.groupingBy(shardRouter::shardFor, LinkedHashMap::new, Collectors.toList()));
+        List<List<TimeEntryResponse>> runs = new ArrayList<>();
+        employeeIdsByShard.forEach((shard, ids) ->
+            runs.add(shardRouter.on(shard, () -> delegate.getTimeEntriesForEmployees(ids, startDate, endDate))));
+        return mergeSorted(runs, BY_DATE_AND_ID);
+    }
+
+    @Override
+    public WeeklySummaryResponse getWeeklySummary(Long employeeId, Long projectId, LocalDate weekStart) {
+        Supplier<WeeklySummaryResponse> query = () -> delegate.getWeeklySummary(employeeId, projectId, weekStart);
+        if (employeeId != null) {
+            return shardRouter.on(shardRouter.shardFor(employeeId), query);
+        }
+
+        List<WeeklySummaryResponse> partials = shardRouter.scatter(query);
+        WeeklySummaryResponse first = partials.get(0);
+        List<DailyHoursResponse> days = new ArrayList<>();
+        for (int day = 0; day < first.getDays().size(); day++) {
+            int index = day;
+            days.add(DailyHoursResponse.builder()
+                .date(first.getDays().get(index).getDate())
+                .hours(partials.stream()
+                    .map(partial -> partial.getDays().get(index).getHours())
+                    .reduce(BigDecimal.ZERO, BigDecimal::add))
+                .build());
+        }
+        return WeeklySummaryResponse.builder()
+            .employeeId(employeeId)
+            .projectId(projectId)
+            .weekStart(first.getWeekStart())
+            .weekEnd(first.getWeekEnd())
+            .totalHours(days.stream().map(DailyHoursResponse::getHours).reduce(BigDecimal.ZERO, BigDecimal::add))
+            .days(days)
+            .build();
+    }
+
+    @Override
+    public TimeEntryChangeFeedResponse getChanges(long since, int limit) {
+        return shardRouter.on(ShardingProperties.PRIMARY, () -> delegate.getChanges(since, limit));
+    }
+
+    @Override
+    public TimeEntrySearchResponse searchTimeEntries(
+        String query,
+        Long employeeId,
+        Long projectId,
+        LocalDate startDate,
+        LocalDate endDate,
+        int page,
+        int size
+    ) {
+        Supplier<TimeEntrySearchResponse> search =
+            () -> delegate.searchTimeEntries(query, employeeId, projectId, startDate, endDate, page, size);
+        if (employeeId != null) {
+            return shardRouter.on(shardRouter.shardFor(employeeId), search);
+        }
+
+        List<TimeEntrySearchResponse> partials = shardRouter.scatter(search);
+        List<TimeEntrySearchHitResponse> hits = new ArrayList<>();
+        partials.forEach(partial -> hits.addAll(partial.getHits()));
+        hits.sort(BY_RANK);
+        return TimeEntrySearchResponse.builder()
+            .query(query)
+            .page(page)
+            .size(size)
+            .total(partials.get(0).getTotal())
+            .hits(hits)
+            .build();
+    }
+
+    @Override
+    public TimeEntryValidationResponse validateTimeEntry(Long id, TimeEntryRequest request) {
+        String shard;
+        if (id != null) {
+            shard = locate(id);
+        } else if (request.getEmployeeId() != null) {
+            shard = shardRouter.shardFor(request.getEmployeeId());
+        } else {
+            shard = ShardingProperties.PRIMARY;
+        }
+        return shardRouter.on(shard, () -> delegate.validateTimeEntry(id, request));
+    }
+
+    @Override
+    public TimeEntryResponse createTimeEntry(TimeEntryRequest request) {
+        return shardRouter.on(shardRouter.shardFor(request.getEmployeeId()), () -> delegate.createTimeEntry(request));
+    }
+
+    @Override
+    public List<TimeEntryResponse> createTimeEntries(List<TimeEntryRequest> requests) {
+        Map<String, List<Integer>> positionsByShard = new LinkedHashMap<>();
+        for (int position = 0; position < requests.size(); position++) {
+            positionsByShard.computeIfAbsent(shardRouter.shardFor(requests.get(position).getEmployeeId()),
+                shard -> new ArrayList<>()).add(position);
+        }
+
+        TimeEntryResponse[] responses = new TimeEntryResponse[requests.size()];
+        positionsByShard.forEach((shard, positions) -> {
+            List<TimeEntryRequest> shardRequests = positions.stream().map(requests::get).toList();
+            List<TimeEntryResponse> created = shardRouter.on(shard, () -> delegate.createTimeEntries(shardRequests));
+            for (int index = 0; index < positions.size(); index++) {
+                responses[positions.get(index)] = created.get(index);
+            }
+        });
+        return List.of(responses);
+    }
+
+    @Override
+    public TimeEntryResponse updateTimeEntry(Long id, TimeEntryRequest request) {
+        String shard = locate(id);
+        requireSameShard(shard, request.getEmployeeId());
+        return shardRouter.on(shard, () -> delegate.updateTimeEntry(id, request));
+    }
+
+    @Override
+    public TimeEntryResponse patchTimeEntry(Long id, TimeEntryPatchRequest request) {
+        String shard = locate(id);
+        requireSameShard(shard, request.getEmployeeId());
+        return shardRouter.on(shard, () -> delegate.patchTimeEntry(id, request));
+    }
+
+    @Override
+    public void deleteTimeEntry(Long id) {
+        shardRouter.on(locate(id), () -> {
+            delegate.deleteTimeEntry(id);
+            return null;
+        });
+    }
+
+    @Override
+    public BulkOperationResponse deleteTimeEntries(
+        Long employeeId,
+        Long projectId,
+        LocalDate startDate,
+        LocalDate endDate,
+        boolean dryRun
+    ) {
+        if (employeeId != null) {
+            return shardRouter.on(shardRouter.shardFor(employeeId),
+                () -> delegate.deleteTimeEntries(employeeId, projectId, startDate, endDate, dryRun));
+        }
+
+        BulkOperationResponse preview = sum(shardRouter.scatter(
+            () -> delegate.deleteTimeEntries(employeeId, projectId, startDate, endDate, true)), true);
+        if (dryRun) {
+            return preview;
+        }
+        validateBulkLimit(preview.getMatched());
+        return sum(shardRouter.scatter(
+            () -> delegate.deleteTimeEntries(employeeId, projectId, startDate, endDate, false)), false);
+    }
+
+    @Override
+    public BulkOperationResponse reassignTimeEntries(BulkReassignRequest request) {
+        if (request.getEmployeeId() != null) {
+            return shardRouter.on(shardRouter.shardFor(request.getEmployeeId()),
+                () -> delegate.reassignTimeEntries(request));
+        }
+
+        BulkReassignRequest dryRunRequest = BulkReassignRequest.builder()
+            .sourceProjectId(request.getSourceProjectId())
+            .targetProjectId(request.getTargetProjectId())
+            .startDate(request.getStartDate())
+            .endDate(request.getEndDate())
+            .dryRun(true)
+            .build();
+        BulkOperationResponse preview = sum(shardRouter.scatter(() -> delegate.reassignTimeEntries(dryRunRequest)), true);
+        if (request.isDryRun()) {
+            return preview;
+        }
+        validateBulkLimit(preview.getMatched());
+        return sum(shardRouter.scatter(() -> delegate.reassignTimeEntries(request)), false);
+    }
+
+    @Override
+    public WeeklyTimesheetResponse saveWeeklyTimesheet(
+        Long employeeId,
+        LocalDate weekStart,
+        WeeklyTimesheetRequest request
+    ) {
+        return shardRouter.on(shardRouter.shardFor(employeeId),
+            () -> delegate.saveWeeklyTimesheet(employeeId, weekStart, request));
+    }
+
+    @Override
+    public WeeklyTimesheetCopyResponse copyWeeklyTimesheet(Long employeeId, LocalDate weekStart, LocalDate sourceWeekStart) {
+        return shardRouter.on(shardRouter.shardFor(employeeId),
+            () -> delegate.copyWeeklyTimesheet(employeeId, weekStart, sourceWeekStart));
+    }
+
+    static <T> List<T> mergeSorted(List<List<T>> sortedRuns, Comparator<T> comparator) {
+        PriorityQueue<Cursor<T>> heads = new PriorityQueue<>((left, right) -> comparator.compare(left.head(), right.head()));
+        int total = 0;
+        for (List<T> run : sortedRuns) {
+            total += run.size();
+            if (!run.isEmpty()) {
+                heads.add(new Cursor<>(run));
+            }
+        }
+        List<T> merged = new ArrayList<>(total);
+        while (!heads.isEmpty()) {
+            Cursor<T> cursor = heads.poll();
+            merged.add(cursor.head());
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    private String locate(Long id) {
+        return shardRouter.locate(id).orElseThrow(() -> new TimeEntryNotFoundException(id));
+    }
+
+    private void requireSameShard(String shard, Long employeeId) {
+        if (employeeId != null && !shard.equals(shardRouter.shardFor(employeeId))) {
+            throw new TimeEntryValidationException("Time entries cannot be moved to an employee on another shard.");
+        }
+    }
+
+    private void validateBulkLimit(long matched) {
+        if (matched > bulkProperties.getMaxAffectedRows()) {
+            throw new TimeEntryValidationException(
+                "Bulk operation would affect " + matched + " entries, exceeding the limit of "
+                    + bulkProperties.getMaxAffectedRows() + "."
+            );
+        }
+    }
+
+    private static BulkOperationResponse sum(List<BulkOperationResponse> partials, boolean dryRun) {
+        return BulkOperationResponse.builder()
+            .matched(partials.stream().mapToLong(BulkOperationResponse::getMatched).sum())
+            .affected(partials.stream().mapToLong(BulkOperationResponse::getAffected).sum())
+            .dryRun(dryRun)
+            .build();
+    }
+
+    private static final class Cursor<T> {
+
+        private final List<T> run;
+        private int position;
+
+        private Cursor(List<T> run) {
+            this.run = run;
+        }
+
+        private T head() {
+            return run.get(position);
+        }
+
+        private boolean advance() {
+            return ++position < run.size();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.ralphtimesheet.api.sharding;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "timesheet.sharding", name = "enabled", havingValue = "true")
+public class ShardSchemaInitializer implements SmartInitializingSingleton {
+
+    private static final List<String> SHARDED_TABLES = List.of("time_entries", "time_entries_archive", "time_entry_views",
+        "time_entry_archive_views");
+
+    private final ShardRouter shardRouter;
+    private final ShardReplicator shardReplicator;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String shard : shardRouter.shards()) {
+            if (!hasTable(shardRouter.jdbc(shard), "time_entries")) {
+                ShardContext.runOn(shard, () -> entityManagerFactory.unwrap(SessionFactory.class)
+                    .getSchemaManager()
+                    .exportMappedObjects(true));
+                log.info("Created schema on shard {}", shard);
+            }
+        }
+        shardReplicator.replicateAll();
+        int moved = rebalance();
+        alignIdentities();
+        log.info("Sharding {} time entry tables across {}; moved {} rows to their home shard",
+            SHARDED_TABLES, shardRouter.shards(), moved);
+    }
+
+    private int rebalance() {
+        int moved = 0;
+        for (String shard : shardRouter.shards()) {
+            JdbcTemplate source = shardRouter.jdbc(shard);
+            for (String table : SHARDED_TABLES) {
+                List<Long> employeeIds = source.queryForList("select distinct employee_id from " + table, Long.class);
+                for (Long employeeId : employeeIds) {
+                    String home = shardRouter.shardFor(employeeId);
+                    if (!home.equals(shard)) {
+                        moved += move(table, employeeId, source, shardRouter.jdbc(home));
+                    }
+                }
+            }
+        }
+        return moved;
+    }
+
+    private int move(String table, Long employeeId, JdbcTemplate source, JdbcTemplate target) {
+        List<Map<String, Object>> rows = source.queryForList("select * from " + table + " where employee_id = ?",
+            employeeId);
+        for (Map<String, Object> row : rows) {
+            String columns = String.join(", ", row.keySet());
+            String placeholders = row.keySet().stream().map(column -> "?").collect(Collectors.joining(", "));
+            target.update("insert into " + table + " (" + columns + ") values (" + placeholders + ")",
+                row.values().toArray());
+        }
+        source.update("delete from " + table + " where employee_id = ?", employeeId);
+        return rows.size();
+    }
+
+    private void alignIdentities() {
+        int shardCount = shardRouter.shards().size();
+        long maxId = 0;
+        for (String shard : shardRouter.shards()) {
+            for (String table : SHARDED_TABLES) {
+                Long tableMax = shardRouter.jdbc(shard).queryForObject("select max(id) from " + table, Long.class);
+                maxId = Math.max(maxId, tableMax == null ? 0 : tableMax);
+            }
+        }
+        long base = (maxId / shardCount + 1) * shardCount;
+        for (String shard : shardRouter.shards()) {
+            shardRouter.jdbc(shard).execute("alter table time_entries alter column id set increment by " + shardCount
+                + " restart with " + (base + shardRouter.indexOf(shard)));
+        }
+    }
+
+    private static boolean hasTable(JdbcTemplate jdbc, String table) {
+        return Boolean.TRUE.equals(jdbc.execute((ConnectionCallback<Boolean>) connection -> {
+            try (ResultSet tables = connection.getMetaData().getTables(null, null, table, new String[] {"TABLE"})) {
+                return tables.next();
+            }
+        }));
+    }
+}
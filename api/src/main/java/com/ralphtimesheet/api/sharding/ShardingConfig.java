@@ -0,0 +1,47 @@
+package com.ralphtimesheet.api.sharding;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@ConditionalOnProperty(prefix = "timesheet.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    @Primary
+    public ShardRoutingDataSource dataSource(DataSourceProperties dataSourceProperties, ShardingProperties properties) {
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        shards.put(ShardingProperties.PRIMARY, dataSourceProperties.initializeDataSourceBuilder().build());
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            if (shards.containsKey(shard.getName())) {
+                throw new IllegalStateException("Duplicate shard name " + shard.getName() + ".");
+            }
+            shards.put(shard.getName(), DataSourceBuilder.create()
+                .url(shard.getUrl())
+                .username(shard.getUsername())
+                .password(shard.getPassword())
+                .build());
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    public ShardRing shardRing(ShardingProperties properties) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put(ShardingProperties.PRIMARY, properties.getPrimaryWeight());
+        properties.getShards().forEach(shard -> weights.put(shard.getName(), shard.getWeight()));
+        return new ShardRing(weights, properties.getVirtualNodes(), properties.getPinnedEmployees());
+    }
+
+    @Bean
+    public static ShardRoutingPostProcessor shardRoutingPostProcessor() {
+        return new ShardRoutingPostProcessor();
+    }
+}
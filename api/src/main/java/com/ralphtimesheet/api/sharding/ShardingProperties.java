@@ -0,0 +1,42 @@
+package com.ralphtimesheet.api.sharding;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "timesheet.sharding")
+public class ShardingProperties {
+
+    public static final String PRIMARY = "primary";
+
+    private boolean enabled = false;
+
+    private int virtualNodes = 128;
+
+    private int primaryWeight = 1;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    private Map<Long, String> pinnedEmployees = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Shard {
+
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int weight = 1;
+    }
+}
@@ -0,0 +1,59 @@
+package com.ralphtimesheet.api.timeentry;
+
+import com.ralphtimesheet.api.employee.Employee;
+import com.ralphtimesheet.api.project.Project;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(
+    name = "time_entries_archive",
+    indexes = {
+        @Index(name = "idx_time_entries_archive_employee_date", columnList = "employee_id, date"),
+        @Index(name = "idx_time_entries_archive_project_date", columnList = "project_id, date")
+    }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTimeEntry {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "employee_id", nullable = false)
+    private Employee employee;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false, precision = 5, scale = 2)
+    private BigDecimal hours;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
@@ -0,0 +1,41 @@
+package com.ralphtimesheet.api.timeentry;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ArchivedTimeEntryRepository extends JpaRepository<ArchivedTimeEntry, Long> {
+
+    @Query("select e.id as id, e.employee.id as employeeId, e.project.id as projectId, e.date as date,"
+        + " e.description as description from ArchivedTimeEntry e where e.description is not null")
+    List<TimeEntryDocument> findAllDocuments();
+
+    @Query("select coalesce(sum(e.hours), 0) from ArchivedTimeEntry e where e.employee.id = :employeeId and e.date = :date")
+    BigDecimal sumHoursByEmployeeIdAndDate(@Param("employeeId") Long employeeId, @Param("date") LocalDate date);
+
+    boolean existsByEmployeeIdAndDateBetween(Long employeeId, LocalDate startDate, LocalDate endDate);
+
+    @Query("select e.employee.id as employeeId, sum(e.hours) as hours from ArchivedTimeEntry e"
+        + " where e.date between :startDate and :endDate and (:employeeId is null or e.employee.id = :employeeId)"
+        + " group by e.employee.id")
+    List<EmployeeHoursTotal> sumHoursByEmployeeBetween(
+        @Param("employeeId") Long employeeId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    @Query("select e.project.id as projectId, sum(e.hours) as hours from ArchivedTimeEntry e group by e.project.id")
+    List<ProjectHoursTotal> sumHoursByProject();
+
+    @Modifying(flushAutomatically = true)
+    @Query("insert into ArchivedTimeEntry (id, employee, project, date, hours, description, archivedAt)"
+        + " select e.id, e.employee, e.project, e.date, e.hours, e.description, :archivedAt"
+        + " from TimeEntry e where e.id in :ids")
+    int archiveByIds(@Param("ids") Collection<Long> ids, @Param("archivedAt") Instant archivedAt);
+}
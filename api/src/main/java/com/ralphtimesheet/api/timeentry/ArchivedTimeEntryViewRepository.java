@@ -0,0 +1,39 @@
+package com.ralphtimesheet.api.timeentry;
+
+import java.util.Collection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ArchivedTimeEntryViewRepository extends JpaRepository<ArchivedTimeEntryView, Long> {
+
+    @Modifying
+    @Query(value = "insert into time_entry_archive_views (" + TimeEntryViewRepository.VIEW_COLUMNS + ") select "
+        + TimeEntryViewRepository.VIEW_COLUMNS + " from time_entry_views where id in (:ids)", nativeQuery = true)
+    int archiveByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update ArchivedTimeEntryView v set v.employeeFirstName = :firstName, v.employeeLastName = :lastName,"
+        + " v.employeeEmail = :email where v.employeeId = :employeeId")
+    int renameEmployee(
+        @Param("employeeId") Long employeeId,
+        @Param("firstName") String firstName,
+        @Param("lastName") String lastName,
+        @Param("email") String email
+    );
+
+    @Modifying
+    @Query("update ArchivedTimeEntryView v set v.projectName = :name, v.projectCode = :code"
+        + " where v.projectId = :projectId")
+    int renameProject(@Param("projectId") Long projectId, @Param("name") String name, @Param("code") String code);
+
+    @Modifying
+    @Query(value = "delete from time_entry_archive_views", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = "insert into time_entry_archive_views (" + TimeEntryViewRepository.VIEW_COLUMNS + ") "
+        + TimeEntryViewRepository.ARCHIVED_SOURCE_ROWS, nativeQuery = true)
+    int insertFromSource();
+}
@@ -0,0 +1,175 @@
+package com.ralphtimesheet.api.timeentry;
+
+import com.ralphtimesheet.api.coalescing.RequestCoalescer;
+import com.ralphtimesheet.api.timeentry.dto.BulkOperationResponse;
+import com.ralphtimesheet.api.timeentry.dto.BulkReassignRequest;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryChangeFeedResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryPatchRequest;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryRequest;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntrySearchResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryValidationResponse;
+import com.ralphtimesheet.api.timeentry.dto.WeeklySummaryResponse;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetCopyResponse;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetRequest;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetResponse;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+@Service
+@Primary
+public class CachingTimeEntryService implements TimeEntryService {
+
+    private final TimeEntryService delegate;
+    private final RequestCoalescer requestCoalescer;
+    private final HistoricalWeekCache historicalWeekCache;
+
+    public CachingTimeEntryService(
+        @Qualifier("timeEntryServiceImpl") TimeEntryService delegate,
+        RequestCoalescer requestCoalescer,
+        HistoricalWeekCache historicalWeekCache
+    ) {
+        this.delegate = delegate;
+        this.requestCoalescer = requestCoalescer;
+        this.historicalWeekCache = historicalWeekCache;
+    }
+
+    @Override
+    public List<TimeEntryResponse> getTimeEntries(Long employeeId, Long projectId, LocalDate startDate, LocalDate endDate) {
+        String key = "time-entries?employeeId=" + employeeId
+            + "&projectId=" + projectId
+            + "&startDate=" + startDate
+            + "&endDate=" + endDate;
+        Supplier<List<TimeEntryResponse>> query =
+            () -> delegate.getTimeEntries(employeeId, projectId, startDate, endDate);
+
+        if ((employeeId == null) == (projectId == null) || !historicalWeekCache.isCacheable(startDate, endDate)) {
+            return requestCoalescer.execute(key, query);
+        }
+        return historicalWeekCache.getOrLoad(scope(employeeId), scopeId(employeeId, projectId), startDate,
+            HistoricalWeekCache.View.LIST,
+            generation -> requestCoalescer.execute(key + "&generation=" + generation, query));
+    }
+
+    @Override
+    public WeeklySummaryResponse getWeeklySummary(Long employeeId, Long projectId, LocalDate weekStart) {
+        String key = "time-entries/summary/weekly?employeeId=" + employeeId
+            + "&projectId=" + projectId
+            + "&weekStart=" + weekStart;
+        Supplier<WeeklySummaryResponse> query = () -> delegate.getWeeklySummary(employeeId, projectId, weekStart);
+
+        if ((employeeId == null) == (projectId == null)
+            || !historicalWeekCache.isCacheable(weekStart, weekStart.plusDays(6))) {
+            return requestCoalescer.execute(key, query);
+        }
+        return historicalWeekCache.getOrLoad(scope(employeeId), scopeId(employeeId, projectId), weekStart,
+            HistoricalWeekCache.View.SUMMARY,
+            generation -> requestCoalescer.execute(key + "&generation=" + generation, query));
+    }
+
+    @Override
+    public TimeEntryResponse getTimeEntry(Long id) {
+        return requestCoalescer.execute("time-entries/" + id, () -> delegate.getTimeEntry(id));
+    }
+
+    @Override
+    public List<TimeEntryResponse> getTimeEntriesForEmployees(
+        Collection<Long> employeeIds,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        return delegate.getTimeEntriesForEmployees(employeeIds, startDate, endDate);
+    }
+
+    @Override
+    public TimeEntryChangeFeedResponse getChanges(long since, int limit) {
+        String key = "time-entries/changes?since=" + since + "&limit=" + limit;
+        return requestCoalescer.execute(key, () -> delegate.getChanges(since, limit));
+    }
+
+    @Override
+    public TimeEntrySearchResponse searchTimeEntries(
+        String query,
+        Long employeeId,
+        Long projectId,
+        LocalDate startDate,
+        LocalDate endDate,
+        int page,
+        int size
+    ) {
+        return delegate.searchTimeEntries(query, employeeId, projectId, startDate, endDate, page, size);
+    }
+
+    @Override
+    public TimeEntryValidationResponse validateTimeEntry(Long id, TimeEntryRequest request) {
+        return delegate.validateTimeEntry(id, request);
+    }
+
+    @Override
+    public TimeEntryResponse createTimeEntry(TimeEntryRequest request) {
+        return delegate.createTimeEntry(request);
+    }
+
+    @Override
+    public List<TimeEntryResponse> createTimeEntries(List<TimeEntryRequest> requests) {
+        return delegate.createTimeEntries(requests);
+    }
+
+    @Override
+    public TimeEntryResponse updateTimeEntry(Long id, TimeEntryRequest request) {
+        return delegate.updateTimeEntry(id, request);
+    }
+
+    @Override
+    public TimeEntryResponse patchTimeEntry(Long id, TimeEntryPatchRequest request) {
+        return delegate.patchTimeEntry(id, request);
+    }
+
+    @Override
+    public void deleteTimeEntry(Long id) {
+        delegate.deleteTimeEntry(id);
+    }
+
+    @Override
+    public BulkOperationResponse deleteTimeEntries(
+        Long employeeId,
+        Long projectId,
+        LocalDate startDate,
+        LocalDate endDate,
+        boolean dryRun
+    ) {
+        return delegate.deleteTimeEntries(employeeId, projectId, startDate, endDate, dryRun);
+    }
+
+    @Override
+    public BulkOperationResponse reassignTimeEntries(BulkReassignRequest request) {
+        return delegate.reassignTimeEntries(request);
+    }
+
+    @Override
+    public WeeklyTimesheetResponse saveWeeklyTimesheet(
+        Long employeeId,
+        LocalDate weekStart,
+        WeeklyTimesheetRequest request
+    ) {
+        return delegate.saveWeeklyTimesheet(employeeId, weekStart, request);
+    }
+
+    @Override
+    public WeeklyTimesheetCopyResponse copyWeeklyTimesheet(Long employeeId, LocalDate weekStart, LocalDate sourceWeekStart) {
+        return delegate.copyWeeklyTimesheet(employeeId, weekStart, sourceWeekStart);
+    }
+
+    private HistoricalWeekCache.Scope scope(Long employeeId) {
+        return employeeId != null ? HistoricalWeekCache.Scope.EMPLOYEE : HistoricalWeekCache.Scope.PROJECT;
+    }
+
+    private Long scopeId(Long employeeId, Long projectId) {
+        return employeeId != null ? employeeId : projectId;
+    }
+}
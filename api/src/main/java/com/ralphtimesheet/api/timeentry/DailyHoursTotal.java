@@ -0,0 +1,15 @@
+package com.ralphtimesheet.api.timeentry;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface DailyHoursTotal {
+
+    LocalDate getDate();
+
+    Long getEmployeeId();
+
+    Long getProjectId();
+
+    BigDecimal getHours();
+}
@@ -0,0 +1,275 @@
+package com.ralphtimesheet.api.timeentry;
+
+import com.ralphtimesheet.api.collection.LongCounterMap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+public class EmployeeDayIndex {
+
+    private static final BigDecimal QUARTERS_PER_HOUR = BigDecimal.valueOf(4);
+    private static final int DAYS_PER_YEAR = 365;
+    private static final int INITIAL_DAYS = 64;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int COUNTER_SLOT_BYTES = 2 * Long.BYTES;
+    private static final int MAX_LOAD_ROUNDS = 3;
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final EmployeeDayIndexProperties properties;
+    private final TimeEntryArchiveProperties archiveProperties;
+    private final Map<Long, EmployeeDays> employees = new HashMap<>();
+    private final Object loadLock = new Object();
+    private LocalDate coveredFrom;
+    private Set<Long> staleEmployees;
+    private boolean staleAll;
+
+    public EmployeeDayIndex(
+        TimeEntryRepository timeEntryRepository,
+        EmployeeDayIndexProperties properties,
+        TimeEntryArchiveProperties archiveProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.timeEntryRepository = timeEntryRepository;
+        this.properties = properties;
+        this.archiveProperties = archiveProperties;
+        Gauge.builder("timesheet.time-entries.day-index.employees", this, EmployeeDayIndex::getEmployeeCount)
+            .register(meterRegistry);
+        Gauge.builder("timesheet.time-entries.day-index.bytes", this, EmployeeDayIndex::getEstimatedBytes)
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("timesheet.time-entries.day-index.bytes-per-employee-year", this,
+                EmployeeDayIndex::getEstimatedBytesPerEmployeeYear)
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isEnabled()) {
+            load();
+        }
+    }
+
+    @Scheduled(
+        fixedDelayString = "${timesheet.time-entries.day-index.reconcile-interval:PT15M}",
+        initialDelayString = "${timesheet.time-entries.day-index.reconcile-interval:PT15M}"
+    )
+    public void reconcile() {
+        if (properties.isEnabled() && isLoaded()) {
+            load();
+        }
+    }
+
+    /**
+     * Events committed while the totals query runs may or may not be part of its result, so the employees
+     * they touch are re-read after the swap; a bulk change during a load forces another full pass.
+     */
+    public void load() {
+        synchronized (loadLock) {
+            LocalDate since = archiveProperties.cutoff(LocalDate.now());
+            Set<Long> reload = null;
+            int rows = 0;
+            for (int round = 0; round < MAX_LOAD_ROUNDS && (reload == null || !reload.isEmpty()); round++) {
+                synchronized (employees) {
+                    staleEmployees = new HashSet<>();
+                    staleAll = false;
+                }
+                List<DailyHoursTotal> totals = reload == null
+                    ? timeEntryRepository.sumHoursByDaySince(since)
+                    : timeEntryRepository.sumHoursByDaySinceForEmployees(since, reload);
+                Map<Long, EmployeeDays> loaded = new HashMap<>();
+                for (DailyHoursTotal total : totals) {
+                    add(loaded, total.getEmployeeId(), total.getProjectId(), total.getDate(),
+                        quarterHours(total.getHours()));
+                }
+                synchronized (employees) {
+                    if (reload == null) {
+                        employees.clear();
+                        coveredFrom = since;
+                    } else {
+                        employees.keySet().removeAll(reload);
+                    }
+                    employees.putAll(loaded);
+                    reload = staleAll ? null : staleEmployees;
+                    staleEmployees = null;
+                }
+                rows += totals.size();
+            }
+            if (reload == null || !reload.isEmpty()) {
+                log.debug("Day index still has concurrent changes after {} load rounds; next reconcile catches up",
+                    MAX_LOAD_ROUNDS);
+            }
+            log.info("Loaded day index for {} employees from {} daily totals since {} (~{} bytes per employee-year)",
+                getEmployeeCount(), rows, since, Math.round(getEstimatedBytesPerEmployeeYear()));
+        }
+    }
+
+    public boolean isLoaded() {
+        synchronized (employees) {
+            return coveredFrom != null;
+        }
+    }
+
+    public boolean covers(LocalDate date) {
+        synchronized (employees) {
+            return coveredFrom != null && !date.isBefore(coveredFrom);
+        }
+    }
+
+    public BigDecimal hoursOn(Long employeeId, Long projectId, LocalDate date) {
+        synchronized (employees) {
+            EmployeeDays days = employees.get(employeeId);
+            if (days == null) {
+                return hours(0);
+            }
+            return hours(projectId == null ? days.totalOn(date.toEpochDay()) : days.projectOn(projectId, date.toEpochDay()));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        synchronized (employees) {
+            if (staleEmployees != null) {
+                markStale(event.getBefore());
+                markStale(event.getAfter());
+            }
+            if (coveredFrom == null) {
+                return;
+            }
+            record(event.getBefore(), -1);
+            record(event.getAfter(), 1);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTimeEntriesBulkChanged(TimeEntryBulkChangedEvent event) {
+        synchronized (employees) {
+            if (staleEmployees != null) {
+                staleAll = true;
+                return;
+            }
+            if (coveredFrom == null || event.getEndDate() != null && event.getEndDate().isBefore(coveredFrom)) {
+                return;
+            }
+        }
+        load();
+    }
+
+    public int getEmployeeCount() {
+        synchronized (employees) {
+            return employees.size();
+        }
+    }
+
+    public long getEstimatedBytes() {
+        synchronized (employees) {
+            return employees.values().stream().mapToLong(EmployeeDays::estimatedBytes).sum();
+        }
+    }
+
+    public double getEstimatedBytesPerEmployeeYear() {
+        synchronized (employees) {
+            long spannedDays = employees.values().stream().mapToLong(EmployeeDays::spannedDays).sum();
+            return spannedDays == 0 ? 0 : getEstimatedBytes() * (double) DAYS_PER_YEAR / spannedDays;
+        }
+    }
+
+    private void record(TimeEntrySnapshot snapshot, int sign) {
+        if (snapshot != null && !snapshot.getDate().isBefore(coveredFrom)) {
+            add(employees, snapshot.getEmployeeId(), snapshot.getProjectId(), snapshot.getDate(),
+                sign * quarterHours(snapshot.getHours()));
+        }
+    }
+
+    private void markStale(TimeEntrySnapshot snapshot) {
+        if (snapshot != null) {
+            staleEmployees.add(snapshot.getEmployeeId());
+        }
+    }
+
+    private static void add(Map<Long, EmployeeDays> target, Long employeeId, Long projectId, LocalDate date,
+        int quarterHours) {
+        target.computeIfAbsent(employeeId, id -> new EmployeeDays())
+            .add(projectId, date.toEpochDay(), quarterHours);
+    }
+
+    private static int quarterHours(BigDecimal hours) {
+        return hours.multiply(QUARTERS_PER_HOUR).intValue();
+    }
+
+    private static BigDecimal hours(long quarterHours) {
+        return BigDecimal.valueOf(quarterHours).divide(QUARTERS_PER_HOUR).setScale(2);
+    }
+
+    private static final class EmployeeDays {
+
+        private final LongCounterMap projectDays = new LongCounterMap();
+        private int[] quarterHours = new int[0];
+        private long firstEpochDay;
+        private long minEpochDay = Long.MAX_VALUE;
+        private long maxEpochDay = Long.MIN_VALUE;
+
+        private void add(long projectId, long epochDay, int delta) {
+            ensureCapacity(epochDay);
+            quarterHours[(int) (epochDay - firstEpochDay)] += delta;
+            projectDays.add(projectDayKey(projectId, epochDay), delta);
+            minEpochDay = Math.min(minEpochDay, epochDay);
+            maxEpochDay = Math.max(maxEpochDay, epochDay);
+        }
+
+        private int totalOn(long epochDay) {
+            long offset = epochDay - firstEpochDay;
+            return offset < 0 || offset >= quarterHours.length ? 0 : quarterHours[(int) offset];
+        }
+
+        private long projectOn(long projectId, long epochDay) {
+            return projectDays.get(projectDayKey(projectId, epochDay));
+        }
+
+        private long spannedDays() {
+            return quarterHours.length == 0 ? 0 : maxEpochDay - minEpochDay + 1;
+        }
+
+        private long estimatedBytes() {
+            return ARRAY_HEADER_BYTES + (long) quarterHours.length * Integer.BYTES
+                + (long) projectDays.capacity() * COUNTER_SLOT_BYTES;
+        }
+
+        private void ensureCapacity(long epochDay) {
+            if (quarterHours.length == 0) {
+                firstEpochDay = epochDay;
+                quarterHours = new int[INITIAL_DAYS];
+                return;
+            }
+            if (epochDay < firstEpochDay) {
+                int shift = (int) Math.max(firstEpochDay - epochDay, quarterHours.length / 2);
+                int[] grown = new int[quarterHours.length + shift];
+                System.arraycopy(quarterHours, 0, grown, shift, quarterHours.length);
+                quarterHours = grown;
+                firstEpochDay -= shift;
+            } else if (epochDay - firstEpochDay >= quarterHours.length) {
+                int needed = (int) (epochDay - firstEpochDay + 1);
+                quarterHours = Arrays.copyOf(quarterHours, Math.max(needed, quarterHours.length * 2));
+            }
+        }
+
+        private static long projectDayKey(long projectId, long epochDay) {
+            return projectId << 32 | (epochDay & 0xFFFFFFFFL);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.ralphtimesheet.api.timeentry;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "timesheet.time-entries.day-index")
+public class EmployeeDayIndexProperties {
+
+    private boolean enabled = true;
+
+    private Duration reconcileInterval = Duration.ofMinutes(15);
+}
@@ -0,0 +1,163 @@
+package com.ralphtimesheet.api.timeentry;
+
+import com.ralphtimesheet.api.employee.EmployeeChangedEvent;
+import com.ralphtimesheet.api.project.ProjectChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongFunction;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class HistoricalWeekCache {
+
+    public enum Scope {
+        EMPLOYEE,
+        PROJECT
+    }
+
+    public enum View {
+        LIST,
+        SUMMARY
+    }
+
+    private final HistoricalWeekCacheProperties properties;
+    private final Map<Key, Object> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private long generation;
+
+    public HistoricalWeekCache(HistoricalWeekCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                return size() > properties.getMaxEntries();
+            }
+        };
+        this.hits = meterRegistry.counter("timesheet.time-entries.week-cache.requests", "outcome", "hit");
+        this.misses = meterRegistry.counter("timesheet.time-entries.week-cache.requests", "outcome", "miss");
+        Gauge.builder("timesheet.time-entries.week-cache.size", this, HistoricalWeekCache::size)
+            .register(meterRegistry);
+        Gauge.builder("timesheet.time-entries.week-cache.hit-rate", this, HistoricalWeekCache::getHitRate)
+            .register(meterRegistry);
+    }
+
+    public static LocalDate weekStartOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    public boolean isCacheable(LocalDate weekStart, LocalDate weekEnd) {
+        return properties.isEnabled()
+            && weekStart != null
+            && weekStart.getDayOfWeek() == DayOfWeek.MONDAY
+            && weekStart.plusDays(6).equals(weekEnd)
+            && weekStart.isBefore(weekStartOf(LocalDate.now()));
+    }
+
+    /**
+     * The loader receives the generation observed before loading; a result is only cached if no change was
+     * committed since, so any sharing of in-flight loads must be keyed by that generation as well.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrLoad(Scope scope, Long id, LocalDate weekStart, View view, LongFunction<T> loader) {
+        Key key = new Key(scope, id, weekStart, view);
+        long observedGeneration;
+        synchronized (entries) {
+            Object cached = entries.get(key);
+            if (cached != null) {
+                hits.increment();
+                return (T) cached;
+            }
+            observedGeneration = generation;
+        }
+
+        misses.increment();
+        T value = loader.apply(observedGeneration);
+        synchronized (entries) {
+            if (generation == observedGeneration && value != null) {
+                entries.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    @TransactionalEventListener
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        synchronized (entries) {
+            generation++;
+            evict(event.getBefore());
+            evict(event.getAfter());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTimeEntriesBulkChanged(TimeEntryBulkChangedEvent event) {
+        synchronized (entries) {
+            generation++;
+            entries.keySet().removeIf(key -> key.touchedBy(event));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        clear();
+    }
+
+    @TransactionalEventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        clear();
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    public double getHitRate() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void evict(TimeEntrySnapshot snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+
+        LocalDate weekStart = weekStartOf(snapshot.getDate());
+        for (View view : View.values()) {
+            entries.remove(new Key(Scope.EMPLOYEE, snapshot.getEmployeeId(), weekStart, view));
+            entries.remove(new Key(Scope.PROJECT, snapshot.getProjectId(), weekStart, view));
+        }
+    }
+
+    private record Key(Scope scope, Long id, LocalDate weekStart, View view) {
+
+        boolean touchedBy(TimeEntryBulkChangedEvent event) {
+            LocalDate weekEnd = weekStart.plusDays(6);
+            boolean inRange = (event.getStartDate() == null || !weekEnd.isBefore(event.getStartDate()))
+                && (event.getEndDate() == null || !weekStart.isAfter(event.getEndDate()));
+            if (!inRange) {
+                return false;
+            }
+            if (scope == Scope.EMPLOYEE) {
+                return event.getEmployeeId() == null || event.getEmployeeId().equals(id);
+            }
+            return event.touches(null, id);
+        }
+    }
+}
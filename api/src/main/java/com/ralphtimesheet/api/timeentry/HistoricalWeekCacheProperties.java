@@ -0,0 +1,15 @@
+package com.ralphtimesheet.api.timeentry;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "timesheet.time-entries.week-cache")
+public class HistoricalWeekCacheProperties {
+
+    private boolean enabled = true;
+
+    private int maxEntries = 5000;
+}
@@ -0,0 +1,20 @@
+package com.ralphtimesheet.api.timeentry;
+
+import com.ralphtimesheet.api.project.BudgetEnforcement;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface ProjectDayTotal {
+
+    LocalDate getDate();
+
+    Long getProjectId();
+
+    Boolean getActive();
+
+    BudgetEnforcement getBudgetEnforcement();
+
+    Long getEntries();
+
+    BigDecimal getHours();
+}
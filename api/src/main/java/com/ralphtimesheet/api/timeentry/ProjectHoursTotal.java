@@ -0,0 +1,10 @@
+package com.ralphtimesheet.api.timeentry;
+
+import java.math.BigDecimal;
+
+public interface ProjectHoursTotal {
+
+    Long getProjectId();
+
+    BigDecimal getHours();
+}
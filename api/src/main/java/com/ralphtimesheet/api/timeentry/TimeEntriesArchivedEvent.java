@@ -0,0 +1,12 @@
+package com.ralphtimesheet.api.timeentry;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TimeEntriesArchivedEvent {
+
+    private final List<Long> ids;
+}
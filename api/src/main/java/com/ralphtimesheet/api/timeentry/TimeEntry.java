@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,9 +19,17 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
-@Table(name = "time_entries")
+@Table(
+    name = "time_entries",
+    indexes = {
+        @Index(name = "idx_time_entries_employee_date", columnList = "employee_id, date"),
+        @Index(name = "idx_time_entries_project_date", columnList = "project_id, date")
+    }
+)
+@DynamicUpdate
 @Getter
 @Setter
 @Builder
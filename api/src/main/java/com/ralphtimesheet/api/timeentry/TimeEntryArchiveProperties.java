@@ -0,0 +1,21 @@
+package com.ralphtimesheet.api.timeentry;
+
+import java.time.LocalDate;
+import java.time.Period;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "timesheet.time-entries.archive")
+public class TimeEntryArchiveProperties {
+
+    private Period horizon = Period.ofYears(2);
+
+    private int batchSize = 1000;
+
+    public LocalDate cutoff(LocalDate today) {
+        return today.minus(horizon);
+    }
+}
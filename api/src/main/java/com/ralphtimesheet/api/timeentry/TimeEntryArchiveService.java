@@ -0,0 +1,8 @@
+package com.ralphtimesheet.api.timeentry;
+
+import com.ralphtimesheet.api.timeentry.dto.ArchiveRunResponse;
+
+public interface TimeEntryArchiveService {
+
+    ArchiveRunResponse archiveEntries();
+}
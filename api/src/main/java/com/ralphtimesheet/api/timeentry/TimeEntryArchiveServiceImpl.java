@@ -0,0 +1,53 @@
+package com.ralphtimesheet.api.timeentry;
+
+import com.ralphtimesheet.api.timeentry.dto.ArchiveRunResponse;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimeEntryArchiveServiceImpl implements TimeEntryArchiveService {
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final ArchivedTimeEntryRepository archivedTimeEntryRepository;
+    private final TimeEntryViewRepository timeEntryViewRepository;
+    private final ArchivedTimeEntryViewRepository archivedTimeEntryViewRepository;
+    private final TimeEntryArchiveProperties archiveProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${timesheet.time-entries.archive.cron:-}")
+    public ArchiveRunResponse archiveEntries() {
+        LocalDate cutoff = archiveProperties.cutoff(LocalDate.now());
+        Instant archivedAt = Instant.now();
+        // Lock the candidate rows first and move exactly those ids: rows written after the lock
+        // stay in the hot table for the next run instead of being deleted without an archive copy.
+        List<Long> ids = timeEntryRepository.lockIdsOlderThan(cutoff);
+        int archived = 0;
+        for (int from = 0; from < ids.size(); from += archiveProperties.getBatchSize()) {
+            List<Long> batch = ids.subList(from, Math.min(from + archiveProperties.getBatchSize(), ids.size()));
+            archived += archivedTimeEntryRepository.archiveByIds(batch, archivedAt);
+            timeEntryRepository.deleteByIds(batch);
+            archivedTimeEntryViewRepository.archiveByIds(batch);
+            timeEntryViewRepository.deleteByIds(batch);
+        }
+        if (!ids.isEmpty()) {
+            eventPublisher.publishEvent(new TimeEntriesArchivedEvent(ids));
+        }
+        log.info("Archived {} time entries dated before {}", archived, cutoff);
+
+        return ArchiveRunResponse.builder()
+            .cutoff(cutoff)
+            .archived(archived)
+            .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.ralphtimesheet.api.timeentry;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class TimeEntryBulkChangedEvent {
+
+    private final TimeEntryChangeType type;
+    private final Long employeeId;
+    private final Long projectId;
+    private final Long targetProjectId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final long affected;
+
+    public boolean touches(Long employeeId, Long projectId) {
+        boolean employeeMatches = employeeId == null || this.employeeId == null || employeeId.equals(this.employeeId);
+        boolean projectMatches = projectId == null
+            || this.projectId == null
+            || projectId.equals(this.projectId)
+            || projectId.equals(targetProjectId);
+        return employeeMatches && projectMatches;
+    }
+}
@@ -0,0 +1,13 @@
+package com.ralphtimesheet.api.timeentry;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "timesheet.time-entries.bulk")
+public class TimeEntryBulkProperties {
+
+    private long maxAffectedRows = 5000;
+}
@@ -0,0 +1,19 @@
+package com.ralphtimesheet.api.timeentry;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "timesheet.time-entries.change-feed")
+public class TimeEntryChangeFeedProperties {
+
+    /**
+     * How long a recorded change is held back before the feed serves it. Sequences are assigned at insert
+     * but become visible at commit, so a cursor can skip a lower sequence that commits late. No change is
+     * skipped as long as this lag is at least twice the longest transaction that records changes.
+     */
+    private Duration commitLag = Duration.ofMinutes(1);
+}
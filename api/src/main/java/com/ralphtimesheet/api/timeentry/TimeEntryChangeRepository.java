@@ -0,0 +1,40 @@
+package com.ralphtimesheet.api.timeentry;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TimeEntryChangeRepository extends JpaRepository<TimeEntryChange, Long> {
+
+    List<TimeEntryChange> findBySequenceGreaterThanOrderBySequenceAsc(Long sequence, Limit limit);
+
+    @Modifying(flushAutomatically = true)
+    @Query("insert into TimeEntryChange (timeEntryId, type, employeeId, projectId, date, hours, description, changedAt)"
+        + " select e.id, :type, e.employee.id, coalesce(:targetProjectId, e.project.id), e.date, e.hours, e.description, :changedAt"
+        + " from TimeEntry e where " + TimeEntryRepository.FILTER_PREDICATE)
+    int recordMatching(
+        @Param("type") TimeEntryChangeType type,
+        @Param("targetProjectId") Long targetProjectId,
+        @Param("changedAt") Instant changedAt,
+        @Param("employeeId") Long employeeId,
+        @Param("projectId") Long projectId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query("insert into TimeEntryChange (timeEntryId, type, employeeId, projectId, date, hours, description, changedAt)"
+        + " select e.id, :type, e.employee.id, e.project.id, e.date, e.hours, e.description, :changedAt"
+        + " from TimeEntry e where e.id in :ids")
+    int recordByIds(
+        @Param("type") TimeEntryChangeType type,
+        @Param("changedAt") Instant changedAt,
+        @Param("ids") Collection<Long> ids
+    );
+}
@@ -0,0 +1,9 @@
+package com.ralphtimesheet.api.timeentry;
+
+public enum TimeEntryChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    BULK_DELETED,
+    BULK_REASSIGNED
+}
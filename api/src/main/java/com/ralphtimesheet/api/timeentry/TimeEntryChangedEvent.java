@@ -0,0 +1,39 @@
+package com.ralphtimesheet.api.timeentry;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TimeEntryChangedEvent {
+
+    private final TimeEntryChangeType type;
+    private final TimeEntrySnapshot before;
+    private final TimeEntrySnapshot after;
+
+    public static TimeEntryChangedEvent created(TimeEntrySnapshot after) {
+        return new TimeEntryChangedEvent(TimeEntryChangeType.CREATED, null, after);
+    }
+
+    public static TimeEntryChangedEvent updated(TimeEntrySnapshot before, TimeEntrySnapshot after) {
+        return new TimeEntryChangedEvent(TimeEntryChangeType.UPDATED, before, after);
+    }
+
+    public static TimeEntryChangedEvent deleted(TimeEntrySnapshot before) {
+        return new TimeEntryChangedEvent(TimeEntryChangeType.DELETED, before, null);
+    }
+
+    public Long getTimeEntryId() {
+        return after != null ? after.getId() : before.getId();
+    }
+
+    public boolean touches(Long employeeId, Long projectId) {
+        return matches(before, employeeId, projectId) || matches(after, employeeId, projectId);
+    }
+
+    private static boolean matches(TimeEntrySnapshot snapshot, Long employeeId, Long projectId) {
+        return snapshot != null
+            && (employeeId == null || employeeId.equals(snapshot.getEmployeeId()))
+            && (projectId == null || projectId.equals(snapshot.getProjectId()));
+    }
+}
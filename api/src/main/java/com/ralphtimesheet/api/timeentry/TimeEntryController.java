@@ -1,28 +1,48 @@
 package com.ralphtimesheet.api.timeentry;
 
+import com.ralphtimesheet.api.idempotency.IdempotencyStore;
+import com.ralphtimesheet.api.ingest.TimeEntryIngestQueue;
+import com.ralphtimesheet.api.ratelimit.ClientKeyResolver;
+import com.ralphtimesheet.api.timeentry.dto.ArchiveRunResponse;
+import com.ralphtimesheet.api.timeentry.dto.BulkOperationResponse;
+import com.ralphtimesheet.api.timeentry.dto.BulkReassignRequest;
+import com.ralphtimesheet.api.timeentry.dto.ReadModelConsistencyResponse;
+import com.ralphtimesheet.api.timeentry.dto.ReadModelRebuildResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryChangeFeedResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryPatchRequest;
 import com.ralphtimesheet.api.timeentry.dto.TimeEntryRequest;
 import com.ralphtimesheet.api.timeentry.dto.TimeEntryResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntrySearchResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryValidationResponse;
+import com.ralphtimesheet.api.timeentry.dto.WeeklySummaryResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @RestController
 @RequestMapping("/api/v1/time-entries")
@@ -31,6 +51,12 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 public class TimeEntryController {
 
     private final TimeEntryService timeEntryService;
+    private final TimeEntryArchiveService timeEntryArchiveService;
+    private final TimeEntryReadModelService timeEntryReadModelService;
+    private final TimeEntryEventBus timeEntryEventBus;
+    private final IdempotencyStore idempotencyStore;
+    private final TimeEntryIngestQueue timeEntryIngestQueue;
+    private final ClientKeyResolver clientKeyResolver;
 
     @Operation(summary = "List time entries", description = "Retrieve time entries with optional filters")
     @ApiResponse(responseCode = "200", description = "Time entries retrieved successfully.")
@@ -44,6 +70,76 @@ public class TimeEntryController {
         return timeEntryService.getTimeEntries(employeeId, projectId, startDate, endDate);
     }
 
+    @Operation(
+        summary = "Stream time entry changes",
+        description = "Server-Sent Events stream of committed time entry changes, optionally filtered by employee or project."
+    )
+    @ApiResponse(responseCode = "200", description = "Event stream opened.")
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTimeEntryChanges(
+        @RequestParam(required = false) Long employeeId,
+        @RequestParam(required = false) Long projectId
+    ) {
+        return timeEntryEventBus.subscribe(employeeId, projectId);
+    }
+
+    @Operation(
+        summary = "Weekly summary",
+        description = "Daily and total hours for an employee or project over the ISO week starting on weekStart."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Weekly summary retrieved successfully."),
+        @ApiResponse(responseCode = "400", description = "Missing scope or weekStart is not a Monday.")
+    })
+    @GetMapping("/summary/weekly")
+    public WeeklySummaryResponse getWeeklySummary(
+        @RequestParam(required = false) Long employeeId,
+        @RequestParam(required = false) Long projectId,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStart
+    ) {
+        return timeEntryService.getWeeklySummary(employeeId, projectId, weekStart);
+    }
+
+    @Operation(
+        summary = "List time entry changes",
+        description = "Return changes recorded after the given cursor in sequence order, including tombstones for deletes."
+            + " Changes are served once they are older than the configured commit lag, so a cursor never moves past"
+            + " a change that has not committed yet."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Changes retrieved successfully."),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or limit.")
+    })
+    @GetMapping("/changes")
+    public TimeEntryChangeFeedResponse getChanges(
+        @RequestParam(defaultValue = "0") long since,
+        @RequestParam(defaultValue = "100") int limit
+    ) {
+        return timeEntryService.getChanges(since, limit);
+    }
+
+    @Operation(
+        summary = "Search time entries",
+        description = "Full-text search over descriptions of current and archived entries. Terms are combined with AND;"
+            + " a trailing * matches by prefix. Results are ranked by relevance."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Search results retrieved successfully."),
+        @ApiResponse(responseCode = "400", description = "Empty query, invalid paging or date range.")
+    })
+    @GetMapping("/search")
+    public TimeEntrySearchResponse searchTimeEntries(
+        @RequestParam String q,
+        @RequestParam(required = false) Long employeeId,
+        @RequestParam(required = false) Long projectId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        return timeEntryService.searchTimeEntries(q, employeeId, projectId, startDate, endDate, page, size);
+    }
+
     @Operation(summary = "Get time entry", description = "Retrieve a time entry by id.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Time entry retrieved successfully."),
@@ -57,17 +153,59 @@ public class TimeEntryController {
     @Operation(summary = "Create time entry", description = "Log hours against a project and employee.")
     @ApiResponses({
         @ApiResponse(responseCode = "201", description = "Time entry created successfully."),
-        @ApiResponse(responseCode = "400", description = "Validation failed.")
+        @ApiResponse(responseCode = "400", description = "Validation failed."),
+        @ApiResponse(responseCode = "409", description = "A request with the same idempotency key is still in progress."),
+        @ApiResponse(responseCode = "422", description = "The idempotency key was used with a different request.")
     })
     @PostMapping
-    public ResponseEntity<TimeEntryResponse> createTimeEntry(@Valid @RequestBody TimeEntryRequest request) {
-        TimeEntryResponse created = timeEntryService.createTimeEntry(request);
-        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
-            .path("/{id}")
-            .buildAndExpand(created.getId())
-            .toUri();
+    public ResponseEntity<TimeEntryResponse> createTimeEntry(
+        @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+        @Valid @RequestBody TimeEntryRequest request,
+        HttpServletRequest httpRequest
+    ) {
+        if (idempotencyKey == null) {
+            return createdResponse(request);
+        }
+        String scope = "POST /api/v1/time-entries|" + clientKeyResolver.resolve(httpRequest);
+        return idempotencyStore.execute(scope, idempotencyKey, request, () -> createdResponse(request));
+    }
 
-        return ResponseEntity.created(location).body(created);
+    @Operation(
+        summary = "Ingest time entry",
+        description = "Queue a time entry for group commit with other high-rate captures. The response is sent once"
+            + " the entry is durably committed."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Time entry committed."),
+        @ApiResponse(responseCode = "400", description = "Validation failed."),
+        @ApiResponse(responseCode = "404", description = "Employee or project not found."),
+        @ApiResponse(responseCode = "503", description = "The ingest queue is full or not accepting entries.")
+    })
+    @PostMapping("/ingest")
+    public CompletableFuture<ResponseEntity<TimeEntryResponse>> ingestTimeEntry(
+        @Valid @RequestBody TimeEntryRequest request
+    ) {
+        UriComponentsBuilder location = ServletUriComponentsBuilder.fromCurrentContextPath()
+            .path("/api/v1/time-entries/{id}");
+        return timeEntryIngestQueue.submit(request)
+            .thenApply(created -> ResponseEntity.created(location.buildAndExpand(created.getId()).toUri()).body(created));
+    }
+
+    @Operation(
+        summary = "Validate time entry",
+        description = "Dry-run every time entry rule against the request without saving it. Pass id to validate an"
+            + " update of an existing entry. All violations are returned together."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Validation report produced."),
+        @ApiResponse(responseCode = "404", description = "Time entry not found.")
+    })
+    @PostMapping("/validate")
+    public TimeEntryValidationResponse validateTimeEntry(
+        @RequestParam(required = false) Long id,
+        @RequestBody TimeEntryRequest request
+    ) {
+        return timeEntryService.validateTimeEntry(id, request);
     }
 
     @Operation(summary = "Update time entry", description = "Update an existing time entry.")
@@ -81,6 +219,20 @@ public class TimeEntryController {
         return timeEntryService.updateTimeEntry(id, request);
     }
 
+    @Operation(
+        summary = "Patch time entry",
+        description = "Partially update a time entry. Omitted fields keep their current values."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Time entry updated successfully."),
+        @ApiResponse(responseCode = "400", description = "Validation failed."),
+        @ApiResponse(responseCode = "404", description = "Time entry not found.")
+    })
+    @PatchMapping("/{id}")
+    public TimeEntryResponse patchTimeEntry(@PathVariable Long id, @Valid @RequestBody TimeEntryPatchRequest request) {
+        return timeEntryService.patchTimeEntry(id, request);
+    }
+
     @Operation(summary = "Delete time entry", description = "Remove a time entry.")
     @ApiResponses({
         @ApiResponse(responseCode = "204", description = "Time entry deleted successfully."),
@@ -91,4 +243,78 @@ public class TimeEntryController {
         timeEntryService.deleteTimeEntry(id);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(
+        summary = "Bulk delete time entries",
+        description = "Delete every time entry matching the filters in a single statement. At least one filter is required."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Matching time entries deleted, or counted when dryRun is set."),
+        @ApiResponse(responseCode = "400", description = "Missing filters or the match count exceeds the bulk limit.")
+    })
+    @DeleteMapping
+    public BulkOperationResponse deleteTimeEntries(
+        @RequestParam(required = false) Long employeeId,
+        @RequestParam(required = false) Long projectId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+        @RequestParam(defaultValue = "false") boolean dryRun
+    ) {
+        return timeEntryService.deleteTimeEntries(employeeId, projectId, startDate, endDate, dryRun);
+    }
+
+    @Operation(
+        summary = "Bulk reassign time entries",
+        description = "Move time entries from one project to another in a single statement."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Matching time entries reassigned, or counted when dryRun is set."),
+        @ApiResponse(responseCode = "400", description = "Validation failed or the match count exceeds the bulk limit."),
+        @ApiResponse(responseCode = "404", description = "Target project not found.")
+    })
+    @PostMapping("/reassign")
+    public BulkOperationResponse reassignTimeEntries(@Valid @RequestBody BulkReassignRequest request) {
+        return timeEntryService.reassignTimeEntries(request);
+    }
+
+    @Operation(
+        summary = "Archive time entries",
+        description = "Move time entries older than the configured archive horizon into the archive table."
+    )
+    @ApiResponse(responseCode = "200", description = "Archive run completed.")
+    @PostMapping("/archive")
+    public ArchiveRunResponse archiveTimeEntries() {
+        return timeEntryArchiveService.archiveEntries();
+    }
+
+    @Operation(
+        summary = "Rebuild the time entry read model",
+        description = "Repopulate the denormalized listing table from current and archived time entries."
+    )
+    @ApiResponse(responseCode = "200", description = "Read model rebuilt.")
+    @PostMapping("/read-model/rebuild")
+    public ReadModelRebuildResponse rebuildReadModel() {
+        return timeEntryReadModelService.rebuild();
+    }
+
+    @Operation(
+        summary = "Check the time entry read model",
+        description = "Compare the denormalized listing table with the source tables and report missing, orphaned"
+            + " and stale rows."
+    )
+    @ApiResponse(responseCode = "200", description = "Consistency report produced.")
+    @GetMapping("/read-model/consistency")
+    public ReadModelConsistencyResponse checkReadModel() {
+        return timeEntryReadModelService.checkConsistency();
+    }
+
+    private ResponseEntity<TimeEntryResponse> createdResponse(TimeEntryRequest request) {
+        TimeEntryResponse created = timeEntryService.createTimeEntry(request);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+            .path("/{id}")
+            .buildAndExpand(created.getId())
+            .toUri();
+
+        return ResponseEntity.created(location).body(created);
+    }
 }
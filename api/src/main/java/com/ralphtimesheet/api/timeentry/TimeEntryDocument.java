@@ -0,0 +1,16 @@
+package com.ralphtimesheet.api.timeentry;
+
+import java.time.LocalDate;
+
+public interface TimeEntryDocument {
+
+    Long getId();
+
+    Long getEmployeeId();
+
+    Long getProjectId();
+
+    LocalDate getDate();
+
+    String getDescription();
+}
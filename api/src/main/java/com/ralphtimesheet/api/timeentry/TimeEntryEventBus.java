@@ -0,0 +1,146 @@
+package com.ralphtimesheet.api.timeentry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+@Slf4j
+@Component
+public class TimeEntryEventBus {
+
+    private final TimeEntryStreamProperties properties;
+    private final Executor dispatcher;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Counter evictions;
+
+    @Autowired
+    public TimeEntryEventBus(TimeEntryStreamProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    TimeEntryEventBus(TimeEntryStreamProperties properties, MeterRegistry meterRegistry, Executor dispatcher) {
+        this.properties = properties;
+        this.dispatcher = dispatcher;
+        this.evictions = meterRegistry.counter("timesheet.time-entries.stream.evictions");
+        meterRegistry.gaugeCollectionSize("timesheet.time-entries.stream.subscribers", Tags.empty(), subscriptions);
+    }
+
+    public SseEmitter subscribe(Long employeeId, Long projectId) {
+        SseEmitter emitter = new SseEmitter(properties.getEmitterTimeout().toMillis());
+        Subscription subscription = new Subscription(
+            emitter,
+            employeeId,
+            projectId,
+            new ArrayBlockingQueue<>(properties.getBufferSize())
+        );
+
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> {
+            subscriptions.remove(subscription);
+            emitter.complete();
+        });
+        emitter.onError(error -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        for (Subscription subscription : subscriptions) {
+            if (event.touches(subscription.employeeId(), subscription.projectId())) {
+                enqueue(subscription, toSseEvent(event.getType(), event));
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTimeEntriesBulkChanged(TimeEntryBulkChangedEvent event) {
+        for (Subscription subscription : subscriptions) {
+            if (event.touches(subscription.employeeId(), subscription.projectId())) {
+                enqueue(subscription, toSseEvent(event.getType(), event));
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    public long getEvictionCount() {
+        return (long) evictions.count();
+    }
+
+    private SseEventBuilder toSseEvent(TimeEntryChangeType type, Object payload) {
+        return SseEmitter.event()
+            .name(type.name().toLowerCase())
+            .data(payload);
+    }
+
+    private void enqueue(Subscription subscription, SseEventBuilder event) {
+        if (!subscription.buffer().offer(event)) {
+            log.warn("Evicting slow time entry stream subscriber after {} buffered events", properties.getBufferSize());
+            evict(subscription);
+            return;
+        }
+        scheduleDrain(subscription);
+    }
+
+    private void scheduleDrain(Subscription subscription) {
+        if (subscription.draining().compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        try {
+            SseEventBuilder event;
+            while ((event = subscription.buffer().poll()) != null) {
+                subscription.emitter().send(event);
+            }
+        } catch (IOException | IllegalStateException ex) {
+            subscription.draining().set(false);
+            evict(subscription);
+            return;
+        }
+
+        subscription.draining().set(false);
+        if (!subscription.buffer().isEmpty()) {
+            scheduleDrain(subscription);
+        }
+    }
+
+    private void evict(Subscription subscription) {
+        if (subscriptions.remove(subscription)) {
+            evictions.increment();
+            subscription.buffer().clear();
+            subscription.emitter().complete();
+        }
+    }
+
+    private record Subscription(
+        SseEmitter emitter,
+        Long employeeId,
+        Long projectId,
+        BlockingQueue<SseEventBuilder> buffer,
+        AtomicBoolean draining
+    ) {
+
+        Subscription(SseEmitter emitter, Long employeeId, Long projectId, BlockingQueue<SseEventBuilder> buffer) {
+            this(emitter, employeeId, projectId, buffer, new AtomicBoolean());
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.ralphtimesheet.api.timeentry;
 
 import com.ralphtimesheet.api.employee.Employee;
 import com.ralphtimesheet.api.project.Project;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryChangeResponse;
 import com.ralphtimesheet.api.timeentry.dto.TimeEntryResponse;
+import java.time.Instant;
 
 public final class TimeEntryMapper {
 
@@ -31,4 +33,35 @@ public final class TimeEntryMapper {
             .description(entry.getDescription())
             .build();
     }
+
+    public static TimeEntryChange toChange(TimeEntryChangeType type, TimeEntrySnapshot snapshot, Instant changedAt) {
+        return TimeEntryChange.builder()
+            .timeEntryId(snapshot.getId())
+            .type(type)
+            .employeeId(snapshot.getEmployeeId())
+            .projectId(snapshot.getProjectId())
+            .date(snapshot.getDate())
+            .hours(snapshot.getHours())
+            .description(snapshot.getDescription())
+            .changedAt(changedAt)
+            .build();
+    }
+
+    public static TimeEntryChangeResponse toChangeResponse(TimeEntryChange change) {
+        if (change == null) {
+            return null;
+        }
+
+        return TimeEntryChangeResponse.builder()
+            .sequence(change.getSequence())
+            .type(change.getType().name())
+            .timeEntryId(change.getTimeEntryId())
+            .employeeId(change.getEmployeeId())
+            .projectId(change.getProjectId())
+            .date(change.getDate())
+            .hours(change.getHours())
+            .description(change.getDescription())
+            .changedAt(change.getChangedAt())
+            .build();
+    }
 }
@@ -0,0 +1,56 @@
+package com.ralphtimesheet.api.timeentry;
+
+import com.ralphtimesheet.api.timeentry.rule.RuleViolation;
+import com.ralphtimesheet.api.timeentry.rule.TimeEntryRulesException;
+import java.net.URI;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice(assignableTypes = {TimeEntryController.class, TimesheetController.class})
+public class TimeEntryProblemHandler {
+
+    static final URI RULES_VIOLATED = URI.create("urn:ralph-timesheet:problem:time-entry-rules");
+    static final URI INVALID_REQUEST = URI.create("urn:ralph-timesheet:problem:invalid-request");
+
+    @ExceptionHandler(TimeEntryRulesException.class)
+    public ProblemDetail handleRulesViolated(TimeEntryRulesException ex) {
+        return problem(RULES_VIOLATED, "Time entry rules violated", ex.getViolations());
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ProblemDetail handleInvalidRequest(MethodArgumentNotValidException ex) {
+        List<RuleViolation> violations = ex.getBindingResult().getFieldErrors()
+            .stream()
+            .map(TimeEntryProblemHandler::toViolation)
+            .toList();
+        return problem(INVALID_REQUEST, "Invalid request", violations);
+    }
+
+    @ExceptionHandler(TimeEntryValidationException.class)
+    public ProblemDetail handleValidation(TimeEntryValidationException ex) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+        problem.setType(INVALID_REQUEST);
+        problem.setTitle("Invalid request");
+        return problem;
+    }
+
+    private static ProblemDetail problem(URI type, String title, List<RuleViolation> violations) {
+        String detail = violations.size() == 1
+            ? violations.get(0).getMessage()
+            : violations.size() + " violations found.";
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, detail);
+        problem.setType(type);
+        problem.setTitle(title);
+        problem.setProperty("violations", violations);
+        return problem;
+    }
+
+    private static RuleViolation toViolation(FieldError error) {
+        return new RuleViolation("constraint." + error.getCode(), error.getField(), error.getDefaultMessage());
+    }
+}
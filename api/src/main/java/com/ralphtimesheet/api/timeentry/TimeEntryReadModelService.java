@@ -0,0 +1,11 @@
+package com.ralphtimesheet.api.timeentry;
+
+import com.ralphtimesheet.api.timeentry.dto.ReadModelConsistencyResponse;
+import com.ralphtimesheet.api.timeentry.dto.ReadModelRebuildResponse;
+
+public interface TimeEntryReadModelService {
+
+    ReadModelRebuildResponse rebuild();
+
+    ReadModelConsistencyResponse checkConsistency();
+}
@@ -0,0 +1,53 @@
+package com.ralphtimesheet.api.timeentry;
+
+import com.ralphtimesheet.api.timeentry.dto.ReadModelConsistencyResponse;
+import com.ralphtimesheet.api.timeentry.dto.ReadModelRebuildResponse;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TimeEntryReadModelServiceImpl implements TimeEntryReadModelService {
+
+    private static final int SAMPLE_SIZE = 100;
+
+    private final TimeEntryViewRepository timeEntryViewRepository;
+    private final ArchivedTimeEntryViewRepository archivedTimeEntryViewRepository;
+
+    @Override
+    public ReadModelRebuildResponse rebuild() {
+        int removed = timeEntryViewRepository.deleteAllRows() + archivedTimeEntryViewRepository.deleteAllRows();
+        int rows = timeEntryViewRepository.insertFromSource() + archivedTimeEntryViewRepository.insertFromSource();
+        log.info("Rebuilt time entry read model with {} rows (replaced {})", rows, removed);
+
+        return ReadModelRebuildResponse.builder()
+            .removed(removed)
+            .rows(rows)
+            .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReadModelConsistencyResponse checkConsistency() {
+        long missing = timeEntryViewRepository.countMissing();
+        long orphaned = timeEntryViewRepository.countOrphaned();
+        long stale = timeEntryViewRepository.countStale();
+
+        return ReadModelConsistencyResponse.builder()
+            .consistent(missing == 0 && orphaned == 0 && stale == 0)
+            .sourceRows(timeEntryViewRepository.countSource())
+            .viewRows(timeEntryViewRepository.countViewRows())
+            .missing(missing)
+            .orphaned(orphaned)
+            .stale(stale)
+            .missingIds(missing == 0 ? List.of() : timeEntryViewRepository.findMissingIds(SAMPLE_SIZE))
+            .orphanedIds(orphaned == 0 ? List.of() : timeEntryViewRepository.findOrphanedIds(SAMPLE_SIZE))
+            .staleIds(stale == 0 ? List.of() : timeEntryViewRepository.findStaleIds(SAMPLE_SIZE))
+            .build();
+    }
+}
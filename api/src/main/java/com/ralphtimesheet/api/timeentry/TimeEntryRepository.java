@@ -1,14 +1,132 @@
 package com.ralphtimesheet.api.timeentry;
 
+import com.ralphtimesheet.api.project.Project;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TimeEntryRepository extends JpaRepository<TimeEntry, Long> {
 
+    String FILTER_PREDICATE = "(:employeeId is null or e.employee.id = :employeeId)"
+        + " and (:projectId is null or e.project.id = :projectId)"
+        + " and (:startDate is null or e.date >= :startDate)"
+        + " and (:endDate is null or e.date <= :endDate)";
+
     List<TimeEntry> findByEmployeeId(Long employeeId);
 
     List<TimeEntry> findByProjectId(Long projectId);
 
     List<TimeEntry> findByEmployeeIdAndDateBetween(Long employeeId, LocalDate startDate, LocalDate endDate);
+
+    @EntityGraph(attributePaths = {"employee", "project"})
+    Optional<TimeEntry> findWithReferencesById(Long id);
+
+    @Query("select e.id as id, e.employee.id as employeeId, e.project.id as projectId, e.date as date,"
+        + " e.description as description from TimeEntry e where e.description is not null")
+    List<TimeEntryDocument> findAllDocuments();
+
+    @EntityGraph(attributePaths = "project")
+    List<TimeEntry> findWithProjectByEmployeeIdAndDateBetween(Long employeeId, LocalDate startDate, LocalDate endDate);
+
+    @Query("select e.date as date, e.employee.id as employeeId, e.project.id as projectId, sum(e.hours) as hours"
+        + " from TimeEntry e where e.date >= :since group by e.date, e.employee.id, e.project.id")
+    List<DailyHoursTotal> sumHoursByDaySince(@Param("since") LocalDate since);
+
+    @Query("select e.date as date, e.employee.id as employeeId, e.project.id as projectId, sum(e.hours) as hours"
+        + " from TimeEntry e where e.date >= :since and e.employee.id in :employeeIds"
+        + " group by e.date, e.employee.id, e.project.id")
+    List<DailyHoursTotal> sumHoursByDaySinceForEmployees(
+        @Param("since") LocalDate since,
+        @Param("employeeIds") Collection<Long> employeeIds
+    );
+
+    @Query("select e.employee.id as employeeId, sum(e.hours) as hours from TimeEntry e"
+        + " where e.date between :startDate and :endDate and (:employeeId is null or e.employee.id = :employeeId)"
+        + " group by e.employee.id")
+    List<EmployeeHoursTotal> sumHoursByEmployeeBetween(
+        @Param("employeeId") Long employeeId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    @Query("select e.project.id as projectId, sum(e.hours) as hours from TimeEntry e group by e.project.id")
+    List<ProjectHoursTotal> sumHoursByProject();
+
+    @Query("select e.id from TimeEntry e where e.employee.id = :employeeId and e.date between :startDate and :endDate")
+    List<Long> findIdsByEmployeeIdAndDateBetween(
+        @Param("employeeId") Long employeeId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    @Query("select e.date as date, p.id as projectId, p.active as active, p.budgetEnforcement as budgetEnforcement,"
+        + " count(e) as entries, sum(e.hours) as hours from TimeEntry e join e.project p where e.employee.id = :employeeId"
+        + " and (e.date between :sourceStart and :sourceEnd or e.date between :targetStart and :targetEnd)"
+        + " group by e.date, p.id, p.active, p.budgetEnforcement")
+    List<ProjectDayTotal> sumHoursByProjectAndDay(
+        @Param("employeeId") Long employeeId,
+        @Param("sourceStart") LocalDate sourceStart,
+        @Param("sourceEnd") LocalDate sourceEnd,
+        @Param("targetStart") LocalDate targetStart,
+        @Param("targetEnd") LocalDate targetEnd
+    );
+
+    @Query("select count(e) from TimeEntry e where " + FILTER_PREDICATE)
+    long countMatching(
+        @Param("employeeId") Long employeeId,
+        @Param("projectId") Long projectId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    @Query("select count(e) as entries, coalesce(sum(e.hours), 0) as hours from TimeEntry e where " + FILTER_PREDICATE)
+    MatchingTotal sumMatching(
+        @Param("employeeId") Long employeeId,
+        @Param("projectId") Long projectId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from TimeEntry e where " + FILTER_PREDICATE)
+    int deleteMatching(
+        @Param("employeeId") Long employeeId,
+        @Param("projectId") Long projectId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TimeEntry e set e.project = :targetProject where " + FILTER_PREDICATE)
+    int reassignMatching(
+        @Param("targetProject") Project targetProject,
+        @Param("employeeId") Long employeeId,
+        @Param("projectId") Long projectId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query("insert into TimeEntry (employee, project, date, hours, description)"
+        + " select e.employee, e.project, e.date + :offset day, e.hours, e.description from TimeEntry e"
+        + " where e.employee.id = :employeeId and e.date between :startDate and :endDate and e.project.active = true")
+    int copyActiveEntries(
+        @Param("employeeId") Long employeeId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate,
+        @Param("offset") long offset
+    );
+
+    @Query(value = "select id from time_entries where date < :cutoff order by id for update", nativeQuery = true)
+    List<Long> lockIdsOlderThan(@Param("cutoff") LocalDate cutoff);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from TimeEntry e where e.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,323 @@
+package com.ralphtimesheet.api.timeentry;
+
+import com.ralphtimesheet.api.collection.LongCounterMap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+public class TimeEntrySearchIndex {
+
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Comparator<Hit> BY_RANK = Comparator
+        .comparingDouble(Hit::score)
+        .thenComparingLong(Hit::epochDay)
+        .thenComparingLong(Hit::id);
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final ArchivedTimeEntryRepository archivedTimeEntryRepository;
+    private final TreeMap<String, LongCounterMap> postings = new TreeMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Object rebuildLock = new Object();
+    private long totalLength;
+    private boolean loaded;
+    private List<Runnable> pendingChanges;
+
+    public TimeEntrySearchIndex(
+        TimeEntryRepository timeEntryRepository,
+        ArchivedTimeEntryRepository archivedTimeEntryRepository,
+        MeterRegistry meterRegistry
+    ) {
+        this.timeEntryRepository = timeEntryRepository;
+        this.archivedTimeEntryRepository = archivedTimeEntryRepository;
+        Gauge.builder("timesheet.time-entries.search.documents", this, TimeEntrySearchIndex::getDocumentCount)
+            .register(meterRegistry);
+        Gauge.builder("timesheet.time-entries.search.terms", this, TimeEntrySearchIndex::getTermCount)
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Changes committed while the documents are being read may or may not be part of the result, so they are
+     * recorded and replayed onto the rebuilt index; every change is applied idempotently.
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (documents) {
+                pendingChanges = new ArrayList<>();
+            }
+            List<TimeEntryDocument> archived = archivedTimeEntryRepository.findAllDocuments();
+            List<TimeEntryDocument> hot = timeEntryRepository.findAllDocuments();
+            synchronized (documents) {
+                postings.clear();
+                documents.clear();
+                totalLength = 0;
+                archived.forEach(document -> add(document, true));
+                hot.forEach(document -> add(document, false));
+                loaded = true;
+                pendingChanges.forEach(Runnable::run);
+                pendingChanges = null;
+            }
+        }
+        log.info("Rebuilt time entry search index with {} documents and {} terms", getDocumentCount(), getTermCount());
+    }
+
+    public boolean isLoaded() {
+        synchronized (documents) {
+            return loaded;
+        }
+    }
+
+    public static List<QueryTerm> parseQuery(String query) {
+        List<QueryTerm> terms = new ArrayList<>();
+        if (query == null) {
+            return terms;
+        }
+        for (String word : query.trim().split("\\s+")) {
+            List<String> tokens = tokenize(word);
+            for (int i = 0; i < tokens.size(); i++) {
+                boolean prefix = i == tokens.size() - 1 && word.endsWith("*");
+                terms.add(new QueryTerm(tokens.get(i), prefix));
+            }
+        }
+        return terms;
+    }
+
+    public Result search(
+        List<QueryTerm> terms,
+        Long employeeId,
+        Long projectId,
+        LocalDate startDate,
+        LocalDate endDate,
+        int offset,
+        int limit
+    ) {
+        long minDay = startDate == null ? Long.MIN_VALUE : startDate.toEpochDay();
+        long maxDay = endDate == null ? Long.MAX_VALUE : endDate.toEpochDay();
+        synchronized (documents) {
+            if (terms.isEmpty() || documents.isEmpty()) {
+                return new Result(0, List.of());
+            }
+            double averageLength = (double) totalLength / documents.size();
+            List<Map<Long, Double>> scoresByTerm = new ArrayList<>(terms.size());
+            for (QueryTerm term : terms) {
+                Map<Long, Double> scores = score(term, averageLength);
+                if (scores.isEmpty()) {
+                    return new Result(0, List.of());
+                }
+                scoresByTerm.add(scores);
+            }
+            scoresByTerm.sort(Comparator.comparingInt(Map::size));
+
+            int keep = offset + limit;
+            PriorityQueue<Hit> heap = new PriorityQueue<>(BY_RANK);
+            long total = 0;
+            for (Map.Entry<Long, Double> candidate : scoresByTerm.get(0).entrySet()) {
+                Document document = documents.get(candidate.getKey());
+                if (!document.matches(employeeId, projectId, minDay, maxDay)) {
+                    continue;
+                }
+                double score = candidate.getValue();
+                boolean matchesAll = true;
+                for (int i = 1; i < scoresByTerm.size() && matchesAll; i++) {
+                    Double termScore = scoresByTerm.get(i).get(candidate.getKey());
+                    matchesAll = termScore != null;
+                    score += matchesAll ? termScore : 0;
+                }
+                if (!matchesAll) {
+                    continue;
+                }
+                total++;
+                heap.offer(new Hit(candidate.getKey(), score, document.epochDay));
+                if (heap.size() > keep) {
+                    heap.poll();
+                }
+            }
+
+            List<Hit> ranked = new ArrayList<>(heap);
+            ranked.sort(BY_RANK.reversed());
+            return new Result(total, offset >= ranked.size() ? List.of() : ranked.subList(offset, ranked.size()));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        apply(() -> {
+            remove(event.getTimeEntryId());
+            if (event.getAfter() != null && event.getAfter().getDescription() != null) {
+                TimeEntrySnapshot after = event.getAfter();
+                add(after.getId(), after.getEmployeeId(), after.getProjectId(), after.getDate(), after.getDescription(),
+                    false);
+            }
+        });
+    }
+
+    @TransactionalEventListener
+    public void onTimeEntriesBulkChanged(TimeEntryBulkChangedEvent event) {
+        long minDay = event.getStartDate() == null ? Long.MIN_VALUE : event.getStartDate().toEpochDay();
+        long maxDay = event.getEndDate() == null ? Long.MAX_VALUE : event.getEndDate().toEpochDay();
+        apply(() -> {
+            List<Long> matching = documents.entrySet().stream()
+                .filter(entry -> !entry.getValue().archived()
+                    && entry.getValue().matches(event.getEmployeeId(), event.getProjectId(), minDay, maxDay))
+                .map(Map.Entry::getKey)
+                .toList();
+            if (event.getType() == TimeEntryChangeType.BULK_REASSIGNED) {
+                matching.forEach(id -> documents.computeIfPresent(id,
+                    (key, document) -> document.withProject(event.getTargetProjectId())));
+            } else {
+                matching.forEach(this::remove);
+            }
+        });
+    }
+
+    @TransactionalEventListener
+    public void onTimeEntriesArchived(TimeEntriesArchivedEvent event) {
+        apply(() -> event.getIds()
+            .forEach(id -> documents.computeIfPresent(id, (key, document) -> document.asArchived())));
+    }
+
+    public int getDocumentCount() {
+        synchronized (documents) {
+            return documents.size();
+        }
+    }
+
+    public int getTermCount() {
+        synchronized (documents) {
+            return postings.size();
+        }
+    }
+
+    private Map<Long, Double> score(QueryTerm term, double averageLength) {
+        Map<String, LongCounterMap> matching = term.prefix()
+            ? postings.subMap(term.text(), true, term.text() + Character.MAX_VALUE, true)
+            : postings.containsKey(term.text()) ? Map.of(term.text(), postings.get(term.text())) : Map.of();
+        Map<Long, Double> scores = new HashMap<>();
+        for (LongCounterMap termPostings : matching.values()) {
+            double idf = Math.log(1 + (documents.size() - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+            termPostings.forEach((id, frequency) -> {
+                double norm = K1 * (1 - B + B * documents.get(id).length / averageLength);
+                double score = idf * frequency * (K1 + 1) / (frequency + norm);
+                scores.merge(id, score, Math::max);
+            });
+        }
+        return scores;
+    }
+
+    private void apply(Runnable change) {
+        synchronized (documents) {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            if (loaded) {
+                change.run();
+            }
+        }
+    }
+
+    private void add(TimeEntryDocument document, boolean archived) {
+        add(document.getId(), document.getEmployeeId(), document.getProjectId(), document.getDate(),
+            document.getDescription(), archived);
+    }
+
+    private void add(Long id, Long employeeId, Long projectId, LocalDate date, String description, boolean archived) {
+        remove(id);
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        for (String token : tokenize(description)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        if (frequencies.isEmpty()) {
+            return;
+        }
+        int length = 0;
+        for (Map.Entry<String, Integer> frequency : frequencies.entrySet()) {
+            postings.computeIfAbsent(frequency.getKey(), term -> new LongCounterMap()).add(id, frequency.getValue());
+            length += frequency.getValue();
+        }
+        documents.put(id, new Document(employeeId, projectId, date.toEpochDay(), length,
+            frequencies.keySet().toArray(String[]::new), archived));
+        totalLength += length;
+    }
+
+    private void remove(Long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms) {
+            LongCounterMap termPostings = postings.get(term);
+            termPostings.remove(id);
+            if (termPostings.size() == 0) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= document.length;
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            tokens.add(matcher.group().toLowerCase(Locale.ROOT));
+        }
+        return tokens;
+    }
+
+    public record QueryTerm(String text, boolean prefix) {
+    }
+
+    public record Hit(long id, double score, long epochDay) {
+    }
+
+    public record Result(long total, List<Hit> hits) {
+    }
+
+    private record Document(
+        long employeeId,
+        long projectId,
+        long epochDay,
+        int length,
+        String[] terms,
+        boolean archived
+    ) {
+
+        private Document withProject(long projectId) {
+            return new Document(employeeId, projectId, epochDay, length, terms, archived);
+        }
+
+        private Document asArchived() {
+            return new Document(employeeId, projectId, epochDay, length, terms, true);
+        }
+
+        private boolean matches(Long employeeId, Long projectId, long minDay, long maxDay) {
+            return (employeeId == null || employeeId == this.employeeId)
+                && (projectId == null || projectId == this.projectId)
+                && epochDay >= minDay
+                && epochDay <= maxDay;
+        }
+    }
+}
@@ -1,8 +1,19 @@
 package com.ralphtimesheet.api.timeentry;
 
+import com.ralphtimesheet.api.timeentry.dto.BulkOperationResponse;
+import com.ralphtimesheet.api.timeentry.dto.BulkReassignRequest;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryChangeFeedResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryPatchRequest;
 import com.ralphtimesheet.api.timeentry.dto.TimeEntryRequest;
 import com.ralphtimesheet.api.timeentry.dto.TimeEntryResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntrySearchResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryValidationResponse;
+import com.ralphtimesheet.api.timeentry.dto.WeeklySummaryResponse;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetCopyResponse;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetRequest;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetResponse;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface TimeEntryService {
@@ -11,9 +22,49 @@ public interface TimeEntryService {
 
     TimeEntryResponse getTimeEntry(Long id);
 
+    List<TimeEntryResponse> getTimeEntriesForEmployees(
+        Collection<Long> employeeIds,
+        LocalDate startDate,
+        LocalDate endDate
+    );
+
+    WeeklySummaryResponse getWeeklySummary(Long employeeId, Long projectId, LocalDate weekStart);
+
+    TimeEntryChangeFeedResponse getChanges(long since, int limit);
+
+    TimeEntrySearchResponse searchTimeEntries(
+        String query,
+        Long employeeId,
+        Long projectId,
+        LocalDate startDate,
+        LocalDate endDate,
+        int page,
+        int size
+    );
+
+    TimeEntryValidationResponse validateTimeEntry(Long id, TimeEntryRequest request);
+
     TimeEntryResponse createTimeEntry(TimeEntryRequest request);
 
+    List<TimeEntryResponse> createTimeEntries(List<TimeEntryRequest> requests);
+
     TimeEntryResponse updateTimeEntry(Long id, TimeEntryRequest request);
 
+    TimeEntryResponse patchTimeEntry(Long id, TimeEntryPatchRequest request);
+
     void deleteTimeEntry(Long id);
+
+    BulkOperationResponse deleteTimeEntries(
+        Long employeeId,
+        Long projectId,
+        LocalDate startDate,
+        LocalDate endDate,
+        boolean dryRun
+    );
+
+    BulkOperationResponse reassignTimeEntries(BulkReassignRequest request);
+
+    WeeklyTimesheetResponse saveWeeklyTimesheet(Long employeeId, LocalDate weekStart, WeeklyTimesheetRequest request);
+
+    WeeklyTimesheetCopyResponse copyWeeklyTimesheet(Long employeeId, LocalDate weekStart, LocalDate sourceWeekStart);
 }
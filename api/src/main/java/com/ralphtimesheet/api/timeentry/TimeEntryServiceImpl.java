@@ -1,18 +1,56 @@
 package com.ralphtimesheet.api.timeentry;
 
+import com.ralphtimesheet.api.calendar.WorkingCalendar;
 import com.ralphtimesheet.api.employee.Employee;
 import com.ralphtimesheet.api.employee.EmployeeNotFoundException;
 import com.ralphtimesheet.api.employee.EmployeeRepository;
+import com.ralphtimesheet.api.project.BudgetEnforcement;
 import com.ralphtimesheet.api.project.Project;
 import com.ralphtimesheet.api.project.ProjectNotFoundException;
 import com.ralphtimesheet.api.project.ProjectRepository;
+import com.ralphtimesheet.api.timeentry.dto.BulkOperationResponse;
+import com.ralphtimesheet.api.timeentry.dto.BulkReassignRequest;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryChangeFeedResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryChangeResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryPatchRequest;
 import com.ralphtimesheet.api.timeentry.dto.TimeEntryRequest;
+import com.ralphtimesheet.api.timeentry.dto.DailyHoursResponse;
 import com.ralphtimesheet.api.timeentry.dto.TimeEntryResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntrySearchHitResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntrySearchResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryValidationResponse;
+import com.ralphtimesheet.api.timeentry.dto.WeeklySummaryResponse;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetCopyResponse;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetRequest;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetResponse;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetRowRequest;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetRowResponse;
+import com.ralphtimesheet.api.timeentry.rule.DailyHourLimitRule;
+import com.ralphtimesheet.api.timeentry.rule.ProjectBudgetRule;
+import com.ralphtimesheet.api.timeentry.rule.RuleViolation;
+import com.ralphtimesheet.api.timeentry.rule.TimeEntryCandidate;
+import com.ralphtimesheet.api.timeentry.rule.TimeEntryRuleEngine;
 import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,49 +59,214 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class TimeEntryServiceImpl implements TimeEntryService {
 
-    private static final BigDecimal QUARTER_HOUR_INCREMENT = new BigDecimal("0.25");
-    private static final BigDecimal DAILY_HOUR_LIMIT = new BigDecimal("24.00");
+    private static final int MAX_CHANGE_FEED_LIMIT = 1000;
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_WINDOW = 10_000;
 
     private final TimeEntryRepository timeEntryRepository;
+    private final TimeEntryChangeRepository timeEntryChangeRepository;
+    private final ArchivedTimeEntryRepository archivedTimeEntryRepository;
+    private final TimeEntryViewRepository timeEntryViewRepository;
     private final EmployeeRepository employeeRepository;
     private final ProjectRepository projectRepository;
+    private final TimeEntryBulkProperties bulkProperties;
+    private final TimeEntryArchiveProperties archiveProperties;
+    private final TimeEntryChangeFeedProperties changeFeedProperties;
+    private final EmployeeDayIndex employeeDayIndex;
+    private final TimeEntrySearchIndex timeEntrySearchIndex;
+    private final TimeEntryRuleEngine ruleEngine;
+    private final WorkingCalendar workingCalendar;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
     public List<TimeEntryResponse> getTimeEntries(Long employeeId, Long projectId, LocalDate startDate, LocalDate endDate) {
-        List<TimeEntry> entries;
-
-        if (employeeId != null && startDate != null && endDate != null) {
-            entries = timeEntryRepository.findByEmployeeIdAndDateBetween(employeeId, startDate, endDate);
-        } else if (employeeId != null) {
-            entries = timeEntryRepository.findByEmployeeId(employeeId);
-        } else if (projectId != null) {
-            entries = timeEntryRepository.findByProjectId(projectId);
+        if (!reachesArchive(startDate)) {
+            return timeEntryViewRepository.findMatching(employeeId, projectId, startDate, endDate);
+        }
+        return sorted(timeEntryViewRepository.findMatchingWithArchive(employeeId, projectId, startDate, endDate));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TimeEntryResponse getTimeEntry(Long id) {
+        return timeEntryViewRepository.findResponseById(id)
+            .orElseThrow(() -> new TimeEntryNotFoundException(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeEntryResponse> getTimeEntriesForEmployees(
+        Collection<Long> employeeIds,
+        LocalDate startDate,
+        LocalDate endDate
+    ) {
+        if (employeeIds.isEmpty()) {
+            return List.of();
+        }
+        if (!reachesArchive(startDate)) {
+            return timeEntryViewRepository.findMatchingEmployees(Set.copyOf(employeeIds), startDate, endDate);
+        }
+        return sorted(timeEntryViewRepository.findMatchingEmployeesWithArchive(Set.copyOf(employeeIds), startDate,
+            endDate));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public WeeklySummaryResponse getWeeklySummary(Long employeeId, Long projectId, LocalDate weekStart) {
+        if (employeeId == null && projectId == null) {
+            throw new TimeEntryValidationException("An employee or project is required for a weekly summary.");
+        }
+        if (weekStart.getDayOfWeek() != DayOfWeek.MONDAY) {
+            throw new TimeEntryValidationException("Week start must be a Monday.");
+        }
+
+        LocalDate weekEnd = weekStart.plusDays(6);
+        Function<LocalDate, BigDecimal> hoursOn;
+        if (employeeId != null && indexCovers(weekStart)) {
+            hoursOn = date -> employeeDayIndex.hoursOn(employeeId, projectId, date);
         } else {
-            entries = timeEntryRepository.findAll();
+            Map<LocalDate, BigDecimal> hoursByDate = getTimeEntries(employeeId, projectId, weekStart, weekEnd)
+                .stream()
+                .collect(Collectors.toMap(TimeEntryResponse::getDate, TimeEntryResponse::getHours, BigDecimal::add));
+            hoursOn = date -> hoursByDate.getOrDefault(date, BigDecimal.ZERO);
         }
 
-        return entries.stream()
-            .filter(entry -> projectId == null || entry.getProject().getId().equals(projectId))
-            .filter(entry -> startDate == null || !entry.getDate().isBefore(startDate))
-            .filter(entry -> endDate == null || !entry.getDate().isAfter(endDate))
-            .sorted(Comparator.comparing(TimeEntry::getDate).thenComparing(TimeEntry::getId))
-            .map(TimeEntryMapper::toResponse)
+        List<DailyHoursResponse> days = weekStart.datesUntil(weekEnd.plusDays(1))
+            .map(date -> DailyHoursResponse.builder()
+                .date(date)
+                .hours(hoursOn.apply(date))
+                .build())
             .toList();
+
+        BigDecimal totalHours = days.stream().map(DailyHoursResponse::getHours).reduce(BigDecimal.ZERO, BigDecimal::add);
+        WeeklySummaryResponse.WeeklySummaryResponseBuilder summary = WeeklySummaryResponse.builder()
+            .employeeId(employeeId)
+            .projectId(projectId)
+            .weekStart(weekStart)
+            .weekEnd(weekEnd)
+            .totalHours(totalHours)
+            .days(days);
+        if (employeeId != null && projectId == null) {
+            BigDecimal expectedHours = workingCalendar.expectedHours(weekStart, weekEnd);
+            summary.expectedHours(expectedHours)
+                .overtimeHours(totalHours.subtract(expectedHours).max(BigDecimal.ZERO));
+        }
+        return summary.build();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public TimeEntryResponse getTimeEntry(Long id) {
-        TimeEntry timeEntry = findTimeEntry(id);
-        return TimeEntryMapper.toResponse(timeEntry);
+    public TimeEntryChangeFeedResponse getChanges(long since, int limit) {
+        if (since < 0) {
+            throw new TimeEntryValidationException("Cursor must not be negative.");
+        }
+        if (limit < 1) {
+            throw new TimeEntryValidationException("Limit must be at least 1.");
+        }
+
+        int pageSize = Math.min(limit, MAX_CHANGE_FEED_LIMIT);
+        Instant watermark = Instant.now().minus(changeFeedProperties.getCommitLag());
+        List<TimeEntryChange> changes = timeEntryChangeRepository.findBySequenceGreaterThanOrderBySequenceAsc(
+                since,
+                Limit.of(pageSize + 1)
+            )
+            .stream()
+            .takeWhile(change -> !change.getChangedAt().isAfter(watermark))
+            .toList();
+        boolean hasMore = changes.size() > pageSize;
+        List<TimeEntryChangeResponse> page = changes.stream()
+            .limit(pageSize)
+            .map(TimeEntryMapper::toChangeResponse)
+            .toList();
+        long nextCursor = page.isEmpty() ? since : page.get(page.size() - 1).getSequence();
+
+        return TimeEntryChangeFeedResponse.builder()
+            .changes(page)
+            .nextCursor(nextCursor)
+            .hasMore(hasMore)
+            .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TimeEntrySearchResponse searchTimeEntries(
+        String query,
+        Long employeeId,
+        Long projectId,
+        LocalDate startDate,
+        LocalDate endDate,
+        int page,
+        int size
+    ) {
+        List<TimeEntrySearchIndex.QueryTerm> terms = TimeEntrySearchIndex.parseQuery(query);
+        if (terms.isEmpty()) {
+            throw new TimeEntryValidationException("Search query must contain at least one term.");
+        }
+        if (page < 0) {
+            throw new TimeEntryValidationException("Page must not be negative.");
+        }
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new TimeEntryValidationException("Page size must be between 1 and " + MAX_SEARCH_PAGE_SIZE + ".");
+        }
+        if ((long) (page + 1) * size > MAX_SEARCH_WINDOW) {
+            throw new TimeEntryValidationException("Search results are limited to the first " + MAX_SEARCH_WINDOW + " hits.");
+        }
+        validateDateRange(startDate, endDate);
+
+        TimeEntrySearchIndex.Result result = timeEntrySearchIndex.search(terms, employeeId, projectId, startDate,
+            endDate, page * size, size);
+        List<Long> ids = result.hits().stream().map(TimeEntrySearchIndex.Hit::id).toList();
+        Map<Long, TimeEntryResponse> entries = ids.isEmpty()
+            ? Map.of()
+            : timeEntryViewRepository.findResponsesByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(TimeEntryResponse::getId, Function.identity()));
+
+        List<TimeEntrySearchHitResponse> hits = result.hits().stream()
+            .filter(hit -> entries.containsKey(hit.id()))
+            .map(hit -> TimeEntrySearchHitResponse.builder()
+                .score(hit.score())
+                .timeEntry(entries.get(hit.id()))
+                .build())
+            .toList();
+
+        return TimeEntrySearchResponse.builder()
+            .query(query)
+            .page(page)
+            .size(size)
+            .total(result.total())
+            .hits(hits)
+            .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TimeEntryValidationResponse validateTimeEntry(Long id, TimeEntryRequest request) {
+        TimeEntrySnapshot existing = id != null ? TimeEntrySnapshot.of(findTimeEntry(id)) : null;
+        List<RuleViolation> violations = new ArrayList<>(ruleEngine.checkConstraints(request));
+        if (request.getEmployeeId() != null && !employeeRepository.existsById(request.getEmployeeId())) {
+            violations.add(new RuleViolation("employee.exists", "employeeId",
+                "Employee not found: " + request.getEmployeeId()));
+        }
+        if (request.getProjectId() != null && projectRepository.findById(request.getProjectId()).isEmpty()) {
+            violations.add(new RuleViolation("project.exists", "projectId",
+                "Project not found: " + request.getProjectId()));
+        }
+        violations.addAll(ruleEngine.evaluate(candidate(request, existing)));
+
+        return TimeEntryValidationResponse.builder()
+            .valid(violations.isEmpty())
+            .violations(violations)
+            .build();
     }
 
     @Override
     public TimeEntryResponse createTimeEntry(TimeEntryRequest request) {
         Employee employee = findEmployee(request.getEmployeeId());
         Project project = findProject(request.getProjectId());
-        validateBusinessRules(request, null);
+        ruleEngine.enforce(candidate(request, null));
 
         TimeEntry timeEntry = TimeEntry.builder()
             .employee(employee)
@@ -74,15 +277,38 @@ public class TimeEntryServiceImpl implements TimeEntryService {
             .build();
 
         TimeEntry saved = timeEntryRepository.save(timeEntry);
+        publishChange(TimeEntryChangedEvent.created(TimeEntrySnapshot.of(saved)));
         return TimeEntryMapper.toResponse(saved);
     }
 
+    @Override
+    public List<TimeEntryResponse> createTimeEntries(List<TimeEntryRequest> requests) {
+        Map<Long, Employee> employees = findEmployees(requests.stream().map(TimeEntryRequest::getEmployeeId).toList());
+        Map<Long, Project> projects = findProjects(requests.stream().map(TimeEntryRequest::getProjectId).toList());
+        validateBatch(requests);
+
+        List<TimeEntry> inserts = requests.stream()
+            .map(request -> TimeEntry.builder()
+                .employee(employees.get(request.getEmployeeId()))
+                .project(projects.get(request.getProjectId()))
+                .date(request.getDate())
+                .hours(request.getHours())
+                .description(request.getDescription())
+                .build())
+            .toList();
+        timeEntryRepository.saveAll(inserts);
+        recordChanges(TimeEntryChangeType.CREATED, inserts, Instant.now());
+        inserts.forEach(entry -> eventPublisher.publishEvent(TimeEntryChangedEvent.created(TimeEntrySnapshot.of(entry))));
+        return inserts.stream().map(TimeEntryMapper::toResponse).toList();
+    }
+
     @Override
     public TimeEntryResponse updateTimeEntry(Long id, TimeEntryRequest request) {
         TimeEntry timeEntry = findTimeEntry(id);
+        TimeEntrySnapshot before = TimeEntrySnapshot.of(timeEntry);
         Employee employee = findEmployee(request.getEmployeeId());
         Project project = findProject(request.getProjectId());
-        validateBusinessRules(request, timeEntry.getId());
+        ruleEngine.enforce(candidate(request, before));
 
         timeEntry.setEmployee(employee);
         timeEntry.setProject(project);
@@ -91,6 +317,48 @@ public class TimeEntryServiceImpl implements TimeEntryService {
         timeEntry.setDescription(request.getDescription());
 
         TimeEntry saved = timeEntryRepository.save(timeEntry);
+        publishChange(TimeEntryChangedEvent.updated(before, TimeEntrySnapshot.of(saved)));
+        return TimeEntryMapper.toResponse(saved);
+    }
+
+    @Override
+    public TimeEntryResponse patchTimeEntry(Long id, TimeEntryPatchRequest request) {
+        TimeEntry timeEntry = timeEntryRepository.findWithReferencesById(id)
+            .orElseThrow(() -> missingOrArchived(id));
+        TimeEntrySnapshot before = TimeEntrySnapshot.of(timeEntry);
+
+        boolean employeeChanged = isChanged(request.getEmployeeId(), timeEntry.getEmployee().getId());
+        boolean projectChanged = isChanged(request.getProjectId(), timeEntry.getProject().getId());
+        boolean dateChanged = isChanged(request.getDate(), timeEntry.getDate());
+        boolean hoursChanged = request.getHours() != null
+            && request.getHours().compareTo(timeEntry.getHours()) != 0;
+
+        if (employeeChanged) {
+            timeEntry.setEmployee(findEmployee(request.getEmployeeId()));
+        }
+        if (projectChanged) {
+            timeEntry.setProject(findProject(request.getProjectId()));
+        }
+
+        LocalDate date = dateChanged ? request.getDate() : timeEntry.getDate();
+        BigDecimal hours = hoursChanged ? request.getHours() : timeEntry.getHours();
+        ruleEngine.enforce(TimeEntryCandidate.builder()
+            .employeeId(timeEntry.getEmployee().getId())
+            .projectId(timeEntry.getProject().getId())
+            .date(date)
+            .hours(hours)
+            .description(request.getDescription() != null ? request.getDescription() : timeEntry.getDescription())
+            .existing(before)
+            .build());
+
+        timeEntry.setDate(date);
+        timeEntry.setHours(hours);
+        if (request.getDescription() != null) {
+            timeEntry.setDescription(request.getDescription());
+        }
+
+        TimeEntry saved = timeEntryRepository.save(timeEntry);
+        publishChange(TimeEntryChangedEvent.updated(before, TimeEntrySnapshot.of(saved)));
         return TimeEntryMapper.toResponse(saved);
     }
 
@@ -98,64 +366,590 @@ public class TimeEntryServiceImpl implements TimeEntryService {
     public void deleteTimeEntry(Long id) {
         TimeEntry timeEntry = findTimeEntry(id);
         timeEntryRepository.delete(timeEntry);
+        publishChange(TimeEntryChangedEvent.deleted(TimeEntrySnapshot.of(timeEntry)));
     }
 
-    private TimeEntry findTimeEntry(Long id) {
-        return timeEntryRepository.findById(id)
-            .orElseThrow(() -> new TimeEntryNotFoundException(id));
+    @Override
+    public BulkOperationResponse deleteTimeEntries(
+        Long employeeId,
+        Long projectId,
+        LocalDate startDate,
+        LocalDate endDate,
+        boolean dryRun
+    ) {
+        if (employeeId == null && projectId == null && startDate == null && endDate == null) {
+            throw new TimeEntryValidationException("At least one filter is required for bulk delete.");
+        }
+        validateDateRange(startDate, endDate);
+
+        long matched = timeEntryRepository.countMatching(employeeId, projectId, startDate, endDate);
+        if (dryRun) {
+            return bulkResponse(matched, 0, true);
+        }
+        validateBulkLimit(matched);
+
+        int deleted = 0;
+        if (matched > 0) {
+            timeEntryChangeRepository.recordMatching(
+                TimeEntryChangeType.DELETED,
+                null,
+                Instant.now(),
+                employeeId,
+                projectId,
+                startDate,
+                endDate
+            );
+            deleted = timeEntryRepository.deleteMatching(employeeId, projectId, startDate, endDate);
+            timeEntryViewRepository.deleteMatching(employeeId, projectId, startDate, endDate);
+        }
+        if (deleted > 0) {
+            eventPublisher.publishEvent(TimeEntryBulkChangedEvent.builder()
+                .type(TimeEntryChangeType.BULK_DELETED)
+                .employeeId(employeeId)
+                .projectId(projectId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .affected(deleted)
+                .build());
+        }
+        return bulkResponse(matched, deleted, false);
     }
 
-    private Employee findEmployee(Long id) {
-        return employeeRepository.findById(id)
-            .orElseThrow(() -> new EmployeeNotFoundException(id));
+    @Override
+    public BulkOperationResponse reassignTimeEntries(BulkReassignRequest request) {
+        if (request.getSourceProjectId().equals(request.getTargetProjectId())) {
+            throw new TimeEntryValidationException("Source and target projects must differ.");
+        }
+        validateDateRange(request.getStartDate(), request.getEndDate());
+        Project target = findProject(request.getTargetProjectId());
+
+        MatchingTotal total = timeEntryRepository.sumMatching(
+            request.getEmployeeId(),
+            request.getSourceProjectId(),
+            request.getStartDate(),
+            request.getEndDate()
+        );
+        long matched = total.getEntries();
+        List<RuleViolation> violations = ruleEngine.evaluate(TimeEntryCandidate.builder()
+                .projectId(target.getId())
+                .hours(total.getHours())
+                .build())
+            .stream()
+            .filter(violation -> violation.getRule().equals(ProjectBudgetRule.VIOLATION.getRule()))
+            .map(violation -> violation.at("targetProjectId"))
+            .toList();
+        if (request.isDryRun()) {
+            BulkOperationResponse response = bulkResponse(matched, 0, true);
+            response.setViolations(violations);
+            return response;
+        }
+        validateBulkLimit(matched);
+        ruleEngine.reject(violations);
+
+        int reassigned = 0;
+        if (matched > 0) {
+            timeEntryChangeRepository.recordMatching(
+                TimeEntryChangeType.UPDATED,
+                target.getId(),
+                Instant.now(),
+                request.getEmployeeId(),
+                request.getSourceProjectId(),
+                request.getStartDate(),
+                request.getEndDate()
+            );
+            reassigned = timeEntryRepository.reassignMatching(
+                target,
+                request.getEmployeeId(),
+                request.getSourceProjectId(),
+                request.getStartDate(),
+                request.getEndDate()
+            );
+            timeEntryViewRepository.reassignMatching(
+                target.getId(),
+                target.getName(),
+                target.getCode(),
+                request.getEmployeeId(),
+                request.getSourceProjectId(),
+                request.getStartDate(),
+                request.getEndDate()
+            );
+        }
+        if (reassigned > 0) {
+            eventPublisher.publishEvent(TimeEntryBulkChangedEvent.builder()
+                .type(TimeEntryChangeType.BULK_REASSIGNED)
+                .employeeId(request.getEmployeeId())
+                .projectId(request.getSourceProjectId())
+                .targetProjectId(request.getTargetProjectId())
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .affected(reassigned)
+                .build());
+        }
+        return bulkResponse(matched, reassigned, false);
     }
 
-    private Project findProject(Long id) {
-        return projectRepository.findById(id)
-            .orElseThrow(() -> new ProjectNotFoundException(id));
+    @Override
+    public WeeklyTimesheetResponse saveWeeklyTimesheet(
+        Long employeeId,
+        LocalDate weekStart,
+        WeeklyTimesheetRequest request
+    ) {
+        if (weekStart.getDayOfWeek() != DayOfWeek.MONDAY) {
+            throw new TimeEntryValidationException("Week start must be a Monday.");
+        }
+        LocalDate weekEnd = weekStart.plusDays(DAYS_PER_WEEK - 1);
+        Employee employee = findEmployee(employeeId);
+        if (reachesArchive(weekStart)
+            && archivedTimeEntryRepository.existsByEmployeeIdAndDateBetween(employeeId, weekStart, weekEnd)) {
+            throw new TimeEntryValidationException("Week " + weekStart + " contains archived entries and cannot be modified.");
+        }
+
+        Map<Long, WeeklyTimesheetRowRequest> rows = indexRows(request.getRows());
+        Map<Long, Project> projects = findProjects(rows.keySet());
+        Map<Long, Map<LocalDate, List<TimeEntry>>> existing = timeEntryRepository
+            .findWithProjectByEmployeeIdAndDateBetween(employeeId, weekStart, weekEnd)
+            .stream()
+            .sorted(Comparator.comparing(TimeEntry::getId))
+            .collect(Collectors.groupingBy(
+                entry -> entry.getProject().getId(),
+                Collectors.groupingBy(TimeEntry::getDate)
+            ));
+        validateTimesheet(weekStart, List.copyOf(rows.values()), existing);
+
+        List<TimeEntry> inserts = new ArrayList<>();
+        List<TimeEntry> updates = new ArrayList<>();
+        List<TimeEntry> deletes = new ArrayList<>();
+        List<TimeEntryChangedEvent> events = new ArrayList<>();
+
+        rows.forEach((projectId, row) -> {
+            Map<LocalDate, List<TimeEntry>> current = existing.getOrDefault(projectId, Map.of());
+            for (int day = 0; day < DAYS_PER_WEEK; day++) {
+                LocalDate date = weekStart.plusDays(day);
+                BigDecimal hours = cellHours(row, day);
+                List<TimeEntry> entries = current.getOrDefault(date, List.of());
+
+                if (hours.signum() == 0) {
+                    deletes.addAll(entries);
+                    continue;
+                }
+                if (entries.isEmpty()) {
+                    inserts.add(TimeEntry.builder()
+                        .employee(employee)
+                        .project(projects.get(projectId))
+                        .date(date)
+                        .hours(hours)
+                        .description(row.getDescription())
+                        .build());
+                    continue;
+                }
+
+                TimeEntry kept = entries.get(0);
+                deletes.addAll(entries.subList(1, entries.size()));
+                boolean hoursChanged = hours.compareTo(kept.getHours()) != 0;
+                boolean descriptionChanged = isChanged(row.getDescription(), kept.getDescription());
+                if (hoursChanged || descriptionChanged) {
+                    TimeEntrySnapshot before = TimeEntrySnapshot.of(kept);
+                    kept.setHours(hours);
+                    if (descriptionChanged) {
+                        kept.setDescription(row.getDescription());
+                    }
+                    updates.add(kept);
+                    events.add(TimeEntryChangedEvent.updated(before, TimeEntrySnapshot.of(kept)));
+                }
+            }
+        });
+        existing.forEach((projectId, entriesByDate) -> {
+            if (!rows.containsKey(projectId)) {
+                entriesByDate.values().forEach(deletes::addAll);
+            }
+        });
+
+        Instant changedAt = Instant.now();
+        if (!deletes.isEmpty()) {
+            recordChanges(TimeEntryChangeType.DELETED, deletes, changedAt);
+            timeEntryRepository.deleteAllInBatch(deletes);
+        }
+        timeEntryRepository.saveAll(updates);
+        timeEntryRepository.saveAll(inserts);
+        recordChanges(TimeEntryChangeType.UPDATED, updates, changedAt);
+        recordChanges(TimeEntryChangeType.CREATED, inserts, changedAt);
+
+        deletes.forEach(entry -> events.add(TimeEntryChangedEvent.deleted(TimeEntrySnapshot.of(entry))));
+        inserts.forEach(entry -> events.add(TimeEntryChangedEvent.created(TimeEntrySnapshot.of(entry))));
+        events.forEach(eventPublisher::publishEvent);
+
+        List<WeeklyTimesheetRowResponse> rowResponses = rows.entrySet().stream()
+            .map(row -> WeeklyTimesheetRowResponse.builder()
+                .projectId(row.getKey())
+                .projectName(projects.get(row.getKey()).getName())
+                .projectCode(projects.get(row.getKey()).getCode())
+                .hours(IntStream.range(0, DAYS_PER_WEEK).mapToObj(day -> cellHours(row.getValue(), day)).toList())
+                .build())
+            .toList();
+        List<DailyHoursResponse> days = IntStream.range(0, DAYS_PER_WEEK)
+            .mapToObj(day -> DailyHoursResponse.builder()
+                .date(weekStart.plusDays(day))
+                .hours(dayTotal(rows.values(), day))
+                .build())
+            .toList();
+
+        return WeeklyTimesheetResponse.builder()
+            .employeeId(employeeId)
+            .weekStart(weekStart)
+            .weekEnd(weekEnd)
+            .created(inserts.size())
+            .updated(updates.size())
+            .deleted(deletes.size())
+            .rows(rowResponses)
+            .days(days)
+            .build();
     }
 
-    private void validateBusinessRules(TimeEntryRequest request, Long existingEntryId) {
-        validateHoursIncrement(request.getHours());
-        validateDateNotInFuture(request.getDate());
-        validateDailyLimit(request, existingEntryId);
+    @Override
+    public WeeklyTimesheetCopyResponse copyWeeklyTimesheet(Long employeeId, LocalDate weekStart, LocalDate sourceWeekStart) {
+        if (weekStart.getDayOfWeek() != DayOfWeek.MONDAY || sourceWeekStart.getDayOfWeek() != DayOfWeek.MONDAY) {
+            throw new TimeEntryValidationException("Week start must be a Monday.");
+        }
+        if (weekStart.equals(sourceWeekStart)) {
+            throw new TimeEntryValidationException("Source and target weeks must differ.");
+        }
+        LocalDate weekEnd = weekStart.plusDays(DAYS_PER_WEEK - 1);
+        LocalDate sourceWeekEnd = sourceWeekStart.plusDays(DAYS_PER_WEEK - 1);
+        findEmployee(employeeId);
+        if (reachesArchive(weekStart)
+            && archivedTimeEntryRepository.existsByEmployeeIdAndDateBetween(employeeId, weekStart, weekEnd)) {
+            throw new TimeEntryValidationException("Week " + weekStart + " contains archived entries and cannot be modified.");
+        }
+
+        long offset = ChronoUnit.DAYS.between(sourceWeekStart, weekStart);
+        LocalDate lastCopied = LocalDate.now().minusDays(offset);
+        if (lastCopied.isAfter(sourceWeekEnd)) {
+            lastCopied = sourceWeekEnd;
+        }
+
+        int copied = 0;
+        int skipped = 0;
+        BigDecimal[] dayTotals = new BigDecimal[DAYS_PER_WEEK];
+        Arrays.fill(dayTotals, BigDecimal.ZERO);
+        Map<Long, BigDecimal> hardBudgetTotals = new LinkedHashMap<>();
+        for (ProjectDayTotal total : timeEntryRepository.sumHoursByProjectAndDay(
+            employeeId, sourceWeekStart, sourceWeekEnd, weekStart, weekEnd)) {
+            if (!total.getDate().isBefore(weekStart) && !total.getDate().isAfter(weekEnd)) {
+                int day = (int) ChronoUnit.DAYS.between(weekStart, total.getDate());
+                dayTotals[day] = dayTotals[day].add(total.getHours());
+            } else if (Boolean.TRUE.equals(total.getActive()) && !total.getDate().isAfter(lastCopied)) {
+                int day = (int) ChronoUnit.DAYS.between(sourceWeekStart, total.getDate());
+                dayTotals[day] = dayTotals[day].add(total.getHours());
+                if (total.getBudgetEnforcement() == BudgetEnforcement.HARD) {
+                    hardBudgetTotals.merge(total.getProjectId(), total.getHours(), BigDecimal::add);
+                }
+                copied += total.getEntries().intValue();
+            } else {
+                skipped += total.getEntries().intValue();
+            }
+        }
+        validateCopy(weekStart, dayTotals, hardBudgetTotals);
+
+        List<TimeEntry> inserts = List.of();
+        List<TimeEntry> week;
+        if (copied > 0) {
+            Set<Long> existingIds = Set.copyOf(
+                timeEntryRepository.findIdsByEmployeeIdAndDateBetween(employeeId, weekStart, weekEnd));
+            timeEntryRepository.copyActiveEntries(employeeId, sourceWeekStart, lastCopied, offset);
+            week = timeEntryRepository.findWithProjectByEmployeeIdAndDateBetween(employeeId, weekStart, weekEnd);
+            inserts = week.stream().filter(entry -> !existingIds.contains(entry.getId())).toList();
+            recordChanges(TimeEntryChangeType.CREATED, inserts, Instant.now());
+            inserts.forEach(entry -> eventPublisher.publishEvent(TimeEntryChangedEvent.created(TimeEntrySnapshot.of(entry))));
+        } else {
+            week = timeEntryRepository.findWithProjectByEmployeeIdAndDateBetween(employeeId, weekStart, weekEnd);
+        }
+
+        Map<Project, BigDecimal[]> grid = new TreeMap<>(Comparator.comparing(Project::getId));
+        for (TimeEntry entry : week) {
+            BigDecimal[] hours = grid.computeIfAbsent(entry.getProject(), project -> {
+                BigDecimal[] cells = new BigDecimal[DAYS_PER_WEEK];
+                Arrays.fill(cells, BigDecimal.ZERO);
+                return cells;
+            });
+            int day = (int) ChronoUnit.DAYS.between(weekStart, entry.getDate());
+            hours[day] = hours[day].add(entry.getHours());
+        }
+
+        return WeeklyTimesheetCopyResponse.builder()
+            .employeeId(employeeId)
+            .sourceWeekStart(sourceWeekStart)
+            .weekStart(weekStart)
+            .weekEnd(weekEnd)
+            .copied(inserts.size())
+            .skipped(skipped)
+            .rows(grid.entrySet().stream()
+                .map(row -> WeeklyTimesheetRowResponse.builder()
+                    .projectId(row.getKey().getId())
+                    .projectName(row.getKey().getName())
+                    .projectCode(row.getKey().getCode())
+                    .hours(List.of(row.getValue()))
+                    .build())
+                .toList())
+            .days(IntStream.range(0, DAYS_PER_WEEK)
+                .mapToObj(day -> DailyHoursResponse.builder()
+                    .date(weekStart.plusDays(day))
+                    .hours(dayTotals[day])
+                    .build())
+                .toList())
+            .build();
     }
 
-    private void validateHoursIncrement(BigDecimal hours) {
-        if (hours == null) {
-            return;
+    private Map<Long, WeeklyTimesheetRowRequest> indexRows(List<WeeklyTimesheetRowRequest> rows) {
+        Map<Long, WeeklyTimesheetRowRequest> indexed = new LinkedHashMap<>();
+        for (WeeklyTimesheetRowRequest row : rows) {
+            if (indexed.putIfAbsent(row.getProjectId(), row) != null) {
+                throw new TimeEntryValidationException("Project " + row.getProjectId() + " appears more than once in the timesheet.");
+            }
         }
+        return indexed;
+    }
+
+    private Map<Long, Employee> findEmployees(Collection<Long> ids) {
+        Map<Long, Employee> employees = employeeRepository.findAllById(Set.copyOf(ids))
+            .stream()
+            .collect(Collectors.toMap(Employee::getId, Function.identity()));
+        ids.stream()
+            .filter(id -> !employees.containsKey(id))
+            .findFirst()
+            .ifPresent(id -> {
+                throw new EmployeeNotFoundException(id);
+            });
+        return employees;
+    }
 
-        if (hours.remainder(QUARTER_HOUR_INCREMENT).compareTo(BigDecimal.ZERO) != 0) {
-            throw new TimeEntryValidationException("Hours must be in 15-minute increments.");
+    private Map<Long, Project> findProjects(Collection<Long> ids) {
+        Map<Long, Project> projects = projectRepository.findAllById(Set.copyOf(ids))
+            .stream()
+            .collect(Collectors.toMap(Project::getId, Function.identity()));
+        ids.stream()
+            .filter(id -> !projects.containsKey(id))
+            .findFirst()
+            .ifPresent(id -> {
+                throw new ProjectNotFoundException(id);
+            });
+        return projects;
+    }
+
+    private void validateBatch(List<TimeEntryRequest> requests) {
+        List<RuleViolation> violations = new ArrayList<>();
+        Map<EmployeeDay, Integer> lastPositions = new LinkedHashMap<>();
+        Map<EmployeeDay, BigDecimal> dayTotals = new LinkedHashMap<>();
+        Map<Long, Integer> lastProjectPositions = new LinkedHashMap<>();
+        Map<Long, BigDecimal> projectTotals = new LinkedHashMap<>();
+        for (int index = 0; index < requests.size(); index++) {
+            TimeEntryRequest request = requests.get(index);
+            String entry = "entries[" + index + "].";
+            ruleEngine.evaluate(TimeEntryCandidate.builder().date(request.getDate()).hours(request.getHours()).build())
+                .forEach(violation -> violations.add(violation.at(entry + violation.getField())));
+            EmployeeDay day = new EmployeeDay(request.getEmployeeId(), request.getDate());
+            lastPositions.put(day, index);
+            dayTotals.merge(day, request.getHours(), BigDecimal::add);
+            lastProjectPositions.put(request.getProjectId(), index);
+            projectTotals.merge(request.getProjectId(), request.getHours(), BigDecimal::add);
         }
+
+        dayTotals.forEach((day, hours) -> {
+            TimeEntryCandidate total = TimeEntryCandidate.builder()
+                .employeeId(day.employeeId())
+                .date(day.date())
+                .hours(hours)
+                .build();
+            ruleEngine.evaluate(total)
+                .stream()
+                .filter(violation -> violation.getRule().equals(DailyHourLimitRule.VIOLATION.getRule()))
+                .forEach(violation -> violations.add(violation.at("entries[" + lastPositions.get(day) + "].hours")));
+        });
+        projectTotals.forEach((projectId, hours) -> {
+            TimeEntryCandidate total = TimeEntryCandidate.builder()
+                .projectId(projectId)
+                .hours(hours)
+                .build();
+            ruleEngine.evaluate(total)
+                .stream()
+                .filter(violation -> violation.getRule().equals(ProjectBudgetRule.VIOLATION.getRule()))
+                .forEach(violation -> violations.add(
+                    violation.at("entries[" + lastProjectPositions.get(projectId) + "].hours")));
+        });
+        ruleEngine.reject(violations);
     }
 
-    private void validateDateNotInFuture(LocalDate date) {
-        if (date != null && date.isAfter(LocalDate.now())) {
-            throw new TimeEntryValidationException("Date cannot be in the future.");
+    private void validateTimesheet(
+        LocalDate weekStart,
+        List<WeeklyTimesheetRowRequest> rows,
+        Map<Long, Map<LocalDate, List<TimeEntry>>> existing
+    ) {
+        List<RuleViolation> violations = new ArrayList<>();
+        for (int day = 0; day < DAYS_PER_WEEK; day++) {
+            LocalDate date = weekStart.plusDays(day);
+            BigDecimal total = BigDecimal.ZERO;
+            for (int index = 0; index < rows.size(); index++) {
+                BigDecimal hours = cellHours(rows.get(index), day);
+                if (hours.signum() > 0) {
+                    String cell = "rows[" + index + "].hours[" + day + "]";
+                    ruleEngine.evaluate(TimeEntryCandidate.builder().date(date).hours(hours).build())
+                        .forEach(violation -> violations.add(violation.at(cell)));
+                }
+                total = total.add(hours);
+            }
+            if (total.compareTo(DailyHourLimitRule.DAILY_HOUR_LIMIT) > 0) {
+                violations.add(DailyHourLimitRule.VIOLATION.at("days[" + day + "]")
+                    .withMessage("Total hours per day cannot exceed 24 (" + date + ")."));
+            }
         }
+        for (int index = 0; index < rows.size(); index++) {
+            WeeklyTimesheetRowRequest row = rows.get(index);
+            BigDecimal added = IntStream.range(0, DAYS_PER_WEEK)
+                .mapToObj(day -> cellHours(row, day))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+            for (List<TimeEntry> entries : existing.getOrDefault(row.getProjectId(), Map.of()).values()) {
+                for (TimeEntry entry : entries) {
+                    added = added.subtract(entry.getHours());
+                }
+            }
+            String path = "rows[" + index + "].hours";
+            ruleEngine.evaluate(TimeEntryCandidate.builder()
+                    .projectId(row.getProjectId())
+                    .hours(added)
+                    .build())
+                .stream()
+                .filter(violation -> violation.getRule().equals(ProjectBudgetRule.VIOLATION.getRule()))
+                .forEach(violation -> violations.add(violation.at(path)));
+        }
+        ruleEngine.reject(violations);
     }
 
-    private void validateDailyLimit(TimeEntryRequest request, Long existingEntryId) {
-        if (request.getEmployeeId() == null || request.getDate() == null || request.getHours() == null) {
-            return;
+    private void validateCopy(LocalDate weekStart, BigDecimal[] dayTotals, Map<Long, BigDecimal> projectTotals) {
+        List<RuleViolation> violations = new ArrayList<>();
+        for (int day = 0; day < DAYS_PER_WEEK; day++) {
+            if (dayTotals[day].compareTo(DailyHourLimitRule.DAILY_HOUR_LIMIT) > 0) {
+                violations.add(DailyHourLimitRule.VIOLATION.at("days[" + day + "]")
+                    .withMessage("Total hours per day cannot exceed 24 (" + weekStart.plusDays(day) + ")."));
+            }
         }
+        projectTotals.forEach((projectId, hours) -> ruleEngine.evaluate(TimeEntryCandidate.builder()
+                .projectId(projectId)
+                .hours(hours)
+                .build())
+            .stream()
+            .filter(violation -> violation.getRule().equals(ProjectBudgetRule.VIOLATION.getRule()))
+            .forEach(violation -> violations.add(violation.at("projects[" + projectId + "].hours"))));
+        ruleEngine.reject(violations);
+    }
 
-        List<TimeEntry> entries = timeEntryRepository.findByEmployeeIdAndDateBetween(
-            request.getEmployeeId(),
-            request.getDate(),
-            request.getDate()
-        );
+    private BigDecimal cellHours(WeeklyTimesheetRowRequest row, int day) {
+        BigDecimal hours = row.getHours().get(day);
+        return hours != null ? hours : BigDecimal.ZERO;
+    }
 
-        BigDecimal currentTotal = entries.stream()
-            .filter(entry -> existingEntryId == null || !entry.getId().equals(existingEntryId))
-            .map(TimeEntry::getHours)
+    private BigDecimal dayTotal(Collection<WeeklyTimesheetRowRequest> rows, int day) {
+        return rows.stream()
+            .map(row -> cellHours(row, day))
             .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private void recordChanges(TimeEntryChangeType type, List<TimeEntry> entries, Instant changedAt) {
+        if (!entries.isEmpty()) {
+            List<Long> ids = entries.stream().map(TimeEntry::getId).toList();
+            timeEntryChangeRepository.recordByIds(type, changedAt, ids);
+            projectViews(type, ids);
+        }
+    }
+
+    private void publishChange(TimeEntryChangedEvent event) {
+        TimeEntrySnapshot snapshot = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        timeEntryChangeRepository.save(TimeEntryMapper.toChange(event.getType(), snapshot, Instant.now()));
+        projectViews(event.getType(), List.of(snapshot.getId()));
+        eventPublisher.publishEvent(event);
+    }
+
+    private void projectViews(TimeEntryChangeType type, List<Long> ids) {
+        switch (type) {
+            case CREATED -> timeEntryViewRepository.insertByIds(ids);
+            case UPDATED -> timeEntryViewRepository.refreshByIds(ids);
+            case DELETED -> timeEntryViewRepository.deleteByIds(ids);
+            default -> throw new IllegalArgumentException("Unsupported change type " + type);
+        }
+    }
+
+    private BulkOperationResponse bulkResponse(long matched, long affected, boolean dryRun) {
+        return BulkOperationResponse.builder()
+            .matched(matched)
+            .affected(affected)
+            .dryRun(dryRun)
+            .build();
+    }
+
+    private void validateBulkLimit(long matched) {
+        if (matched > bulkProperties.getMaxAffectedRows()) {
+            throw new TimeEntryValidationException(
+                "Bulk operation would affect " + matched + " entries, exceeding the limit of "
+                    + bulkProperties.getMaxAffectedRows() + "."
+            );
+        }
+    }
 
-        BigDecimal newTotal = currentTotal.add(request.getHours());
-        if (newTotal.compareTo(DAILY_HOUR_LIMIT) > 0) {
-            throw new TimeEntryValidationException("Total hours per day cannot exceed 24.");
+    private void validateDateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new TimeEntryValidationException("Start date must not be after end date.");
         }
     }
+
+    private TimeEntry findTimeEntry(Long id) {
+        return timeEntryRepository.findById(id)
+            .orElseThrow(() -> missingOrArchived(id));
+    }
+
+    private RuntimeException missingOrArchived(Long id) {
+        if (archivedTimeEntryRepository.existsById(id)) {
+            return new TimeEntryValidationException("Time entry " + id + " is archived and cannot be modified.");
+        }
+        return new TimeEntryNotFoundException(id);
+    }
+
+    private static List<TimeEntryResponse> sorted(List<TimeEntryResponse> entries) {
+        return entries.stream()
+            .sorted(Comparator.comparing(TimeEntryResponse::getDate).thenComparing(TimeEntryResponse::getId))
+            .toList();
+    }
+
+    private boolean reachesArchive(LocalDate date) {
+        return date == null || date.isBefore(archiveProperties.cutoff(LocalDate.now()));
+    }
+
+    private Employee findEmployee(Long id) {
+        return employeeRepository.findById(id)
+            .orElseThrow(() -> new EmployeeNotFoundException(id));
+    }
+
+    private Project findProject(Long id) {
+        return projectRepository.findById(id)
+            .orElseThrow(() -> new ProjectNotFoundException(id));
+    }
+
+    private boolean isChanged(Object requested, Object current) {
+        return requested != null && !Objects.equals(requested, current);
+    }
+
+    private TimeEntryCandidate candidate(TimeEntryRequest request, TimeEntrySnapshot existing) {
+        return TimeEntryCandidate.builder()
+            .employeeId(request.getEmployeeId())
+            .projectId(request.getProjectId())
+            .date(request.getDate())
+            .hours(request.getHours())
+            .description(request.getDescription())
+            .existing(existing)
+            .build();
+    }
+
+    private boolean indexCovers(LocalDate date) {
+        return !reachesArchive(date) && employeeDayIndex.covers(date);
+    }
+
+    private record EmployeeDay(Long employeeId, LocalDate date) {
+    }
 }
@@ -0,0 +1,31 @@
+package com.ralphtimesheet.api.timeentry;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class TimeEntrySnapshot {
+
+    private final Long id;
+    private final Long employeeId;
+    private final Long projectId;
+    private final LocalDate date;
+    private final BigDecimal hours;
+    private final String description;
+
+    public static TimeEntrySnapshot of(TimeEntry entry) {
+        return TimeEntrySnapshot.builder()
+            .id(entry.getId())
+            .employeeId(entry.getEmployee().getId())
+            .projectId(entry.getProject().getId())
+            .date(entry.getDate())
+            .hours(entry.getHours())
+            .description(entry.getDescription())
+            .build();
+    }
+}
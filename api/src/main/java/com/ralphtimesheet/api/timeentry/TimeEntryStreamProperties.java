@@ -0,0 +1,16 @@
+package com.ralphtimesheet.api.timeentry;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "timesheet.time-entries.stream")
+public class TimeEntryStreamProperties {
+
+    private int bufferSize = 256;
+
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+}
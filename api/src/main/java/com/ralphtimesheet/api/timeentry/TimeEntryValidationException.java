@@ -7,6 +7,6 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 public class TimeEntryValidationException extends RuntimeException {
 
     public TimeEntryValidationException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
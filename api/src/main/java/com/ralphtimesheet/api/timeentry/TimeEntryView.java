@@ -0,0 +1,64 @@
+package com.ralphtimesheet.api.timeentry;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(
+    name = "time_entry_views",
+    indexes = {
+        @Index(name = "idx_time_entry_views_date", columnList = "date, id"),
+        @Index(name = "idx_time_entry_views_employee_date", columnList = "employee_id, date"),
+        @Index(name = "idx_time_entry_views_project_date", columnList = "project_id, date")
+    }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeEntryView {
+
+    @Id
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "employee_first_name", nullable = false, length = 100)
+    private String employeeFirstName;
+
+    @Column(name = "employee_last_name", nullable = false, length = 100)
+    private String employeeLastName;
+
+    @Column(name = "employee_email", nullable = false, length = 150)
+    private String employeeEmail;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "project_name", nullable = false, length = 150)
+    private String projectName;
+
+    @Column(name = "project_code", nullable = false, length = 50)
+    private String projectCode;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false, precision = 5, scale = 2)
+    private BigDecimal hours;
+
+    @Column(length = 500)
+    private String description;
+}
@@ -0,0 +1,48 @@
+package com.ralphtimesheet.api.timeentry;
+
+import com.ralphtimesheet.api.employee.EmployeeChangedEvent;
+import com.ralphtimesheet.api.employee.dto.EmployeeResponse;
+import com.ralphtimesheet.api.project.ProjectChangedEvent;
+import com.ralphtimesheet.api.project.dto.ProjectResponse;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TimeEntryViewProjector {
+
+    private final TimeEntryViewRepository timeEntryViewRepository;
+    private final ArchivedTimeEntryViewRepository archivedTimeEntryViewRepository;
+
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        EmployeeResponse before = event.getBefore();
+        EmployeeResponse after = event.getAfter();
+        if (before == null || after == null) {
+            return;
+        }
+        if (!Objects.equals(before.getFirstName(), after.getFirstName())
+            || !Objects.equals(before.getLastName(), after.getLastName())
+            || !Objects.equals(before.getEmail(), after.getEmail())) {
+            timeEntryViewRepository.renameEmployee(after.getId(), after.getFirstName(), after.getLastName(),
+                after.getEmail());
+            archivedTimeEntryViewRepository.renameEmployee(after.getId(), after.getFirstName(), after.getLastName(),
+                after.getEmail());
+        }
+    }
+
+    @EventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        ProjectResponse before = event.getBefore();
+        ProjectResponse after = event.getAfter();
+        if (before == null || after == null) {
+            return;
+        }
+        if (!Objects.equals(before.getName(), after.getName()) || !Objects.equals(before.getCode(), after.getCode())) {
+            timeEntryViewRepository.renameProject(after.getId(), after.getName(), after.getCode());
+            archivedTimeEntryViewRepository.renameProject(after.getId(), after.getName(), after.getCode());
+        }
+    }
+}
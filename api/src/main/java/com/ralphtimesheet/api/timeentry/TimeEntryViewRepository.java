@@ -0,0 +1,180 @@
+package com.ralphtimesheet.api.timeentry;
+
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryResponse;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TimeEntryViewRepository extends JpaRepository<TimeEntryView, Long> {
+
+    String RESPONSE_COLUMNS = "select new com.ralphtimesheet.api.timeentry.dto.TimeEntryResponse(v.id, v.employeeId,"
+        + " v.employeeFirstName, v.employeeLastName, v.employeeEmail, v.projectId, v.projectName, v.projectCode,"
+        + " v.date, v.hours, v.description)";
+
+    String RESPONSE = RESPONSE_COLUMNS + " from TimeEntryView v";
+
+    String ARCHIVED_RESPONSE = RESPONSE_COLUMNS + " from ArchivedTimeEntryView v";
+
+    String FILTER_PREDICATE = "(:employeeId is null or v.employeeId = :employeeId)"
+        + " and (:projectId is null or v.projectId = :projectId)"
+        + " and (:startDate is null or v.date >= :startDate)"
+        + " and (:endDate is null or v.date <= :endDate)";
+
+    String EMPLOYEES_PREDICATE = "v.employeeId in :employeeIds and (:startDate is null or v.date >= :startDate)"
+        + " and (:endDate is null or v.date <= :endDate)";
+
+    String HOT_SOURCE_ROWS = "select e.id, e.employee_id, emp.first_name, emp.last_name, emp.email, e.project_id,"
+        + " p.name, p.code, e.date, e.hours, e.description"
+        + " from time_entries e join employees emp on emp.id = e.employee_id join projects p on p.id = e.project_id";
+
+    String ARCHIVED_SOURCE_ROWS = "select a.id, a.employee_id, emp.first_name, emp.last_name, emp.email, a.project_id,"
+        + " p.name, p.code, a.date, a.hours, a.description"
+        + " from time_entries_archive a join employees emp on emp.id = a.employee_id"
+        + " join projects p on p.id = a.project_id";
+
+    String VIEW_COLUMNS = "id, employee_id, employee_first_name, employee_last_name, employee_email, project_id,"
+        + " project_name, project_code, date, hours, description";
+
+    String SOURCE_ROWS = "select h.*, false as archived from (" + HOT_SOURCE_ROWS + ") h"
+        + " union all select a.*, true as archived from (" + ARCHIVED_SOURCE_ROWS + ") a";
+
+    String VIEW_ROWS = "select " + VIEW_COLUMNS + ", false as archived from time_entry_views"
+        + " union all select " + VIEW_COLUMNS + ", true as archived from time_entry_archive_views";
+
+    String STALE_PREDICATE = "v.employee_id <> s.employee_id or v.employee_first_name <> s.first_name"
+        + " or v.employee_last_name <> s.last_name or v.employee_email <> s.email or v.project_id <> s.project_id"
+        + " or v.project_name <> s.name or v.project_code <> s.code or v.date <> s.date or v.hours <> s.hours"
+        + " or v.description is distinct from s.description or v.archived <> s.archived";
+
+    @Query(RESPONSE + " where " + FILTER_PREDICATE + " order by v.date, v.id")
+    List<TimeEntryResponse> findMatching(
+        @Param("employeeId") Long employeeId,
+        @Param("projectId") Long projectId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    @Query(RESPONSE + " where " + FILTER_PREDICATE + " union all " + ARCHIVED_RESPONSE + " where " + FILTER_PREDICATE)
+    List<TimeEntryResponse> findMatchingWithArchive(
+        @Param("employeeId") Long employeeId,
+        @Param("projectId") Long projectId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    @Query(RESPONSE + " where " + EMPLOYEES_PREDICATE + " order by v.date, v.id")
+    List<TimeEntryResponse> findMatchingEmployees(
+        @Param("employeeIds") Collection<Long> employeeIds,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    @Query(RESPONSE + " where " + EMPLOYEES_PREDICATE + " union all " + ARCHIVED_RESPONSE + " where "
+        + EMPLOYEES_PREDICATE)
+    List<TimeEntryResponse> findMatchingEmployeesWithArchive(
+        @Param("employeeIds") Collection<Long> employeeIds,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    @Query(RESPONSE + " where v.id = :id union all " + ARCHIVED_RESPONSE + " where v.id = :id")
+    Optional<TimeEntryResponse> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE + " where v.id in :ids union all " + ARCHIVED_RESPONSE + " where v.id in :ids")
+    List<TimeEntryResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("insert into TimeEntryView (id, employeeId, employeeFirstName, employeeLastName, employeeEmail, projectId,"
+        + " projectName, projectCode, date, hours, description)"
+        + " select e.id, emp.id, emp.firstName, emp.lastName, emp.email, p.id, p.name, p.code, e.date, e.hours,"
+        + " e.description from TimeEntry e join e.employee emp join e.project p where e.id in :ids")
+    int insertByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "update time_entry_views v set (" + VIEW_COLUMNS + ") = (" + HOT_SOURCE_ROWS
+        + " where e.id = v.id) where v.id in (:ids)", nativeQuery = true)
+    int refreshByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from TimeEntryView v where v.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from TimeEntryView v where " + FILTER_PREDICATE)
+    int deleteMatching(
+        @Param("employeeId") Long employeeId,
+        @Param("projectId") Long projectId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    @Modifying
+    @Query("update TimeEntryView v set v.projectId = :targetProjectId, v.projectName = :targetProjectName,"
+        + " v.projectCode = :targetProjectCode where " + FILTER_PREDICATE)
+    int reassignMatching(
+        @Param("targetProjectId") Long targetProjectId,
+        @Param("targetProjectName") String targetProjectName,
+        @Param("targetProjectCode") String targetProjectCode,
+        @Param("employeeId") Long employeeId,
+        @Param("projectId") Long projectId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    @Modifying
+    @Query("update TimeEntryView v set v.employeeFirstName = :firstName, v.employeeLastName = :lastName,"
+        + " v.employeeEmail = :email where v.employeeId = :employeeId")
+    int renameEmployee(
+        @Param("employeeId") Long employeeId,
+        @Param("firstName") String firstName,
+        @Param("lastName") String lastName,
+        @Param("email") String email
+    );
+
+    @Modifying
+    @Query("update TimeEntryView v set v.projectName = :name, v.projectCode = :code where v.projectId = :projectId")
+    int renameProject(@Param("projectId") Long projectId, @Param("name") String name, @Param("code") String code);
+
+    @Modifying
+    @Query(value = "delete from time_entry_views", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = "insert into time_entry_views (" + VIEW_COLUMNS + ") " + HOT_SOURCE_ROWS, nativeQuery = true)
+    int insertFromSource();
+
+    @Query(value = "select count(*) from (" + SOURCE_ROWS + ") s", nativeQuery = true)
+    long countSource();
+
+    @Query(value = "select s.id from (" + SOURCE_ROWS + ") s where not exists"
+        + " (select 1 from (" + VIEW_ROWS + ") v where v.id = s.id) order by s.id limit :limit", nativeQuery = true)
+    List<Long> findMissingIds(@Param("limit") int limit);
+
+    @Query(value = "select count(*) from (" + SOURCE_ROWS + ") s where not exists"
+        + " (select 1 from (" + VIEW_ROWS + ") v where v.id = s.id)", nativeQuery = true)
+    long countMissing();
+
+    @Query(value = "select v.id from (" + VIEW_ROWS + ") v where not exists (select 1 from (" + SOURCE_ROWS + ") s"
+        + " where s.id = v.id) order by v.id limit :limit", nativeQuery = true)
+    List<Long> findOrphanedIds(@Param("limit") int limit);
+
+    @Query(value = "select count(*) from (" + VIEW_ROWS + ") v where not exists (select 1 from (" + SOURCE_ROWS + ") s"
+        + " where s.id = v.id)", nativeQuery = true)
+    long countOrphaned();
+
+    @Query(value = "select v.id from (" + VIEW_ROWS + ") v join (" + SOURCE_ROWS + ") s on s.id = v.id where "
+        + STALE_PREDICATE + " order by v.id limit :limit", nativeQuery = true)
+    List<Long> findStaleIds(@Param("limit") int limit);
+
+    @Query(value = "select count(*) from (" + VIEW_ROWS + ") v join (" + SOURCE_ROWS + ") s on s.id = v.id where "
+        + STALE_PREDICATE, nativeQuery = true)
+    long countStale();
+
+    @Query(value = "select count(*) from (" + VIEW_ROWS + ") v", nativeQuery = true)
+    long countViewRows();
+}
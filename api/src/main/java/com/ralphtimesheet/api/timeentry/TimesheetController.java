@@ -0,0 +1,67 @@
+package com.ralphtimesheet.api.timeentry;
+
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetCopyResponse;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetRequest;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/employees/{employeeId}/timesheets")
+@RequiredArgsConstructor
+@Tag(name = "Timesheets", description = "Edit an employee's week as a project by day grid")
+public class TimesheetController {
+
+    private final TimeEntryService timeEntryService;
+
+    @Operation(
+        summary = "Save weekly timesheet",
+        description = "Replace the employee's week with the given project by day grid. Each row holds seven daily hour "
+            + "values starting Monday; empty or zero cells remove the entry and projects left out of the grid are cleared."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Timesheet saved successfully."),
+        @ApiResponse(responseCode = "400", description = "Validation failed."),
+        @ApiResponse(responseCode = "404", description = "Employee or project not found.")
+    })
+    @PutMapping("/{weekStart}")
+    public WeeklyTimesheetResponse saveWeeklyTimesheet(
+        @PathVariable Long employeeId,
+        @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStart,
+        @Valid @RequestBody WeeklyTimesheetRequest request
+    ) {
+        return timeEntryService.saveWeeklyTimesheet(employeeId, weekStart, request);
+    }
+
+    @Operation(
+        summary = "Copy weekly timesheet",
+        description = "Clone the employee's entries from the source week into the given week in a single set-based "
+            + "insert. Entries on inactive projects or that would land on a future date are skipped; existing entries "
+            + "in the target week are kept and count towards the daily limit."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Timesheet copied successfully."),
+        @ApiResponse(responseCode = "400", description = "Validation failed."),
+        @ApiResponse(responseCode = "404", description = "Employee not found.")
+    })
+    @PostMapping("/{weekStart}/copy-from/{sourceWeekStart}")
+    public WeeklyTimesheetCopyResponse copyWeeklyTimesheet(
+        @PathVariable Long employeeId,
+        @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weekStart,
+        @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate sourceWeekStart
+    ) {
+        return timeEntryService.copyWeeklyTimesheet(employeeId, weekStart, sourceWeekStart);
+    }
+}
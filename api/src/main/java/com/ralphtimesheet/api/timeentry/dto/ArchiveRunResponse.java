@@ -0,0 +1,19 @@
+package com.ralphtimesheet.api.timeentry.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveRunResponse {
+
+    private LocalDate cutoff;
+    private long archived;
+}
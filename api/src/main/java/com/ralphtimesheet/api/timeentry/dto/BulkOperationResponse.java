@@ -0,0 +1,22 @@
+package com.ralphtimesheet.api.timeentry.dto;
+
+import com.ralphtimesheet.api.timeentry.rule.RuleViolation;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResponse {
+
+    private long matched;
+    private long affected;
+    private boolean dryRun;
+    private List<RuleViolation> violations;
+}
@@ -0,0 +1,31 @@
+package com.ralphtimesheet.api.timeentry.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReassignRequest {
+
+    @NotNull
+    private Long sourceProjectId;
+
+    @NotNull
+    private Long targetProjectId;
+
+    private Long employeeId;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private boolean dryRun;
+}
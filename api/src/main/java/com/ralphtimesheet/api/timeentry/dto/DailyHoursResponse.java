@@ -0,0 +1,20 @@
+package com.ralphtimesheet.api.timeentry.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyHoursResponse {
+
+    private LocalDate date;
+    private BigDecimal hours;
+}
@@ -0,0 +1,26 @@
+package com.ralphtimesheet.api.timeentry.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadModelConsistencyResponse {
+
+    private boolean consistent;
+    private long sourceRows;
+    private long viewRows;
+    private long missing;
+    private long orphaned;
+    private long stale;
+    private List<Long> missingIds;
+    private List<Long> orphanedIds;
+    private List<Long> staleIds;
+}
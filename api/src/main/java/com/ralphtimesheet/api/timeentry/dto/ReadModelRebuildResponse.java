@@ -0,0 +1,18 @@
+package com.ralphtimesheet.api.timeentry.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadModelRebuildResponse {
+
+    private long removed;
+    private long rows;
+}
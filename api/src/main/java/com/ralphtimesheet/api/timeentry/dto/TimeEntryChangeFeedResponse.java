@@ -0,0 +1,20 @@
+package com.ralphtimesheet.api.timeentry.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeEntryChangeFeedResponse {
+
+    private List<TimeEntryChangeResponse> changes;
+    private Long nextCursor;
+    private boolean hasMore;
+}
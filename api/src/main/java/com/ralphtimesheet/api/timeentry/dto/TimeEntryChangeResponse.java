@@ -0,0 +1,28 @@
+package com.ralphtimesheet.api.timeentry.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeEntryChangeResponse {
+
+    private Long sequence;
+    private String type;
+    private Long timeEntryId;
+    private Long employeeId;
+    private Long projectId;
+    private LocalDate date;
+    private BigDecimal hours;
+    private String description;
+    private Instant changedAt;
+}
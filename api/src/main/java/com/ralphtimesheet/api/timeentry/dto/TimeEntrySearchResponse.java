@@ -0,0 +1,22 @@
+package com.ralphtimesheet.api.timeentry.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeEntrySearchResponse {
+
+    private String query;
+    private int page;
+    private int size;
+    private long total;
+    private List<TimeEntrySearchHitResponse> hits;
+}
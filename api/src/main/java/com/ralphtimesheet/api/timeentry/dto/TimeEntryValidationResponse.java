@@ -0,0 +1,20 @@
+package com.ralphtimesheet.api.timeentry.dto;
+
+import com.ralphtimesheet.api.timeentry.rule.RuleViolation;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeEntryValidationResponse {
+
+    private boolean valid;
+    private List<RuleViolation> violations;
+}
@@ -0,0 +1,27 @@
+package com.ralphtimesheet.api.timeentry.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklySummaryResponse {
+
+    private Long employeeId;
+    private Long projectId;
+    private LocalDate weekStart;
+    private LocalDate weekEnd;
+    private BigDecimal totalHours;
+    private BigDecimal expectedHours;
+    private BigDecimal overtimeHours;
+    private List<DailyHoursResponse> days;
+}
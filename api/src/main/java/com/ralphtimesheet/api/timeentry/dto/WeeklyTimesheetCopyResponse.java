@@ -0,0 +1,26 @@
+package com.ralphtimesheet.api.timeentry.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyTimesheetCopyResponse {
+
+    private Long employeeId;
+    private LocalDate sourceWeekStart;
+    private LocalDate weekStart;
+    private LocalDate weekEnd;
+    private int copied;
+    private int skipped;
+    private List<WeeklyTimesheetRowResponse> rows;
+    private List<DailyHoursResponse> days;
+}
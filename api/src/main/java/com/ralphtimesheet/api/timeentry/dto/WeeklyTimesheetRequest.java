@@ -0,0 +1,21 @@
+package com.ralphtimesheet.api.timeentry.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyTimesheetRequest {
+
+    @NotNull
+    private List<@NotNull @Valid WeeklyTimesheetRowRequest> rows;
+}
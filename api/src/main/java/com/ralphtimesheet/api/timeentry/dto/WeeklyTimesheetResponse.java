@@ -0,0 +1,26 @@
+package com.ralphtimesheet.api.timeentry.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyTimesheetResponse {
+
+    private Long employeeId;
+    private LocalDate weekStart;
+    private LocalDate weekEnd;
+    private int created;
+    private int updated;
+    private int deleted;
+    private List<WeeklyTimesheetRowResponse> rows;
+    private List<DailyHoursResponse> days;
+}
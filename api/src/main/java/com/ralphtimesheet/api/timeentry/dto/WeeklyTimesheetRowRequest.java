@@ -0,0 +1,36 @@
+package com.ralphtimesheet.api.timeentry.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyTimesheetRowRequest {
+
+    @NotNull
+    private Long projectId;
+
+    @NotNull
+    @Size(min = 7, max = 7)
+    private List<
+        @DecimalMin(value = "0.00")
+        @DecimalMax(value = "24.00")
+        @Digits(integer = 2, fraction = 2)
+        BigDecimal> hours;
+
+    @Size(max = 500)
+    private String description;
+}
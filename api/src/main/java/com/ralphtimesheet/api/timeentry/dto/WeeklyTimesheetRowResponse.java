@@ -0,0 +1,22 @@
+package com.ralphtimesheet.api.timeentry.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyTimesheetRowResponse {
+
+    private Long projectId;
+    private String projectName;
+    private String projectCode;
+    private List<BigDecimal> hours;
+}
@@ -0,0 +1,66 @@
+package com.ralphtimesheet.api.timeentry.rule;
+
+import com.ralphtimesheet.api.timeentry.ArchivedTimeEntryRepository;
+import com.ralphtimesheet.api.timeentry.EmployeeDayIndex;
+import com.ralphtimesheet.api.timeentry.TimeEntry;
+import com.ralphtimesheet.api.timeentry.TimeEntryArchiveProperties;
+import com.ralphtimesheet.api.timeentry.TimeEntryRepository;
+import com.ralphtimesheet.api.timeentry.TimeEntrySnapshot;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(1000)
+@RequiredArgsConstructor
+public class DailyHourLimitRule implements TimeEntryRule {
+
+    public static final BigDecimal DAILY_HOUR_LIMIT = new BigDecimal("24.00");
+
+    public static final RuleViolation VIOLATION =
+        new RuleViolation("hours.daily-limit", "hours", "Total hours per day cannot exceed 24.");
+
+    private static final Optional<RuleViolation> REJECTED = Optional.of(VIOLATION);
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final ArchivedTimeEntryRepository archivedTimeEntryRepository;
+    private final EmployeeDayIndex employeeDayIndex;
+    private final TimeEntryArchiveProperties archiveProperties;
+
+    @Override
+    public Optional<RuleViolation> check(TimeEntryCandidate candidate) {
+        if (candidate.getEmployeeId() == null || candidate.getDate() == null || candidate.getHours() == null
+            || candidate.keepsEmployeeDateAndHours()) {
+            return Optional.empty();
+        }
+
+        BigDecimal total = hoursLoggedOn(candidate.getEmployeeId(), candidate.getDate(), candidate.getExisting())
+            .add(candidate.getHours());
+        return total.compareTo(DAILY_HOUR_LIMIT) > 0 ? REJECTED : Optional.empty();
+    }
+
+    private BigDecimal hoursLoggedOn(Long employeeId, LocalDate date, TimeEntrySnapshot existing) {
+        LocalDate cutoff = archiveProperties.cutoff(LocalDate.now());
+        boolean archived = date.isBefore(cutoff);
+        if (!archived && employeeDayIndex.covers(date)) {
+            BigDecimal total = employeeDayIndex.hoursOn(employeeId, null, date);
+            if (existing != null && existing.getEmployeeId().equals(employeeId) && existing.getDate().equals(date)) {
+                total = total.subtract(existing.getHours());
+            }
+            return total;
+        }
+
+        BigDecimal total = timeEntryRepository.findByEmployeeIdAndDateBetween(employeeId, date, date)
+            .stream()
+            .filter(entry -> existing == null || !entry.getId().equals(existing.getId()))
+            .map(TimeEntry::getHours)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (archived) {
+            total = total.add(archivedTimeEntryRepository.sumHoursByEmployeeIdAndDate(employeeId, date));
+        }
+        return total;
+    }
+}
@@ -0,0 +1,25 @@
+package com.ralphtimesheet.api.timeentry.rule;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(200)
+public class FutureDateRule implements TimeEntryRule {
+
+    public static final RuleViolation VIOLATION =
+        new RuleViolation("date.not-future", "date", "Date cannot be in the future.");
+
+    private static final Optional<RuleViolation> REJECTED = Optional.of(VIOLATION);
+
+    @Override
+    public Optional<RuleViolation> check(TimeEntryCandidate candidate) {
+        LocalDate date = candidate.getDate();
+        if (date == null || !date.isAfter(LocalDate.now())) {
+            return Optional.empty();
+        }
+        return REJECTED;
+    }
+}
@@ -0,0 +1,56 @@
+package com.ralphtimesheet.api.timeentry.rule;
+
+import com.ralphtimesheet.api.budget.ProjectBudgetTracker;
+import com.ralphtimesheet.api.project.BudgetEnforcement;
+import com.ralphtimesheet.api.project.Project;
+import com.ralphtimesheet.api.project.ProjectRepository;
+import com.ralphtimesheet.api.timeentry.TimeEntrySnapshot;
+import java.math.BigDecimal;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(1100)
+@RequiredArgsConstructor
+public class ProjectBudgetRule implements TimeEntryRule {
+
+    public static final RuleViolation VIOLATION =
+        new RuleViolation("project.budget", "hours", "Project hour budget would be exceeded.");
+
+    private final ProjectRepository projectRepository;
+    private final ProjectBudgetTracker budgetTracker;
+
+    @Override
+    public Optional<RuleViolation> check(TimeEntryCandidate candidate) {
+        if (candidate.getProjectId() == null || candidate.getHours() == null) {
+            return Optional.empty();
+        }
+        BigDecimal added = addedHours(candidate);
+        if (added.signum() <= 0) {
+            return Optional.empty();
+        }
+
+        Project project = projectRepository.findById(candidate.getProjectId()).orElse(null);
+        if (project == null || project.getBudgetHours() == null
+            || project.getBudgetEnforcement() != BudgetEnforcement.HARD) {
+            return Optional.empty();
+        }
+        BigDecimal burned = budgetTracker.burnedHours(project.getId());
+        if (burned.add(added).compareTo(project.getBudgetHours()) <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(VIOLATION.withMessage("Project hour budget of " + project.getBudgetHours()
+            + " would be exceeded; " + project.getBudgetHours().subtract(burned).max(BigDecimal.ZERO)
+            + " hours remain."));
+    }
+
+    private static BigDecimal addedHours(TimeEntryCandidate candidate) {
+        TimeEntrySnapshot existing = candidate.getExisting();
+        if (existing != null && candidate.getProjectId().equals(existing.getProjectId())) {
+            return candidate.getHours().subtract(existing.getHours());
+        }
+        return candidate.getHours();
+    }
+}
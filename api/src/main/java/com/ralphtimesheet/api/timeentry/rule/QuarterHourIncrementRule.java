@@ -0,0 +1,26 @@
+package com.ralphtimesheet.api.timeentry.rule;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(100)
+public class QuarterHourIncrementRule implements TimeEntryRule {
+
+    public static final RuleViolation VIOLATION =
+        new RuleViolation("hours.quarter-hour", "hours", "Hours must be in 15-minute increments.");
+
+    private static final BigDecimal QUARTER_HOUR_INCREMENT = new BigDecimal("0.25");
+    private static final Optional<RuleViolation> REJECTED = Optional.of(VIOLATION);
+
+    @Override
+    public Optional<RuleViolation> check(TimeEntryCandidate candidate) {
+        BigDecimal hours = candidate.getHours();
+        if (hours == null || hours.remainder(QUARTER_HOUR_INCREMENT).signum() == 0) {
+            return Optional.empty();
+        }
+        return REJECTED;
+    }
+}
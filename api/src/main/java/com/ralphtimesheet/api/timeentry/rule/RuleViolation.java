@@ -0,0 +1,25 @@
+package com.ralphtimesheet.api.timeentry.rule;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public final class RuleViolation {
+
+    private final String rule;
+    private final String field;
+    private final String message;
+
+    public RuleViolation at(String path) {
+        return new RuleViolation(rule, path, message);
+    }
+
+    public RuleViolation withMessage(String detail) {
+        return new RuleViolation(rule, field, detail);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ralphtimesheet.api.timeentry.rule;
+
+import com.ralphtimesheet.api.timeentry.TimeEntrySnapshot;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TimeEntryCandidate {
+
+    private final Long employeeId;
+    private final Long projectId;
+    private final LocalDate date;
+    private final BigDecimal hours;
+    private final String description;
+    private final TimeEntrySnapshot existing;
+
+    public boolean keepsEmployeeDateAndHours() {
+        return existing != null
+            && Objects.equals(employeeId, existing.getEmployeeId())
+            && Objects.equals(date, existing.getDate())
+            && hours != null
+            && hours.compareTo(existing.getHours()) == 0;
+    }
+}
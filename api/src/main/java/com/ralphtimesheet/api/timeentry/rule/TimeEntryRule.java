@@ -0,0 +1,8 @@
+package com.ralphtimesheet.api.timeentry.rule;
+
+import java.util.Optional;
+
+public interface TimeEntryRule {
+
+    Optional<RuleViolation> check(TimeEntryCandidate candidate);
+}
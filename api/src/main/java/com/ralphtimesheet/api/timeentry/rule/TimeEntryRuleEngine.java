@@ -0,0 +1,69 @@
+package com.ralphtimesheet.api.timeentry.rule;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TimeEntryRuleEngine {
+
+    private final List<TimeEntryRule> rules;
+    private final Validator validator;
+    private final Map<RuleViolation, TimeEntryRulesException> preallocated = new IdentityHashMap<>();
+
+    public TimeEntryRuleEngine(List<TimeEntryRule> rules, Validator validator) {
+        this.rules = List.copyOf(rules);
+        this.validator = validator;
+        for (RuleViolation violation : List.of(
+            QuarterHourIncrementRule.VIOLATION,
+            FutureDateRule.VIOLATION,
+            DailyHourLimitRule.VIOLATION
+        )) {
+            preallocated.put(violation, new TimeEntryRulesException(List.of(violation)));
+        }
+    }
+
+    public List<RuleViolation> evaluate(TimeEntryCandidate candidate) {
+        List<RuleViolation> violations = new ArrayList<>(0);
+        for (TimeEntryRule rule : rules) {
+            rule.check(candidate).ifPresent(violations::add);
+        }
+        return violations;
+    }
+
+    public void enforce(TimeEntryCandidate candidate) {
+        reject(evaluate(candidate));
+    }
+
+    public void reject(List<RuleViolation> violations) {
+        if (violations.isEmpty()) {
+            return;
+        }
+        if (violations.size() == 1) {
+            TimeEntryRulesException shared = preallocated.get(violations.get(0));
+            if (shared != null) {
+                throw shared;
+            }
+        }
+        throw new TimeEntryRulesException(violations);
+    }
+
+    public List<RuleViolation> checkConstraints(Object request) {
+        return validator.validate(request)
+            .stream()
+            .sorted(Comparator.comparing((ConstraintViolation<Object> violation) -> violation.getPropertyPath().toString()))
+            .map(TimeEntryRuleEngine::toViolation)
+            .toList();
+    }
+
+    public static RuleViolation toViolation(ConstraintViolation<?> violation) {
+        String constraint = violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName();
+        return new RuleViolation("constraint." + constraint, violation.getPropertyPath().toString(),
+            violation.getMessage());
+    }
+}
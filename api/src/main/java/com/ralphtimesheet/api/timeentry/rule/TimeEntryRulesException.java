@@ -0,0 +1,17 @@
+package com.ralphtimesheet.api.timeentry.rule;
+
+import com.ralphtimesheet.api.timeentry.TimeEntryValidationException;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+@Getter
+public class TimeEntryRulesException extends TimeEntryValidationException {
+
+    private final transient List<RuleViolation> violations;
+
+    public TimeEntryRulesException(List<RuleViolation> violations) {
+        super(violations.stream().map(RuleViolation::getMessage).collect(Collectors.joining(" ")));
+        this.violations = List.copyOf(violations);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ralphtimesheet.api.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final WarmupRunner warmupRunner;
+
+    @Override
+    public Health health() {
+        WarmupRunner.Phase phase = warmupRunner.getPhase();
+        Health.Builder health = switch (phase) {
+            case PENDING, RUNNING -> Health.outOfService();
+            case COMPLETED, TIMED_OUT, DISABLED -> Health.up();
+        };
+        return health
+            .withDetail("phase", phase)
+            .withDetail("durationMs", warmupRunner.getDuration().toMillis())
+            .withDetail("iterations", warmupRunner.getCompletedIterations())
+            .withDetail("failedIterations", warmupRunner.getFailedIterations())
+            .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.ralphtimesheet.api.warmup;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "timesheet.warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+
+    private int iterations = 500;
+
+    private int sampleSize = 20;
+
+    private int weeks = 8;
+
+    private Duration timeout = Duration.ofSeconds(60);
+}
@@ -0,0 +1,145 @@
+package com.ralphtimesheet.api.warmup;
+
+import com.ralphtimesheet.api.employee.EmployeeService;
+import com.ralphtimesheet.api.employee.dto.EmployeeResponse;
+import com.ralphtimesheet.api.project.ProjectService;
+import com.ralphtimesheet.api.project.dto.ProjectResponse;
+import com.ralphtimesheet.api.timeentry.TimeEntryService;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class WarmupRunner {
+
+    public enum Phase {
+        PENDING, RUNNING, COMPLETED, TIMED_OUT, DISABLED
+    }
+
+    private final TimeEntryService timeEntryService;
+    private final EmployeeService employeeService;
+    private final ProjectService projectService;
+    private final WarmupProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer durationTimer;
+    private volatile Phase phase;
+    private volatile long startedAt;
+    private volatile long finishedAt;
+    private volatile int completedIterations;
+    private volatile int failedIterations;
+
+    public WarmupRunner(
+        TimeEntryService timeEntryService,
+        EmployeeService employeeService,
+        ProjectService projectService,
+        WarmupProperties properties,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.timeEntryService = timeEntryService;
+        this.employeeService = employeeService;
+        this.projectService = projectService;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.durationTimer = meterRegistry.timer("timesheet.warmup.duration");
+        this.phase = properties.isEnabled() ? Phase.PENDING : Phase.DISABLED;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (phase == Phase.PENDING) {
+            Thread.ofPlatform().name("warmup").daemon().start(this::run);
+        }
+    }
+
+    public void run() {
+        startedAt = System.nanoTime();
+        phase = Phase.RUNNING;
+        long deadline = startedAt + properties.getTimeout().toNanos();
+        try {
+            List<EmployeeResponse> employees = transactionTemplate.execute(status -> employeeService.getEmployees());
+            List<ProjectResponse> projects = transactionTemplate.execute(status -> projectService.getProjects(null));
+            LocalDate currentWeek = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            int employeeSamples = Math.min(properties.getSampleSize(), employees.size());
+            int projectSamples = Math.min(properties.getSampleSize(), projects.size());
+
+            for (int iteration = 0; employeeSamples > 0 && projectSamples > 0 && iteration < properties.getIterations();
+                iteration++) {
+                if (System.nanoTime() >= deadline || Thread.currentThread().isInterrupted()) {
+                    phase = Phase.TIMED_OUT;
+                    break;
+                }
+                Long employeeId = employees.get(iteration % employeeSamples).getId();
+                Long projectId = projects.get(iteration % projectSamples).getId();
+                LocalDate weekStart = currentWeek.minusWeeks(iteration % Math.max(1, properties.getWeeks()));
+                try {
+                    transactionTemplate.executeWithoutResult(status -> exercise(employeeId, projectId, weekStart));
+                    completedIterations++;
+                } catch (RuntimeException ex) {
+                    failedIterations++;
+                    log.debug("Warm-up iteration {} failed", iteration, ex);
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Warm-up aborted", ex);
+        } finally {
+            finishedAt = System.nanoTime();
+            if (phase == Phase.RUNNING) {
+                phase = Phase.COMPLETED;
+            }
+            durationTimer.record(finishedAt - startedAt, TimeUnit.NANOSECONDS);
+            log.info("Warm-up {} after {} with {} iterations ({} failed)", phase.name().toLowerCase(),
+                getDuration(), completedIterations, failedIterations);
+        }
+    }
+
+    public Phase getPhase() {
+        if (phase == Phase.RUNNING && System.nanoTime() - startedAt >= properties.getTimeout().toNanos()) {
+            return Phase.TIMED_OUT;
+        }
+        return phase;
+    }
+
+    public Duration getDuration() {
+        return switch (phase) {
+            case PENDING, DISABLED -> Duration.ZERO;
+            case RUNNING -> Duration.ofNanos(System.nanoTime() - startedAt);
+            case COMPLETED, TIMED_OUT -> Duration.ofNanos(finishedAt - startedAt);
+        };
+    }
+
+    public int getCompletedIterations() {
+        return completedIterations;
+    }
+
+    public int getFailedIterations() {
+        return failedIterations;
+    }
+
+    private void exercise(Long employeeId, Long projectId, LocalDate weekStart) {
+        LocalDate weekEnd = weekStart.plusDays(6);
+        employeeService.getEmployee(employeeId);
+        projectService.getProject(projectId);
+        List<TimeEntryResponse> entries = timeEntryService.getTimeEntries(employeeId, null, weekStart, weekEnd);
+        if (!entries.isEmpty()) {
+            timeEntryService.getTimeEntry(entries.get(0).getId());
+        }
+        timeEntryService.getTimeEntries(null, projectId, weekStart, weekEnd);
+        timeEntryService.getWeeklySummary(employeeId, null, weekStart);
+        timeEntryService.getWeeklySummary(null, projectId, weekStart);
+    }
+}
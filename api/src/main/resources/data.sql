@@ -1,3 +1,7 @@
+DELETE FROM time_entry_changes;
+DELETE FROM time_entry_views;
+DELETE FROM time_entry_archive_views;
+DELETE FROM time_entries_archive;
 DELETE FROM time_entries;
 DELETE FROM projects;
 DELETE FROM employees;
@@ -18,6 +22,19 @@ INSERT INTO time_entries (id, employee_id, project_id, date, hours, description)
   (3, 2, 2, '2024-06-03', 6.00, 'Sprint planning and coordination'),
   (4, 3, 3, '2024-06-05', 2.25, 'ERP vendor sync');
 
+INSERT INTO time_entry_changes (sequence, time_entry_id, type, employee_id, project_id, date, hours, description, changed_at) VALUES
+  (1, 1, 'CREATED', 1, 1, '2024-06-03', 4.50, 'Wireframe review and planning', '2024-06-03 17:00:00'),
+  (2, 2, 'CREATED', 1, 2, '2024-06-04', 3.75, 'Mobile onboarding QA session', '2024-06-04 17:00:00'),
+  (3, 3, 'CREATED', 2, 2, '2024-06-03', 6.00, 'Sprint planning and coordination', '2024-06-03 17:00:00'),
+  (4, 4, 'CREATED', 3, 3, '2024-06-05', 2.25, 'ERP vendor sync', '2024-06-05 17:00:00');
+
+INSERT INTO time_entry_views (id, employee_id, employee_first_name, employee_last_name, employee_email, project_id, project_name, project_code, date, hours, description)
+SELECT e.id, e.employee_id, emp.first_name, emp.last_name, emp.email, e.project_id, p.name, p.code, e.date, e.hours, e.description
+FROM time_entries e
+JOIN employees emp ON emp.id = e.employee_id
+JOIN projects p ON p.id = e.project_id;
+
 ALTER TABLE employees ALTER COLUMN id RESTART WITH 4;
 ALTER TABLE projects ALTER COLUMN id RESTART WITH 4;
 ALTER TABLE time_entries ALTER COLUMN id RESTART WITH 5;
+ALTER TABLE time_entry_changes ALTER COLUMN sequence RESTART WITH 5;
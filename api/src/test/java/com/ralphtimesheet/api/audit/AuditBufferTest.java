@@ -0,0 +1,103 @@
+package com.ralphtimesheet.api.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AuditBufferTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldDrainInArrivalOrderAcrossWrapAround() throws InterruptedException {
+        AuditBuffer buffer = new AuditBuffer(3, AuditOverflowPolicy.DROP_NEWEST, Duration.ZERO, meterRegistry);
+        buffer.offer(record(1L));
+        buffer.offer(record(2L));
+        List<AuditRecord> batch = new ArrayList<>();
+        buffer.drainTo(batch, 1, Duration.ZERO);
+        buffer.offer(record(3L));
+        buffer.offer(record(4L));
+
+        buffer.drainTo(batch, 10, Duration.ZERO);
+
+        assertThat(batch).extracting(AuditRecord::getEntityId).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void shouldDropNewestRecordWhenFull() throws InterruptedException {
+        AuditBuffer buffer = new AuditBuffer(2, AuditOverflowPolicy.DROP_NEWEST, Duration.ZERO, meterRegistry);
+
+        assertThat(buffer.offer(record(1L))).isTrue();
+        assertThat(buffer.offer(record(2L))).isTrue();
+        assertThat(buffer.offer(record(3L))).isFalse();
+
+        assertThat(drain(buffer)).containsExactly(1L, 2L);
+        assertThat(dropped()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldOverwriteOldestRecordWhenFull() throws InterruptedException {
+        AuditBuffer buffer = new AuditBuffer(2, AuditOverflowPolicy.DROP_OLDEST, Duration.ZERO, meterRegistry);
+
+        buffer.offer(record(1L));
+        buffer.offer(record(2L));
+        assertThat(buffer.offer(record(3L))).isTrue();
+
+        assertThat(drain(buffer)).containsExactly(2L, 3L);
+        assertThat(dropped()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBlockUntilWriterMakesRoom() throws Exception {
+        AuditBuffer buffer = new AuditBuffer(1, AuditOverflowPolicy.BLOCK, Duration.ofSeconds(5), meterRegistry);
+        buffer.offer(record(1L));
+        List<AuditRecord> batch = new ArrayList<>();
+        Thread writer = Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(50);
+                buffer.drainTo(batch, 1, Duration.ZERO);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertThat(buffer.offer(record(2L))).isTrue();
+        writer.join();
+
+        assertThat(batch).extracting(AuditRecord::getEntityId).containsExactly(1L);
+        assertThat(drain(buffer)).containsExactly(2L);
+        assertThat(meterRegistry.counter("timesheet.audit.buffer.blocked").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropAfterBlockTimeoutExpires() {
+        AuditBuffer buffer = new AuditBuffer(1, AuditOverflowPolicy.BLOCK, Duration.ofMillis(10), meterRegistry);
+        buffer.offer(record(1L));
+
+        assertThat(buffer.offer(record(2L))).isFalse();
+        assertThat(dropped()).isEqualTo(1);
+    }
+
+    private List<Long> drain(AuditBuffer buffer) throws InterruptedException {
+        List<AuditRecord> batch = new ArrayList<>();
+        buffer.drainTo(batch, Integer.MAX_VALUE, Duration.ZERO);
+        return batch.stream().map(AuditRecord::getEntityId).toList();
+    }
+
+    private double dropped() {
+        return meterRegistry.counter("timesheet.audit.records", "outcome", "dropped").count();
+    }
+
+    private AuditRecord record(Long entityId) {
+        return AuditRecord.builder()
+            .entityType(AuditEntityType.TIME_ENTRY)
+            .entityId(entityId)
+            .action(AuditAction.CREATED)
+            .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.ralphtimesheet.api.audit;
+
+import static com.ralphtimesheet.api.support.StatementBudget.countStatements;
+import static com.ralphtimesheet.api.support.StatementBudget.statementsAtMost;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class AuditControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuditRecordRepository auditRecordRepository;
+
+    @Test
+    void shouldReturnAuditTrailForEntityNewestFirst() throws Exception {
+        record(AuditEntityType.TIME_ENTRY, 1L, AuditAction.CREATED, null, "{\"hours\":4.50}");
+        record(AuditEntityType.TIME_ENTRY, 1L, AuditAction.UPDATED, "{\"hours\":4.50}", "{\"hours\":5.00}");
+        record(AuditEntityType.TIME_ENTRY, 2L, AuditAction.DELETED, "{\"hours\":3.75}", null);
+        record(AuditEntityType.EMPLOYEE, 1L, AuditAction.UPDATED, "{}", "{}");
+
+        mockMvc.perform(get("/api/v1/audit").param("entity", "TIME_ENTRY").param("id", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].action", is("UPDATED")))
+            .andExpect(jsonPath("$[0].actor", is("auditor")))
+            .andExpect(jsonPath("$[0].before.hours", is(4.50)))
+            .andExpect(jsonPath("$[0].after.hours", is(5.00)))
+            .andExpect(jsonPath("$[1].action", is("CREATED")))
+            .andExpect(jsonPath("$[1].before", nullValue()));
+
+        mockMvc.perform(get("/api/v1/audit").param("entity", "TIME_ENTRY").param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].entityId", is(2)));
+    }
+
+    @Test
+    void shouldRejectInvalidAuditQueries() throws Exception {
+        mockMvc.perform(get("/api/v1/audit").param("entity", "INVOICE"))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/audit").param("entity", "PROJECT").param("limit", "0"))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/audit"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReadAuditTrailWithinStatementBudget() throws Exception {
+        for (long id = 1; id <= 50; id++) {
+            record(AuditEntityType.PROJECT, id % 3, AuditAction.UPDATED, "{}", "{}");
+        }
+
+        mockMvc.perform(get("/api/v1/audit").with(countStatements()).param("entity", "PROJECT").param("id", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(17)))
+            .andExpect(statementsAtMost(1));
+    }
+
+    private void record(AuditEntityType entityType, Long entityId, AuditAction action, String before, String after) {
+        auditRecordRepository.saveAndFlush(AuditRecord.builder()
+            .entityType(entityType)
+            .entityId(entityId)
+            .action(action)
+            .actor("auditor")
+            .occurredAt(Instant.now())
+            .beforeState(before)
+            .afterState(after)
+            .build());
+    }
+}
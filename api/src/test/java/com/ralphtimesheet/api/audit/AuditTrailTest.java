@@ -0,0 +1,91 @@
+package com.ralphtimesheet.api.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.ralphtimesheet.api.employee.EmployeeChangedEvent;
+import com.ralphtimesheet.api.employee.dto.EmployeeResponse;
+import com.ralphtimesheet.api.timeentry.TimeEntryChangedEvent;
+import com.ralphtimesheet.api.timeentry.TimeEntrySnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class AuditTrailTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private AuditBuffer buffer;
+    private AuditTrail auditTrail;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new AuditBuffer(16, AuditOverflowPolicy.DROP_NEWEST, Duration.ZERO, new SimpleMeterRegistry());
+        auditTrail = new AuditTrail(buffer, new AuditProperties(), objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldCaptureTimeEntrySnapshotsAndRequestActor() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Actor", "auditor@example.com");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        TimeEntrySnapshot before = snapshot("4.00");
+        TimeEntrySnapshot after = snapshot("5.50");
+
+        auditTrail.onTimeEntryChanged(TimeEntryChangedEvent.updated(before, after));
+
+        AuditRecord record = drainOne();
+        assertThat(record.getEntityType()).isEqualTo(AuditEntityType.TIME_ENTRY);
+        assertThat(record.getEntityId()).isEqualTo(7L);
+        assertThat(record.getAction()).isEqualTo(AuditAction.UPDATED);
+        assertThat(record.getActor()).isEqualTo("auditor@example.com");
+        assertThat(objectMapper.readTree(record.getBeforeState()).get("hours").decimalValue()).isEqualByComparingTo("4.00");
+        assertThat(objectMapper.readTree(record.getAfterState()).get("hours").decimalValue()).isEqualByComparingTo("5.50");
+    }
+
+    @Test
+    void shouldAttributeChangesOutsideRequestsToSystem() throws Exception {
+        EmployeeResponse created = EmployeeResponse.builder().id(3L).firstName("Liam").lastName("Turner").build();
+
+        auditTrail.onEmployeeChanged(new EmployeeChangedEvent(3L, null, created));
+
+        AuditRecord record = drainOne();
+        assertThat(record.getEntityType()).isEqualTo(AuditEntityType.EMPLOYEE);
+        assertThat(record.getAction()).isEqualTo(AuditAction.CREATED);
+        assertThat(record.getActor()).isEqualTo(AuditTrail.SYSTEM_ACTOR);
+        assertThat(record.getBeforeState()).isNull();
+        assertThat(objectMapper.readTree(record.getAfterState()).get("lastName").asText()).isEqualTo("Turner");
+    }
+
+    private AuditRecord drainOne() throws InterruptedException {
+        List<AuditRecord> batch = new ArrayList<>();
+        buffer.drainTo(batch, 10, Duration.ZERO);
+        assertThat(batch).hasSize(1);
+        return batch.get(0);
+    }
+
+    private TimeEntrySnapshot snapshot(String hours) {
+        return TimeEntrySnapshot.builder()
+            .id(7L)
+            .employeeId(1L)
+            .projectId(1L)
+            .date(LocalDate.of(2024, 6, 3))
+            .hours(new BigDecimal(hours))
+            .description("Vendor sync")
+            .build();
+    }
+}
@@ -0,0 +1,185 @@
+package com.ralphtimesheet.api.budget;
+
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ralphtimesheet.api.project.BudgetEnforcement;
+import com.ralphtimesheet.api.project.dto.ProjectRequest;
+import com.ralphtimesheet.api.timeentry.dto.BulkReassignRequest;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryRequest;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetRequest;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetRowRequest;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class ProjectBudgetControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectBudgetTracker budgetTracker;
+
+    @Test
+    void shouldReportUnbudgetedProject() throws Exception {
+        mockMvc.perform(get("/api/v1/projects/{id}/budget", 3L))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.projectName", is("ERP Migration")))
+            .andExpect(jsonPath("$.status", is("UNBUDGETED")))
+            .andExpect(jsonPath("$.burnedHours", is(budgetTracker.burnedHours(3L).doubleValue())))
+            .andExpect(jsonPath("$.reconciledAt").exists());
+    }
+
+    @Test
+    void shouldReportBurnAgainstBudget() throws Exception {
+        BigDecimal burned = budgetTracker.burnedHours(1L);
+        setBudget(BigDecimal.valueOf(burned.doubleValue() / 0.9).setScale(2, RoundingMode.UP),
+            BudgetEnforcement.SOFT);
+
+        mockMvc.perform(get("/api/v1/projects/{id}/budget", 1L))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.enforcement", is("SOFT")))
+            .andExpect(jsonPath("$.status", is("WARNING")))
+            .andExpect(jsonPath("$.burnedHours", is(burned.doubleValue())));
+    }
+
+    @Test
+    void shouldRejectEntriesBeyondHardBudget() throws Exception {
+        setBudget(budgetTracker.burnedHours(1L).add(new BigDecimal("1.50")), BudgetEnforcement.HARD);
+
+        createTimeEntry(new BigDecimal("2.00"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.violations[0].rule", is("project.budget")))
+            .andExpect(jsonPath("$.violations[0].field", is("hours")));
+        createTimeEntry(new BigDecimal("1.50"))
+            .andExpect(status().isCreated());
+    }
+
+    @Test
+    void shouldOnlyWarnForSoftBudget() throws Exception {
+        setBudget(budgetTracker.burnedHours(1L).add(new BigDecimal("1.50")), BudgetEnforcement.SOFT);
+
+        createTimeEntry(new BigDecimal("2.00"))
+            .andExpect(status().isCreated());
+    }
+
+    @Test
+    void shouldRejectTimesheetRowsBeyondHardBudget() throws Exception {
+        setBudget(budgetTracker.burnedHours(1L).add(new BigDecimal("1.50")), BudgetEnforcement.HARD);
+
+        saveTimesheet("4.50", "2.00")
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.violations[0].rule", is("project.budget")))
+            .andExpect(jsonPath("$.violations[0].field", is("rows[0].hours")));
+        saveTimesheet("3.00", "3.00")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.days[1].hours", is(3.00)));
+    }
+
+    @Test
+    void shouldRejectReassignBeyondHardBudget() throws Exception {
+        setBudget(budgetTracker.burnedHours(1L).add(new BigDecimal("5.00")), BudgetEnforcement.HARD);
+
+        reassign(null, true)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.matched", is(2)))
+            .andExpect(jsonPath("$.affected", is(0)))
+            .andExpect(jsonPath("$.violations[0].rule", is("project.budget")))
+            .andExpect(jsonPath("$.violations[0].field", is("targetProjectId")));
+        reassign(null, false)
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.violations[0].rule", is("project.budget")));
+        reassign(1L, false)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.affected", is(1)));
+    }
+
+    @Test
+    void shouldReturn404ForMissingProject() throws Exception {
+        mockMvc.perform(get("/api/v1/projects/{id}/budget", 9999L))
+            .andExpect(status().isNotFound());
+    }
+
+    private void setBudget(BigDecimal budgetHours, BudgetEnforcement enforcement) throws Exception {
+        ProjectRequest request = ProjectRequest.builder()
+            .name("Apollo Redesign")
+            .code("PRJ-ENG-001")
+            .description("Revamp the primary web experience for Q4 launch.")
+            .active(true)
+            .budgetHours(budgetHours)
+            .budgetEnforcement(enforcement)
+            .build();
+
+        mockMvc.perform(put("/api/v1/projects/{id}", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.budgetEnforcement", is(enforcement.name())));
+    }
+
+    private ResultActions createTimeEntry(BigDecimal hours) throws Exception {
+        TimeEntryRequest request = TimeEntryRequest.builder()
+            .employeeId(3L)
+            .projectId(1L)
+            .date(LocalDate.of(2024, 6, 10))
+            .hours(hours)
+            .description("Budget check")
+            .build();
+
+        return mockMvc.perform(post("/api/v1/time-entries")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private ResultActions saveTimesheet(String... hours) throws Exception {
+        List<BigDecimal> cells = Arrays.stream(Arrays.copyOf(hours, 7))
+            .map(value -> value != null ? new BigDecimal(value) : null)
+            .toList();
+        WeeklyTimesheetRequest request = WeeklyTimesheetRequest.builder()
+            .rows(List.of(WeeklyTimesheetRowRequest.builder()
+                .projectId(1L)
+                .description("Budget check")
+                .hours(cells)
+                .build()))
+            .build();
+
+        return mockMvc.perform(put("/api/v1/employees/{employeeId}/timesheets/{weekStart}", 1L, "2024-06-03")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private ResultActions reassign(Long employeeId, boolean dryRun) throws Exception {
+        BulkReassignRequest request = BulkReassignRequest.builder()
+            .employeeId(employeeId)
+            .sourceProjectId(2L)
+            .targetProjectId(1L)
+            .dryRun(dryRun)
+            .build();
+
+        return mockMvc.perform(post("/api/v1/time-entries/reassign")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)));
+    }
+}
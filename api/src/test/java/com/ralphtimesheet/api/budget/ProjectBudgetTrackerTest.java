@@ -0,0 +1,152 @@
+package com.ralphtimesheet.api.budget;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ralphtimesheet.api.project.BudgetEnforcement;
+import com.ralphtimesheet.api.project.Project;
+import com.ralphtimesheet.api.project.ProjectRepository;
+import com.ralphtimesheet.api.timeentry.ArchivedTimeEntryRepository;
+import com.ralphtimesheet.api.timeentry.ProjectHoursTotal;
+import com.ralphtimesheet.api.timeentry.TimeEntryChangedEvent;
+import com.ralphtimesheet.api.timeentry.TimeEntryRepository;
+import com.ralphtimesheet.api.timeentry.TimeEntrySnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+class ProjectBudgetTrackerTest {
+
+    private TimeEntryRepository timeEntryRepository;
+    private ArchivedTimeEntryRepository archivedTimeEntryRepository;
+    private ProjectRepository projectRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private SimpleMeterRegistry meterRegistry;
+    private ProjectBudgetTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        timeEntryRepository = mock(TimeEntryRepository.class);
+        archivedTimeEntryRepository = mock(ArchivedTimeEntryRepository.class);
+        projectRepository = mock(ProjectRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new ProjectBudgetTracker(timeEntryRepository, archivedTimeEntryRepository, projectRepository,
+            new ProjectBudgetProperties(), eventPublisher, meterRegistry);
+    }
+
+    @Test
+    void shouldReconcileCurrentAndArchivedHours() {
+        List<ProjectHoursTotal> current = List.of(total(1L, "4.50"), total(2L, "9.75"));
+        List<ProjectHoursTotal> archived = List.of(total(1L, "3.25"));
+        when(timeEntryRepository.sumHoursByProject()).thenReturn(current);
+        when(archivedTimeEntryRepository.sumHoursByProject()).thenReturn(archived);
+        when(projectRepository.findAll()).thenReturn(List.of(project(1L, "10.00"), project(2L, null)));
+        tracker.onTimeEntryChanged(TimeEntryChangedEvent.created(snapshot(1L, "20.00")));
+
+        tracker.reconcile();
+
+        assertThat(tracker.burnedHours(1L)).isEqualByComparingTo("7.75");
+        assertThat(tracker.burnedHours(2L)).isEqualByComparingTo("9.75");
+        assertThat(tracker.burnedHours(3L)).isEqualByComparingTo("0.00");
+        assertThat(tracker.getReconciledAt()).isNotNull();
+    }
+
+    @Test
+    void shouldKeepChangesAppliedWhileReconciling() {
+        when(projectRepository.findAll()).thenReturn(List.of(project(1L, "10.00")));
+        when(archivedTimeEntryRepository.sumHoursByProject()).thenReturn(List.of());
+        when(timeEntryRepository.sumHoursByProject())
+            .thenAnswer(invocation -> {
+                tracker.onTimeEntryChanged(TimeEntryChangedEvent.created(snapshot(1L, "2.00")));
+                return List.of(total(1L, "4.00"));
+            })
+            .thenReturn(List.of(total(1L, "6.00")));
+
+        tracker.reconcile();
+
+        verify(timeEntryRepository, times(2)).sumHoursByProject();
+        assertThat(tracker.burnedHours(1L)).isEqualByComparingTo("6.00");
+    }
+
+    @Test
+    void shouldAlertOncePerThresholdCrossed() {
+        when(projectRepository.findAll()).thenReturn(List.of(project(1L, "10.00")));
+        tracker.reconcile();
+
+        tracker.onTimeEntryChanged(TimeEntryChangedEvent.created(snapshot(1L, "7.00")));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        tracker.onTimeEntryChanged(TimeEntryChangedEvent.created(snapshot(1L, "1.00")));
+        tracker.onTimeEntryChanged(TimeEntryChangedEvent.created(snapshot(1L, "0.50")));
+        tracker.onTimeEntryChanged(TimeEntryChangedEvent.created(snapshot(1L, "2.00")));
+
+        ArgumentCaptor<ProjectBudgetThresholdEvent> alerts = ArgumentCaptor.forClass(ProjectBudgetThresholdEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(alerts.capture());
+        assertThat(alerts.getAllValues()).extracting(ProjectBudgetThresholdEvent::getThreshold).containsExactly(80, 100);
+        assertThat(alerts.getAllValues().get(1).getBurnedHours()).isEqualByComparingTo("10.50");
+        assertThat(meterRegistry.counter("timesheet.projects.budget.alerts", "threshold", "100").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRearmAlertsWhenHoursFallBelowThreshold() {
+        when(projectRepository.findAll()).thenReturn(List.of(project(1L, "10.00")));
+        tracker.reconcile();
+        TimeEntrySnapshot entry = snapshot(1L, "9.00");
+
+        tracker.onTimeEntryChanged(TimeEntryChangedEvent.created(entry));
+        tracker.onTimeEntryChanged(TimeEntryChangedEvent.deleted(entry));
+        tracker.onTimeEntryChanged(TimeEntryChangedEvent.created(entry));
+
+        verify(eventPublisher, times(2)).publishEvent(any(ProjectBudgetThresholdEvent.class));
+        assertThat(tracker.burnedHours(1L)).isEqualByComparingTo("9.00");
+    }
+
+    @Test
+    void shouldMoveHoursBetweenProjectsOnUpdate() {
+        tracker.onTimeEntryChanged(TimeEntryChangedEvent.created(snapshot(1L, "3.00")));
+
+        tracker.onTimeEntryChanged(TimeEntryChangedEvent.updated(snapshot(1L, "3.00"), snapshot(2L, "4.25")));
+
+        assertThat(tracker.burnedHours(1L)).isEqualByComparingTo("0.00");
+        assertThat(tracker.burnedHours(2L)).isEqualByComparingTo("4.25");
+    }
+
+    private static ProjectHoursTotal total(Long projectId, String hours) {
+        ProjectHoursTotal total = mock(ProjectHoursTotal.class);
+        when(total.getProjectId()).thenReturn(projectId);
+        when(total.getHours()).thenReturn(new BigDecimal(hours));
+        return total;
+    }
+
+    private static Project project(Long id, String budgetHours) {
+        return Project.builder()
+            .id(id)
+            .name("Project " + id)
+            .code("PRJ-" + id)
+            .active(true)
+            .budgetHours(budgetHours == null ? null : new BigDecimal(budgetHours))
+            .budgetEnforcement(budgetHours == null ? null : BudgetEnforcement.SOFT)
+            .build();
+    }
+
+    private static TimeEntrySnapshot snapshot(Long projectId, String hours) {
+        return TimeEntrySnapshot.builder()
+            .id(1L)
+            .employeeId(1L)
+            .projectId(projectId)
+            .date(LocalDate.of(2024, 6, 3))
+            .hours(new BigDecimal(hours))
+            .build();
+    }
+}
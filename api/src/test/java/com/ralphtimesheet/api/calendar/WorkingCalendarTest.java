@@ -0,0 +1,58 @@
+package com.ralphtimesheet.api.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WorkingCalendarTest {
+
+    private WorkingCalendarProperties properties;
+    private WorkingCalendar calendar;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WorkingCalendarProperties();
+        properties.setHolidays(List.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 25), LocalDate.of(2025, 1, 1)));
+        calendar = new WorkingCalendar(properties);
+    }
+
+    @Test
+    void shouldCountWorkingDaysExcludingWeekendsAndHolidays() {
+        assertThat(calendar.workingDays(LocalDate.of(2024, 6, 3), LocalDate.of(2024, 6, 9))).isEqualTo(5);
+        assertThat(calendar.workingDays(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 7))).isEqualTo(4);
+        assertThat(calendar.workingDays(LocalDate.of(2024, 12, 23), LocalDate.of(2025, 1, 3))).isEqualTo(8);
+        assertThat(calendar.workingDays(LocalDate.of(2024, 6, 9), LocalDate.of(2024, 6, 3))).isZero();
+        assertThat(calendar.expectedHours(LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30)))
+            .isEqualByComparingTo(new BigDecimal("160"));
+        assertThat(calendar.isHoliday(LocalDate.of(2024, 12, 25))).isTrue();
+        assertThat(calendar.isWorkingDay(LocalDate.of(2024, 12, 25))).isFalse();
+        assertThat(calendar.isWorkingDay(LocalDate.of(2024, 12, 31))).isTrue();
+    }
+
+    @Test
+    void shouldMatchDayByDayCountForArbitraryRanges() {
+        properties.setWorkingDays(EnumSet.of(DayOfWeek.SUNDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY));
+        calendar = new WorkingCalendar(properties);
+        LocalDate origin = LocalDate.of(2023, 12, 20);
+
+        for (int start = 0; start < 800; start += 37) {
+            for (int length = 0; length < 500; length += 23) {
+                LocalDate startDate = origin.plusDays(start);
+                LocalDate endDate = startDate.plusDays(length);
+                long expected = startDate.datesUntil(endDate.plusDays(1))
+                    .filter(date -> properties.getWorkingDays().contains(date.getDayOfWeek()))
+                    .filter(date -> !properties.getHolidays().contains(date))
+                    .count();
+
+                assertThat(calendar.workingDays(startDate, endDate)).as("%s..%s", startDate, endDate)
+                    .isEqualTo(expected);
+            }
+        }
+    }
+}
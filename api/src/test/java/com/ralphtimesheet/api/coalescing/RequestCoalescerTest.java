@@ -0,0 +1,82 @@
+package com.ralphtimesheet.api.coalescing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescer coalescer = new RequestCoalescer(meterRegistry);
+
+    @Test
+    void shouldShareOneExecutionAcrossConcurrentIdenticalCalls() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> coalescer.execute("week-23", () -> {
+                started.countDown();
+                await(release);
+                return "result-" + executions.incrementAndGet();
+            })));
+            started.await(5, TimeUnit.SECONDS);
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> coalescer.execute("week-23", () -> "result-" + executions.incrementAndGet())));
+            }
+            while (meterRegistry.counter("timesheet.coalescing.requests", "outcome", "coalesced").count() < 3) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result-1");
+            }
+            assertThat(executions).hasValue(1);
+            assertThat(coalescer.getCoalescingRatio()).isEqualTo(0.75);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldExecuteAgainOnceInFlightCallCompletes() {
+        AtomicInteger executions = new AtomicInteger();
+
+        coalescer.execute("week-23", executions::incrementAndGet);
+        coalescer.execute("week-23", executions::incrementAndGet);
+
+        assertThat(executions).hasValue(2);
+        assertThat(coalescer.getCoalescingRatio()).isZero();
+    }
+
+    @Test
+    void shouldPropagateFailureToCaller() {
+        assertThatThrownBy(() -> coalescer.execute("week-23", () -> {
+            throw new IllegalStateException("database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(coalescer.execute("week-23", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.ralphtimesheet.api.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LongCounterMapTest {
+
+    @Test
+    void shouldAddAndRemoveCounters() {
+        LongCounterMap map = new LongCounterMap();
+        map.add(7L, 3);
+        map.add(7L, 2);
+        map.add(-1L, 4);
+
+        assertThat(map.get(7L)).isEqualTo(5);
+        assertThat(map.remove(7L)).isEqualTo(5);
+        assertThat(map.remove(7L)).isZero();
+        assertThat(map.get(7L)).isZero();
+        assertThat(map.get(-1L)).isEqualTo(4);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepProbeChainsIntactAcrossRandomRemovals() {
+        LongCounterMap map = new LongCounterMap();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            long key = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.getOrDefault(key, 0L));
+                expected.remove(key);
+            } else {
+                map.add(key, 1);
+                expected.merge(key, 1L, Long::sum);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+        Map<Long, Long> visited = new HashMap<>();
+        map.forEach(visited::put);
+        assertThat(visited).isEqualTo(expected);
+    }
+}
@@ -1,5 +1,8 @@
 package com.ralphtimesheet.api.employee;
 
+import static com.ralphtimesheet.api.support.StatementBudget.countStatements;
+import static com.ralphtimesheet.api.support.StatementBudget.flush;
+import static com.ralphtimesheet.api.support.StatementBudget.statementsAtMost;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
@@ -12,11 +15,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ralphtimesheet.api.employee.dto.EmployeeRequest;
+import com.ralphtimesheet.api.support.StatementBudget;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +37,9 @@ class EmployeeControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void shouldReturnAllEmployees() throws Exception {
         mockMvc.perform(get("/api/v1/employees"))
@@ -108,4 +117,58 @@ class EmployeeControllerIntegrationTest {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isNotFound());
     }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldListAllEmployeesWithinStatementBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/employees").with(countStatements()))
+            .andExpect(status().isOk())
+            .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldGetEmployeeWithinStatementBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/{id}", 100L).with(countStatements()))
+            .andExpect(status().isOk())
+            .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldCreateEmployeeWithinStatementBudget() throws Exception {
+        EmployeeRequest request = EmployeeRequest.builder()
+            .firstName("Budget")
+            .lastName("Check")
+            .email("budget.check@example.com")
+            .department("Engineering")
+            .build();
+
+        mockMvc.perform(post("/api/v1/employees")
+                .with(countStatements())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andDo(flush(entityManager))
+            .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldUpdateEmployeeWithinStatementBudget() throws Exception {
+        EmployeeRequest request = EmployeeRequest.builder()
+            .firstName("Budget")
+            .lastName("Check")
+            .email("budget.update@example.com")
+            .department("Finance")
+            .build();
+
+        mockMvc.perform(put("/api/v1/employees/{id}", 100L)
+                .with(countStatements())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andDo(flush(entityManager))
+            .andExpect(statementsAtMost(4));
+    }
 }
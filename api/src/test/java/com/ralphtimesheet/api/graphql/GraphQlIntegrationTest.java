@@ -0,0 +1,132 @@
+package com.ralphtimesheet.api.graphql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.ralphtimesheet.api.support.SqlStatementCounter;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureGraphQlTester;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.ResponseError;
+import org.springframework.http.MediaType;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureGraphQlTester
+@Transactional
+class GraphQlIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @Test
+    void shouldServeQueriesOverHttp() throws Exception {
+        mockMvc.perform(post("/api/v1/graphql")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"query\": \"{ project(id: 1) { code budget { status } } }\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.project.code", is("PRJ-ENG-001")))
+            .andExpect(jsonPath("$.data.project.budget.status", is("UNBUDGETED")));
+    }
+
+    @Test
+    void shouldResolveEmployeesWithTheirWeekInOneQueryPerType() {
+        String document = """
+            {
+              employees {
+                email
+                timeEntries(startDate: "2024-06-03", endDate: "2024-06-09") {
+                  hours
+                  employee { lastName }
+                  project { code budget { burnedHours status } }
+                }
+              }
+            }
+            """;
+
+        SqlStatementCounter.start();
+        graphQlTester.document(document)
+            .execute()
+            .path("employees[*].email").entityList(String.class)
+            .contains("ava.stone@example.com", "noah.garcia@example.com", "liam.turner@example.com")
+            .path("employees[0].timeEntries[*].project.code").entityList(String.class)
+            .containsExactly("PRJ-ENG-001", "PRJ-MOB-002")
+            .path("employees[0].timeEntries[0].employee.lastName").entity(String.class).isEqualTo("Stone")
+            .path("employees[0].timeEntries[0].project.budget.status").entity(String.class).isEqualTo("UNBUDGETED");
+        List<String> statements = SqlStatementCounter.stop();
+
+        assertThat(statements).hasSize(5);
+    }
+
+    @Test
+    void shouldResolveTimeEntriesWithNestedEmployeeAndProject() {
+        graphQlTester.document("""
+                {
+                  timeEntries(projectId: 2) {
+                    date
+                    hours
+                    employee { firstName }
+                    project { name }
+                  }
+                }
+                """)
+            .execute()
+            .path("timeEntries[*].date").entityList(String.class).containsExactly("2024-06-03", "2024-06-04")
+            .path("timeEntries[*].employee.firstName").entityList(String.class).containsExactly("Noah", "Ava")
+            .path("timeEntries[*].project.name").entityList(String.class)
+            .containsExactly("Mobile Launch", "Mobile Launch");
+    }
+
+    @Test
+    void shouldReportNotFoundAsGraphQlError() {
+        graphQlTester.document("{ employee(id: 9999) { email } }")
+            .execute()
+            .errors()
+            .satisfy(errors -> assertThat(errors).singleElement()
+                .extracting(ResponseError::getErrorType)
+                .isEqualTo(ErrorType.NOT_FOUND));
+    }
+
+    @Test
+    void shouldRejectQueriesDeeperThanTheLimit() {
+        graphQlTester.document("""
+                {
+                  employees { timeEntries { employee { timeEntries { employee {
+                    timeEntries { employee { timeEntries { id } } }
+                  } } } } }
+                }
+                """)
+            .execute()
+            .errors()
+            .satisfy(errors -> assertThat(errors).singleElement()
+                .extracting(ResponseError::getMessage).asString()
+                .contains("maximum query depth exceeded"));
+    }
+
+    @Test
+    void shouldRejectQueriesMoreComplexThanTheLimit() {
+        graphQlTester.document("""
+                {
+                  employees { timeEntries { employee { timeEntries { employee { timeEntries { id } } } } } }
+                }
+                """)
+            .execute()
+            .errors()
+            .satisfy(errors -> assertThat(errors).singleElement()
+                .extracting(ResponseError::getMessage).asString()
+                .contains("maximum query complexity exceeded"));
+    }
+}
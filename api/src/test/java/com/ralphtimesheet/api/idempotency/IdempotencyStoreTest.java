@@ -0,0 +1,175 @@
+package com.ralphtimesheet.api.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class IdempotencyStoreTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private IdempotencyProperties properties;
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyProperties();
+        properties.setTtl(Duration.ofMinutes(5));
+        properties.setMaxEntries(2);
+        store = new IdempotencyStore(properties, new ObjectMapper(), meterRegistry, clock::get);
+    }
+
+    @Test
+    void shouldReplayStoredResponseForRepeatedKey() {
+        AtomicInteger executions = new AtomicInteger();
+
+        ResponseEntity<String> first = store.execute("create", "key-1", Map.of("hours", 2), () ->
+            ResponseEntity.status(HttpStatus.CREATED).body("entry-" + executions.incrementAndGet()));
+        ResponseEntity<String> second = store.execute("create", "key-1", Map.of("hours", 2), () ->
+            ResponseEntity.status(HttpStatus.CREATED).body("entry-" + executions.incrementAndGet()));
+
+        assertThat(executions).hasValue(1);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(second.getBody()).isEqualTo(first.getBody());
+        assertThat(second.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    void shouldRejectKeyReusedWithDifferentPayload() {
+        store.execute("create", "key-1", Map.of("hours", 2), () -> ResponseEntity.ok("done"));
+
+        assertThatThrownBy(() -> store.execute("create", "key-1", Map.of("hours", 3), () -> ResponseEntity.ok("again")))
+            .isInstanceOf(IdempotencyKeyConflictException.class);
+    }
+
+    @Test
+    void shouldForgetFailedRequestsSoTheyCanBeRetried() {
+        assertThatThrownBy(() -> store.execute("create", "key-1", Map.of(), () -> {
+            throw new IllegalArgumentException("boom");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        ResponseEntity<String> retried = store.execute("create", "key-1", Map.of(), () -> ResponseEntity.ok("done"));
+
+        assertThat(retried.getBody()).isEqualTo("done");
+    }
+
+    @Test
+    void shouldExecuteAgainAfterTtlExpires() {
+        AtomicInteger executions = new AtomicInteger();
+        store.execute("create", "key-1", Map.of(), () -> ResponseEntity.ok(executions.incrementAndGet()));
+
+        clock.addAndGet(Duration.ofMinutes(6).toMillis());
+        store.execute("create", "key-1", Map.of(), () -> ResponseEntity.ok(executions.incrementAndGet()));
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void shouldEvictOldestCompletedEntryToAcceptNewKeysWhenFull() {
+        for (int key = 1; key <= 5; key++) {
+            String value = Integer.toString(key);
+            clock.incrementAndGet();
+            assertThat(store.execute("create", "key-" + key, Map.of(), () -> ResponseEntity.ok(value)).getBody())
+                .isEqualTo(value);
+        }
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.execute("create", "key-5", Map.of(), () -> ResponseEntity.ok("again")).getBody())
+            .isEqualTo("5");
+        assertThat(meterRegistry.counter("timesheet.idempotency.evictions").count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRejectNewKeysOnlyWhenEveryEntryIsInProgress() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            for (int key = 1; key <= 2; key++) {
+                String storeKey = "key-" + key;
+                executor.submit(() -> store.execute("create", storeKey, Map.of(), () -> {
+                    started.countDown();
+                    await(release);
+                    return ResponseEntity.ok("done");
+                }));
+            }
+            started.await(5, TimeUnit.SECONDS);
+
+            assertThatThrownBy(() -> store.execute("create", "key-3", Map.of(), () -> ResponseEntity.ok("3")))
+                .isInstanceOf(IdempotencyStoreFullException.class);
+            assertThat(meterRegistry.counter("timesheet.idempotency.requests", "outcome", "rejected").count())
+                .isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldReuseSlotsOfExpiredEntriesWhenFull() {
+        store.execute("create", "key-1", Map.of(), () -> ResponseEntity.ok("1"));
+        clock.addAndGet(Duration.ofMinutes(1).toMillis());
+        store.execute("create", "key-2", Map.of(), () -> ResponseEntity.ok("2"));
+        clock.addAndGet(Duration.ofMinutes(4).toMillis());
+
+        store.execute("create", "key-3", Map.of(), () -> ResponseEntity.ok("3"));
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.execute("create", "key-2", Map.of(), () -> ResponseEntity.ok("again")).getBody())
+            .isEqualTo("2");
+    }
+
+    @Test
+    void shouldMakeConcurrentDuplicatesWaitForInFlightRequest() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<ResponseEntity<Integer>> first = executor.submit(() ->
+                store.execute("create", "key-1", Map.of(), () -> {
+                    started.countDown();
+                    await(release);
+                    return ResponseEntity.ok(executions.incrementAndGet());
+                }));
+            started.await(5, TimeUnit.SECONDS);
+            Future<ResponseEntity<Integer>> duplicate = executor.submit(() ->
+                store.execute("create", "key-1", Map.of(), () -> ResponseEntity.ok(executions.incrementAndGet())));
+
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).getBody()).isEqualTo(1);
+            assertThat(duplicate.get(5, TimeUnit.SECONDS).getBody()).isEqualTo(1);
+            assertThat(executions).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
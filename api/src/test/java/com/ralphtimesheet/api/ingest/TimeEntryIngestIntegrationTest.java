@@ -0,0 +1,148 @@
+package com.ralphtimesheet.api.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryRequest;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryResponse;
+import com.ralphtimesheet.api.timeentry.rule.TimeEntryRulesException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:ingest;MODE=PostgreSQL;DATABASE_TO_UPPER=false",
+    "timesheet.ingest.flush-interval=100ms"
+})
+@AutoConfigureMockMvc
+@DirtiesContext
+class TimeEntryIngestIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TimeEntryIngestQueue queue;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldAcknowledgeIngestedEntryOnceCommitted() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/time-entries/ingest")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(entry(1L, LocalDate.of(2024, 7, 1), "2.50"))))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isCreated())
+            .andExpect(header().string("Location", endsWith("/api/v1/time-entries/" + id(result))))
+            .andExpect(jsonPath("$.projectName", is("Apollo Redesign")))
+            .andExpect(jsonPath("$.hours", is(2.5)));
+
+        mockMvc.perform(get("/api/v1/time-entries/{id}", id(result)))
+            .andExpect(status().isOk());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from time_entry_changes where time_entry_id = ?",
+            Long.class, id(result))).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCommitConcurrentEntriesTogether() throws Exception {
+        long before = count();
+        List<CompletableFuture<TimeEntryResponse>> acknowledgements = new ArrayList<>();
+        for (int day = 0; day < 20; day++) {
+            acknowledgements.add(queue.submit(entry(2L, LocalDate.of(2024, 8, 1).plusDays(day), "1.00")));
+        }
+
+        for (CompletableFuture<TimeEntryResponse> acknowledgement : acknowledgements) {
+            assertThat(acknowledgement.get(10, TimeUnit.SECONDS).getId()).isNotNull();
+        }
+        assertThat(count()).isEqualTo(before + 20);
+        assertThat(meterRegistry.get("timesheet.ingest.batch.size").summary().max()).isGreaterThan(1);
+        assertThat(meterRegistry.get("timesheet.ingest.commit.duration").timer().count()).isPositive();
+        mockMvc.perform(get("/api/v1/time-entries/read-model/consistency"))
+            .andExpect(jsonPath("$.consistent", is(true)));
+    }
+
+    @Test
+    void shouldRejectOnlyTheEntryThatBreaksItsBatch() throws Exception {
+        LocalDate date = LocalDate.of(2024, 9, 2);
+        CompletableFuture<TimeEntryResponse> first = queue.submit(entry(3L, date, "20.00"));
+        CompletableFuture<TimeEntryResponse> second = queue.submit(entry(3L, date, "8.00"));
+        CompletableFuture<TimeEntryResponse> other = queue.submit(entry(1L, date, "4.00"));
+        CompletableFuture<TimeEntryResponse> missing = queue.submit(entry(999L, date, "1.00"));
+
+        assertThat(first.get(10, TimeUnit.SECONDS).getHours()).isEqualByComparingTo("20.00");
+        assertThat(other.get(10, TimeUnit.SECONDS).getHours()).isEqualByComparingTo("4.00");
+        assertThat(second).failsWithin(10, TimeUnit.SECONDS)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(TimeEntryRulesException.class);
+        assertThat(missing).failsWithin(10, TimeUnit.SECONDS)
+            .withThrowableOfType(ExecutionException.class)
+            .withMessageContaining("Employee not found");
+        assertThat(meterRegistry.get("timesheet.ingest.batch.fallbacks").counter().count()).isPositive();
+    }
+
+    @Test
+    void shouldRejectInvalidEntriesBeforeQueueing() throws Exception {
+        mockMvc.perform(post("/api/v1/time-entries/ingest")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(entry(1L, LocalDate.of(2024, 7, 1), "1.10"))))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.violations[0].rule", is("hours.quarter-hour")));
+
+        mockMvc.perform(post("/api/v1/time-entries/ingest")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private long count() {
+        return jdbcTemplate.queryForObject("select count(*) from time_entries", Long.class);
+    }
+
+    private long id(MvcResult result) throws Exception {
+        return ((TimeEntryResponse) ((ResponseEntity<?>) result.getAsyncResult()).getBody())
+            .getId();
+    }
+
+    private static TimeEntryRequest entry(Long employeeId, LocalDate date, String hours) {
+        return TimeEntryRequest.builder()
+            .employeeId(employeeId)
+            .projectId(1L)
+            .date(date)
+            .hours(new BigDecimal(hours))
+            .build();
+    }
+}
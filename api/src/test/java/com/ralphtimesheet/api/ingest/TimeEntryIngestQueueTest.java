@@ -0,0 +1,102 @@
+package com.ralphtimesheet.api.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryRequest;
+import com.ralphtimesheet.api.timeentry.rule.FutureDateRule;
+import com.ralphtimesheet.api.timeentry.rule.QuarterHourIncrementRule;
+import com.ralphtimesheet.api.timeentry.rule.TimeEntryRuleEngine;
+import com.ralphtimesheet.api.timeentry.rule.TimeEntryRulesException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TimeEntryIngestQueueTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TimeEntryIngestQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        IngestProperties properties = new IngestProperties();
+        properties.setCapacity(3);
+        properties.setOfferTimeout(Duration.ZERO);
+        TimeEntryRuleEngine ruleEngine = new TimeEntryRuleEngine(
+            List.of(new QuarterHourIncrementRule(), new FutureDateRule()),
+            Validation.buildDefaultValidatorFactory().getValidator()
+        );
+        queue = new TimeEntryIngestQueue(properties, ruleEngine, meterRegistry);
+        queue.open();
+    }
+
+    @Test
+    void shouldDrainUpToBatchSizeInArrivalOrder() throws InterruptedException {
+        queue.submit(request(1L));
+        queue.submit(request(2L));
+        queue.submit(request(3L));
+        List<PendingTimeEntry> batch = new ArrayList<>();
+
+        assertThat(queue.drainTo(batch, 2, Duration.ofMillis(10))).isEqualTo(2);
+        assertThat(queue.drainTo(batch, 2, Duration.ofMillis(10))).isEqualTo(3);
+
+        assertThat(batch).extracting(pending -> pending.getRequest().getEmployeeId()).containsExactly(1L, 2L, 3L);
+        assertThat(meterRegistry.get("timesheet.ingest.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldLingerForMoreEntriesBeforeReturningBatch() throws InterruptedException {
+        queue.submit(request(1L));
+        Thread.ofPlatform().start(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            queue.submit(request(2L));
+        });
+        List<PendingTimeEntry> batch = new ArrayList<>();
+
+        queue.drainTo(batch, 10, Duration.ofMillis(500));
+
+        assertThat(batch).hasSize(2);
+    }
+
+    @Test
+    void shouldRejectWhenFullOrClosed() {
+        queue.submit(request(1L));
+        queue.submit(request(2L));
+        queue.submit(request(3L));
+
+        assertThatThrownBy(() -> queue.submit(request(4L))).isInstanceOf(IngestUnavailableException.class);
+        assertThat(meterRegistry.get("timesheet.ingest.entries").tag("outcome", "rejected").counter().count())
+            .isEqualTo(1);
+
+        queue.close();
+        assertThatThrownBy(() -> queue.submit(request(5L))).isInstanceOf(IngestUnavailableException.class);
+    }
+
+    @Test
+    void shouldValidateBeforeEnqueueing() {
+        TimeEntryRequest invalid = request(1L);
+        invalid.setHours(new BigDecimal("1.10"));
+
+        assertThatThrownBy(() -> queue.submit(invalid)).isInstanceOf(TimeEntryRulesException.class);
+        assertThat(queue.size()).isZero();
+    }
+
+    private static TimeEntryRequest request(Long employeeId) {
+        return TimeEntryRequest.builder()
+            .employeeId(employeeId)
+            .projectId(1L)
+            .date(LocalDate.of(2024, 6, 3))
+            .hours(new BigDecimal("1.00"))
+            .build();
+    }
+}
@@ -1,5 +1,8 @@
 package com.ralphtimesheet.api.project;
 
+import static com.ralphtimesheet.api.support.StatementBudget.countStatements;
+import static com.ralphtimesheet.api.support.StatementBudget.flush;
+import static com.ralphtimesheet.api.support.StatementBudget.statementsAtMost;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.everyItem;
@@ -14,11 +17,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ralphtimesheet.api.project.dto.ProjectRequest;
+import com.ralphtimesheet.api.support.StatementBudget;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +39,9 @@ class ProjectControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void shouldReturnAllProjects() throws Exception {
         mockMvc.perform(get("/api/v1/projects"))
@@ -130,4 +139,58 @@ class ProjectControllerIntegrationTest {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isNotFound());
     }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldListAllProjectsWithinStatementBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/projects").with(countStatements()))
+            .andExpect(status().isOk())
+            .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldGetProjectWithinStatementBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/projects/{id}", 100L).with(countStatements()))
+            .andExpect(status().isOk())
+            .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldCreateProjectWithinStatementBudget() throws Exception {
+        ProjectRequest request = ProjectRequest.builder()
+            .name("Budget Check")
+            .code("PRJ-BDG-999")
+            .description("Statement budget check.")
+            .active(true)
+            .build();
+
+        mockMvc.perform(post("/api/v1/projects")
+                .with(countStatements())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andDo(flush(entityManager))
+            .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldUpdateProjectWithinStatementBudget() throws Exception {
+        ProjectRequest request = ProjectRequest.builder()
+            .name("Budget Update")
+            .code("PRJ-BDG-998")
+            .description("Statement budget check.")
+            .active(false)
+            .build();
+
+        mockMvc.perform(put("/api/v1/projects/{id}", 100L)
+                .with(countStatements())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andDo(flush(entityManager))
+            .andExpect(statementsAtMost(4));
+    }
 }
@@ -0,0 +1,64 @@
+package com.ralphtimesheet.api.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RateLimitFilterTest {
+
+    private RateLimitFilter filter;
+    private ClientKeyResolver clientKeyResolver;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setExpensive(new RateLimitProperties.Budget(1, 0.1));
+        properties.setExpensivePaths(List.of("/api/v1/reports/**"));
+        clientKeyResolver = new ClientKeyResolver(properties);
+        filter = new RateLimitFilter(new RateLimiter(properties, new SimpleMeterRegistry()), properties, clientKeyResolver);
+    }
+
+    @Test
+    void shouldClassifyUnfilteredListsAndConfiguredPathsAsExpensive() {
+        assertThat(filter.classify(get("/api/v1/time-entries"))).isEqualTo(RequestBudget.EXPENSIVE);
+        assertThat(filter.classify(get("/api/v1/reports/top"))).isEqualTo(RequestBudget.EXPENSIVE);
+
+        MockHttpServletRequest filtered = get("/api/v1/time-entries");
+        filtered.setParameter("employeeId", "1");
+        assertThat(filter.classify(filtered)).isEqualTo(RequestBudget.STANDARD);
+        assertThat(filter.classify(get("/api/v1/time-entries/1"))).isEqualTo(RequestBudget.STANDARD);
+    }
+
+    @Test
+    void shouldRespondWith429AndRetryAfterWhenOverBudget() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(get("/api/v1/time-entries"), first, new MockFilterChain());
+        assertThat(first.getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(get("/api/v1/time-entries"), second, new MockFilterChain());
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(second.getHeader("Retry-After")).isEqualTo("10");
+    }
+
+    @Test
+    void shouldKeyClientsByApiKeyBeforeRemoteAddress() {
+        MockHttpServletRequest request = get("/api/v1/projects");
+        assertThat(clientKeyResolver.resolve(request)).isEqualTo("ip:127.0.0.1");
+
+        request.addHeader("X-API-Key", "payroll-sync");
+        assertThat(clientKeyResolver.resolve(request)).isEqualTo("key:payroll-sync");
+    }
+
+    private MockHttpServletRequest get(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRemoteAddr("127.0.0.1");
+        return request;
+    }
+}
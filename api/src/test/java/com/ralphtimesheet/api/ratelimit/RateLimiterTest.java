@@ -0,0 +1,79 @@
+package com.ralphtimesheet.api.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private RateLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setStandard(new RateLimitProperties.Budget(3, 1));
+        properties.setExpensive(new RateLimitProperties.Budget(1, 0.5));
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(properties, meterRegistry, clock::get);
+    }
+
+    @Test
+    void shouldRejectOnceBucketIsEmptyAndRefillOverTime() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("ip:10.0.0.1", RequestBudget.STANDARD).isAllowed()).isTrue();
+        }
+
+        RateLimitDecision rejected = rateLimiter.tryAcquire("ip:10.0.0.1", RequestBudget.STANDARD);
+        assertThat(rejected.isAllowed()).isFalse();
+        assertThat(rejected.getRetryAfterSeconds()).isEqualTo(1);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(rateLimiter.tryAcquire("ip:10.0.0.1", RequestBudget.STANDARD).isAllowed()).isTrue();
+    }
+
+    @Test
+    void shouldKeepSeparateBudgetsPerClientAndCost() {
+        assertThat(rateLimiter.tryAcquire("ip:10.0.0.1", RequestBudget.EXPENSIVE).isAllowed()).isTrue();
+
+        RateLimitDecision rejected = rateLimiter.tryAcquire("ip:10.0.0.1", RequestBudget.EXPENSIVE);
+        assertThat(rejected.isAllowed()).isFalse();
+        assertThat(rejected.getRetryAfterSeconds()).isEqualTo(2);
+
+        assertThat(rateLimiter.tryAcquire("ip:10.0.0.1", RequestBudget.STANDARD).isAllowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire("key:integration", RequestBudget.EXPENSIVE).isAllowed()).isTrue();
+        assertThat(meterRegistry.counter("timesheet.rate-limit.decisions", "budget", "expensive", "outcome", "rejected")
+            .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldShareOverflowBucketWhenStoreIsFull() {
+        properties.setMaxClients(2);
+
+        rateLimiter.tryAcquire("ip:10.0.0.1", RequestBudget.STANDARD);
+        rateLimiter.tryAcquire("ip:10.0.0.2", RequestBudget.STANDARD);
+        rateLimiter.tryAcquire("ip:10.0.0.3", RequestBudget.STANDARD);
+        rateLimiter.tryAcquire("ip:10.0.0.4", RequestBudget.STANDARD);
+
+        assertThat(rateLimiter.getBucketCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldEvictIdleBucketsWhenStoreIsFull() {
+        properties.setMaxClients(2);
+
+        rateLimiter.tryAcquire("ip:10.0.0.1", RequestBudget.STANDARD);
+        rateLimiter.tryAcquire("ip:10.0.0.2", RequestBudget.STANDARD);
+        clock.addAndGet(properties.getIdleTimeout().toNanos() + 1);
+        rateLimiter.tryAcquire("ip:10.0.0.3", RequestBudget.STANDARD);
+
+        assertThat(rateLimiter.getBucketCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,172 @@
+package com.ralphtimesheet.api.report;
+
+import static com.ralphtimesheet.api.support.StatementBudget.countStatements;
+import static com.ralphtimesheet.api.support.StatementBudget.statementsAtMost;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.ralphtimesheet.api.employee.EmployeeRepository;
+import com.ralphtimesheet.api.project.ProjectRepository;
+import com.ralphtimesheet.api.support.StatementBudget;
+import com.ralphtimesheet.api.timeentry.TimeEntry;
+import com.ralphtimesheet.api.timeentry.TimeEntryRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class ReportControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TopHoursTracker topHoursTracker;
+
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @AfterTransaction
+    void resetTracker() {
+        topHoursTracker.rebuild();
+    }
+
+    @Test
+    void shouldRankProjectsAndEmployeesOverWindow() throws Exception {
+        LocalDate today = LocalDate.now();
+        logHours(1L, 1L, today, "6.00");
+        logHours(2L, 1L, today.minusDays(1), "3.00");
+        logHours(2L, 2L, today.minusDays(2), "8.00");
+        logHours(3L, 3L, today.minusDays(20), "10.00");
+        topHoursTracker.rebuild();
+
+        mockMvc.perform(get("/api/v1/reports/top").param("window", "7d"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.window", is("7d")))
+            .andExpect(jsonPath("$.endDate", is(today.toString())))
+            .andExpect(jsonPath("$.projects", hasSize(2)))
+            .andExpect(jsonPath("$.projects[0].rank", is(1)))
+            .andExpect(jsonPath("$.projects[0].name", is("Apollo Redesign")))
+            .andExpect(jsonPath("$.projects[0].hours", is(9.00)))
+            .andExpect(jsonPath("$.employees[0].name", is("Noah Garcia")))
+            .andExpect(jsonPath("$.employees[0].hours", is(11.00)));
+
+        mockMvc.perform(get("/api/v1/reports/top").param("window", "30d").param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.projects", hasSize(1)))
+            .andExpect(jsonPath("$.projects[0].name", is("ERP Migration")));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldServeTopHoursWithinStatementBudget() throws Exception {
+        topHoursTracker.rebuild();
+
+        mockMvc.perform(get("/api/v1/reports/top").with(countStatements()).param("window", "90d"))
+            .andExpect(status().isOk())
+            .andExpect(statementsAtMost(2));
+    }
+
+    @Test
+    void shouldReportMonthlyOvertimeExcludingHolidays() throws Exception {
+        for (int day = 10; day <= 16; day++) {
+            logHours(2L, 1L, LocalDate.of(2024, 6, day), "24.00");
+        }
+
+        mockMvc.perform(get("/api/v1/reports/overtime").param("month", "2024-06"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.month", is("2024-06")))
+            .andExpect(jsonPath("$.endDate", is("2024-06-30")))
+            .andExpect(jsonPath("$.workingDays", is(19)))
+            .andExpect(jsonPath("$.expectedHours", is(152.00)))
+            .andExpect(jsonPath("$.employees", hasSize(3)))
+            .andExpect(jsonPath("$.employees[0].name", is("Noah Garcia")))
+            .andExpect(jsonPath("$.employees[0].workedHours", is(174.00)))
+            .andExpect(jsonPath("$.employees[0].overtimeHours", is(22.00)))
+            .andExpect(jsonPath("$.employees[1].employeeId", is(1)))
+            .andExpect(jsonPath("$.employees[1].workedHours", is(8.25)))
+            .andExpect(jsonPath("$.employees[1].overtimeHours", is(0)));
+    }
+
+    @Test
+    void shouldIncludeArchivedEntriesInOvertime() throws Exception {
+        mockMvc.perform(post("/api/v1/time-entries/archive"))
+            .andExpect(status().isOk());
+        logHours(1L, 2L, LocalDate.of(2024, 6, 28), "2.00");
+
+        mockMvc.perform(get("/api/v1/reports/overtime").param("month", "2024-06").param("employeeId", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.employees", hasSize(1)))
+            .andExpect(jsonPath("$.employees[0].workedHours", is(10.25)));
+
+        mockMvc.perform(get("/api/v1/reports/overtime").param("month", "2024-07").param("employeeId", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.workingDays", is(23)))
+            .andExpect(jsonPath("$.employees[0].workedHours", is(0)));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldServeOvertimeWithinStatementBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/reports/overtime").with(countStatements()).param("month", "2024-06"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.employees", hasSize(53)))
+            .andExpect(statementsAtMost(3));
+    }
+
+    @Test
+    void shouldRejectOvertimeForUnknownEmployeeOrFutureMonth() throws Exception {
+        mockMvc.perform(get("/api/v1/reports/overtime").param("month", "2024-06").param("employeeId", "999"))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/reports/overtime").param("month", LocalDate.now().plusMonths(1).toString().substring(0, 7)))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/reports/overtime").param("month", "June"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldRejectMalformedWindow() throws Exception {
+        mockMvc.perform(get("/api/v1/reports/top").param("window", "30"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldRejectWindowBeyondRetention() throws Exception {
+        mockMvc.perform(get("/api/v1/reports/top").param("window", "365d"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldRejectLimitOutOfRange() throws Exception {
+        mockMvc.perform(get("/api/v1/reports/top").param("limit", "0"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private void logHours(Long employeeId, Long projectId, LocalDate date, String hours) {
+        timeEntryRepository.save(TimeEntry.builder()
+            .employee(employeeRepository.getReferenceById(employeeId))
+            .project(projectRepository.getReferenceById(projectId))
+            .date(date)
+            .hours(new BigDecimal(hours))
+            .build());
+    }
+}
@@ -0,0 +1,145 @@
+package com.ralphtimesheet.api.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ralphtimesheet.api.timeentry.DailyHoursTotal;
+import com.ralphtimesheet.api.timeentry.TimeEntryChangedEvent;
+import com.ralphtimesheet.api.timeentry.TimeEntryRepository;
+import com.ralphtimesheet.api.timeentry.TimeEntrySnapshot;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TopHoursTrackerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 30);
+
+    private TimeEntryRepository timeEntryRepository;
+    private TopHoursTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        TopHoursProperties properties = new TopHoursProperties();
+        properties.setRetentionDays(30);
+        timeEntryRepository = mock(TimeEntryRepository.class);
+        tracker = new TopHoursTracker(timeEntryRepository, properties);
+    }
+
+    @Test
+    void shouldRankProjectsAndEmployeesWithinWindow() {
+        tracker.record(snapshot(1L, 10L, TODAY, "8.00"), 1, TODAY);
+        tracker.record(snapshot(2L, 10L, TODAY.minusDays(1), "4.00"), 1, TODAY);
+        tracker.record(snapshot(2L, 20L, TODAY.minusDays(2), "6.50"), 1, TODAY);
+        tracker.record(snapshot(3L, 30L, TODAY.minusDays(10), "20.00"), 1, TODAY);
+
+        List<HoursTotal> projects = tracker.top(7, 20, TODAY, true);
+        List<HoursTotal> employees = tracker.top(7, 20, TODAY, false);
+
+        assertThat(projects).extracting(HoursTotal::getId).containsExactly(10L, 20L);
+        assertThat(projects).extracting(HoursTotal::getHours)
+            .containsExactly(new BigDecimal("12.00"), new BigDecimal("6.50"));
+        assertThat(employees).extracting(HoursTotal::getId).containsExactly(2L, 1L);
+        assertThat(tracker.top(30, 20, TODAY, true)).extracting(HoursTotal::getId).containsExactly(30L, 10L, 20L);
+    }
+
+    @Test
+    void shouldRebuildAgainWhenChangesCommitDuringRebuild() {
+        LocalDate today = LocalDate.now();
+        when(timeEntryRepository.sumHoursByDaySince(any()))
+            .thenAnswer(invocation -> {
+                tracker.onTimeEntryChanged(TimeEntryChangedEvent.created(snapshot(1L, 10L, today, "4.00")));
+                return List.of();
+            })
+            .thenReturn(List.of(total(today, 1L, 10L, "4.00")));
+
+        tracker.rebuild();
+
+        verify(timeEntryRepository, times(2)).sumHoursByDaySince(any());
+        assertThat(tracker.topProjects(1, 10)).extracting(HoursTotal::getHours)
+            .containsExactly(new BigDecimal("4.00"));
+    }
+
+    @Test
+    void shouldLimitResults() {
+        for (long project = 1; project <= 5; project++) {
+            tracker.record(snapshot(1L, project, TODAY, String.valueOf(project)), 1, TODAY);
+        }
+
+        assertThat(tracker.top(7, 2, TODAY, true)).extracting(HoursTotal::getId).containsExactly(5L, 4L);
+    }
+
+    @Test
+    void shouldMoveHoursOnUpdateAndDropThemOnDelete() {
+        TimeEntrySnapshot before = snapshot(1L, 10L, TODAY, "3.00");
+        TimeEntrySnapshot after = snapshot(1L, 20L, TODAY, "5.00");
+
+        tracker.record(before, 1, TODAY);
+        tracker.record(before, -1, TODAY);
+        tracker.record(after, 1, TODAY);
+
+        assertThat(tracker.top(7, 20, TODAY, true)).extracting(HoursTotal::getId).containsExactly(20L);
+
+        tracker.record(after, -1, TODAY);
+
+        assertThat(tracker.top(7, 20, TODAY, true)).isEmpty();
+        assertThat(tracker.top(7, 20, TODAY, false)).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreDaysOutsideRetentionAndRecycleExpiredBuckets() {
+        tracker.record(snapshot(1L, 10L, TODAY.minusDays(30), "8.00"), 1, TODAY);
+        tracker.record(snapshot(1L, 10L, TODAY.minusDays(29), "2.00"), 1, TODAY);
+
+        assertThat(tracker.top(30, 20, TODAY, true)).extracting(HoursTotal::getHours)
+            .containsExactly(new BigDecimal("2.00"));
+
+        LocalDate later = TODAY.plusDays(30);
+        tracker.record(snapshot(1L, 10L, later.minusDays(29), "1.00"), 1, later);
+
+        assertThat(tracker.top(30, 20, later, true)).extracting(HoursTotal::getHours)
+            .containsExactly(new BigDecimal("1.00"));
+    }
+
+    @Test
+    void shouldRebuildFromDailyTotals() {
+        LocalDate today = LocalDate.now();
+        tracker.record(snapshot(9L, 90L, today, "1.00"), 1, today);
+        List<DailyHoursTotal> totals = List.of(
+            total(today, 1L, 10L, "7.50"),
+            total(today.minusDays(3), 2L, 10L, "2.50")
+        );
+        when(timeEntryRepository.sumHoursByDaySince(any())).thenReturn(totals);
+
+        tracker.rebuild();
+
+        assertThat(tracker.topProjects(7, 20)).extracting(HoursTotal::getHours)
+            .containsExactly(new BigDecimal("10.00"));
+        assertThat(tracker.topEmployees(7, 20)).extracting(HoursTotal::getId).containsExactly(1L, 2L);
+    }
+
+    private TimeEntrySnapshot snapshot(Long employeeId, Long projectId, LocalDate date, String hours) {
+        return TimeEntrySnapshot.builder()
+            .id(1L)
+            .employeeId(employeeId)
+            .projectId(projectId)
+            .date(date)
+            .hours(new BigDecimal(hours))
+            .build();
+    }
+
+    private DailyHoursTotal total(LocalDate date, Long employeeId, Long projectId, String hours) {
+        DailyHoursTotal total = mock(DailyHoursTotal.class);
+        when(total.getDate()).thenReturn(date);
+        when(total.getEmployeeId()).thenReturn(employeeId);
+        when(total.getProjectId()).thenReturn(projectId);
+        when(total.getHours()).thenReturn(new BigDecimal(hours));
+        return total;
+    }
+}
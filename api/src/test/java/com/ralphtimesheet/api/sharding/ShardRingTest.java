@@ -0,0 +1,68 @@
+package com.ralphtimesheet.api.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ShardRingTest {
+
+    private static final int EMPLOYEES = 30_000;
+
+    @Test
+    void shouldSpreadEmployeesAcrossWeightedShards() {
+        ShardRing ring = new ShardRing(weights("primary", 1, "east", 1, "west", 2), 128, Map.of());
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (long employeeId = 1; employeeId <= EMPLOYEES; employeeId++) {
+            counts.merge(ring.shardFor(employeeId), 1, Integer::sum);
+        }
+
+        assertThat(share(counts, "primary")).isBetween(0.18, 0.32);
+        assertThat(share(counts, "east")).isBetween(0.18, 0.32);
+        assertThat(share(counts, "west")).isBetween(0.40, 0.60);
+    }
+
+    @Test
+    void shouldOnlyMoveEmployeesToTheNewShardWhenGrowing() {
+        ShardRing before = new ShardRing(weights("primary", 1, "east", 1, "west", 1), 128, Map.of());
+        ShardRing after = new ShardRing(weights("primary", 1, "east", 1, "west", 1, "north", 1), 128, Map.of());
+
+        int moved = 0;
+        for (long employeeId = 1; employeeId <= EMPLOYEES; employeeId++) {
+            String previous = before.shardFor(employeeId);
+            String current = after.shardFor(employeeId);
+            if (!previous.equals(current)) {
+                assertThat(current).isEqualTo("north");
+                moved++;
+            }
+        }
+
+        assertThat((double) moved / EMPLOYEES).isBetween(0.15, 0.35);
+    }
+
+    @Test
+    void shouldHonourPinnedEmployees() {
+        ShardRing ring = new ShardRing(weights("primary", 1, "east", 1), 128, Map.of(42L, "east", 43L, "primary"));
+
+        assertThat(ring.shardFor(42L)).isEqualTo("east");
+        assertThat(ring.shardFor(43L)).isEqualTo("primary");
+        assertThatThrownBy(() -> new ShardRing(weights("primary", 1), 128, Map.of(1L, "south")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Map<String, Integer> weights(Object... namesAndWeights) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndWeights.length; i += 2) {
+            weights.put((String) namesAndWeights[i], (Integer) namesAndWeights[i + 1]);
+        }
+        return weights;
+    }
+
+    private static double share(Map<String, Integer> counts, String shard) {
+        return counts.getOrDefault(shard, 0) / (double) EMPLOYEES;
+    }
+}
@@ -0,0 +1,183 @@
+package com.ralphtimesheet.api.sharding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ralphtimesheet.api.employee.dto.EmployeeRequest;
+import com.ralphtimesheet.api.timeentry.TimeEntryService;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryRequest;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryResponse;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:sharding_primary;MODE=PostgreSQL;DATABASE_TO_UPPER=false",
+    "timesheet.sharding.enabled=true",
+    "timesheet.sharding.shards[0].name=east",
+    "timesheet.sharding.shards[0].url=jdbc:h2:mem:sharding_east;MODE=PostgreSQL;DATABASE_TO_UPPER=false",
+    "timesheet.sharding.shards[0].username=sa",
+    "timesheet.sharding.shards[1].name=west",
+    "timesheet.sharding.shards[1].url=jdbc:h2:mem:sharding_west;MODE=PostgreSQL;DATABASE_TO_UPPER=false",
+    "timesheet.sharding.shards[1].username=sa",
+    "timesheet.sharding.pinned-employees.1=primary",
+    "timesheet.sharding.pinned-employees.2=east",
+    "timesheet.sharding.pinned-employees.3=west"
+})
+@AutoConfigureMockMvc
+@DirtiesContext
+class ShardingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private TimeEntryService timeEntryService;
+
+    @Test
+    void shouldMoveSeededEntriesToTheirHomeShardsAndReplicateReferenceData() {
+        assertThat(entryIds("primary")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(entryIds("east")).containsExactly(3L);
+        assertThat(entryIds("west")).containsExactly(4L);
+        for (String shard : shardRouter.shards()) {
+            assertThat(count(shard, "employees")).isEqualTo(3);
+            assertThat(count(shard, "projects")).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void shouldScatterCrossEmployeeQueriesAndMergeByDateAndId() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id", contains(1, 3, 2, 4)));
+
+        mockMvc.perform(get("/api/v1/time-entries").param("employeeId", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id", contains(3)));
+
+        mockMvc.perform(get("/api/v1/time-entries/summary/weekly")
+                .param("projectId", "2")
+                .param("weekStart", "2024-06-03"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalHours", is(9.75)));
+
+        mockMvc.perform(get("/api/v1/time-entries/search").param("q", "planning"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", is(2)))
+            .andExpect(jsonPath("$.hits", hasSize(2)));
+    }
+
+    @Test
+    void shouldRouteSingleEmployeeWritesToOneShard() throws Exception {
+        String body = mockMvc.perform(post("/api/v1/time-entries")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(entryRequest(2L))))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(body).get("id").asLong();
+
+        assertThat(entryIds("east")).contains(id);
+        assertThat(id % shardRouter.shards().size()).isEqualTo(shardRouter.indexOf("east"));
+        mockMvc.perform(get("/api/v1/time-entries/{id}", id))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.employeeLastName", is("Garcia")));
+
+        mockMvc.perform(put("/api/v1/time-entries/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(entryRequest(3L))))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(delete("/api/v1/time-entries/{id}", id))
+            .andExpect(status().isNoContent());
+        assertThat(entryIds("east")).doesNotContain(id);
+        mockMvc.perform(get("/api/v1/time-entries/{id}", id))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldSplitBatchCreatesAcrossShardsAndKeepRequestOrder() throws Exception {
+        List<TimeEntryResponse> created = timeEntryService.createTimeEntries(
+            List.of(entryRequest(2L), entryRequest(1L), entryRequest(3L)));
+
+        assertThat(created).extracting(TimeEntryResponse::getEmployeeId).containsExactly(2L, 1L, 3L);
+        assertThat(entryIds("east")).contains(created.get(0).getId());
+        assertThat(entryIds("primary")).contains(created.get(1).getId());
+        assertThat(entryIds("west")).contains(created.get(2).getId());
+
+        for (TimeEntryResponse entry : created) {
+            mockMvc.perform(delete("/api/v1/time-entries/{id}", entry.getId()))
+                .andExpect(status().isNoContent());
+        }
+    }
+
+    @Test
+    void shouldGatherEntriesForEmployeesFromTheirHomeShards() {
+        List<TimeEntryResponse> entries = timeEntryService.getTimeEntriesForEmployees(List.of(3L, 1L, 2L), null, null);
+
+        assertThat(entries).extracting(TimeEntryResponse::getId).containsExactly(1L, 3L, 2L, 4L);
+    }
+
+    @Test
+    void shouldReplicateNewEmployeesToEveryShard() throws Exception {
+        EmployeeRequest request = EmployeeRequest.builder()
+            .firstName("Mia")
+            .lastName("Chen")
+            .email("mia.chen@example.com")
+            .department("Finance")
+            .build();
+
+        String body = mockMvc.perform(post("/api/v1/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        JsonNode created = objectMapper.readTree(body);
+
+        for (String shard : shardRouter.shards()) {
+            assertThat(shardRouter.jdbc(shard).queryForObject(
+                "select email from employees where id = ?", String.class, created.get("id").asLong()))
+                .isEqualTo("mia.chen@example.com");
+        }
+    }
+
+    private TimeEntryRequest entryRequest(Long employeeId) {
+        return TimeEntryRequest.builder()
+            .employeeId(employeeId)
+            .projectId(1L)
+            .date(LocalDate.now().minusDays(1))
+            .hours(new BigDecimal("2.00"))
+            .description("Shard routing check")
+            .build();
+    }
+
+    private List<Long> entryIds(String shard) {
+        return shardRouter.jdbc(shard).queryForList("select id from time_entries", Long.class);
+    }
+
+    private int count(String shard, String table) {
+        return shardRouter.jdbc(shard).queryForObject("select count(*) from " + table, Integer.class);
+    }
+}
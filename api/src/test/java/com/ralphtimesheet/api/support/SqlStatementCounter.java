@@ -0,0 +1,41 @@
+package com.ralphtimesheet.api.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+    private static boolean recording;
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (STATEMENTS) {
+            if (recording) {
+                STATEMENTS.add(sql);
+            }
+        }
+        return sql;
+    }
+
+    public static void start() {
+        synchronized (STATEMENTS) {
+            STATEMENTS.clear();
+            recording = true;
+        }
+    }
+
+    public static List<String> stop() {
+        synchronized (STATEMENTS) {
+            recording = false;
+            return List.copyOf(STATEMENTS);
+        }
+    }
+
+    public static boolean isRecording() {
+        synchronized (STATEMENTS) {
+            return recording;
+        }
+    }
+}
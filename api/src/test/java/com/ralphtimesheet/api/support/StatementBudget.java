@@ -0,0 +1,39 @@
+package com.ralphtimesheet.api.support;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.springframework.test.web.servlet.ResultHandler;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+public final class StatementBudget {
+
+    public static final String DATASET = "/statement-budget-data.sql";
+
+    private StatementBudget() {
+    }
+
+    public static RequestPostProcessor countStatements() {
+        return request -> {
+            SqlStatementCounter.start();
+            return request;
+        };
+    }
+
+    public static ResultHandler flush(EntityManager entityManager) {
+        return result -> entityManager.flush();
+    }
+
+    public static ResultMatcher statementsAtMost(int budget) {
+        return result -> {
+            if (!SqlStatementCounter.isRecording()) {
+                throw new AssertionError("Statement counting was not started; add .with(countStatements()) to the request.");
+            }
+            List<String> statements = SqlStatementCounter.stop();
+            if (statements.size() > budget) {
+                throw new AssertionError("Expected at most " + budget + " SQL statements but " + statements.size()
+                    + " were executed:\n  " + String.join("\n  ", statements));
+            }
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package com.ralphtimesheet.api.timeentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ralphtimesheet.api.coalescing.RequestCoalescer;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingTimeEntryServiceTest {
+
+    private static final LocalDate WEEK_START = LocalDate.of(2024, 6, 3);
+    private static final LocalDate WEEK_END = WEEK_START.plusDays(6);
+
+    private TimeEntryService delegate;
+    private HistoricalWeekCache cache;
+    private CachingTimeEntryService service;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        delegate = mock(TimeEntryService.class);
+        cache = new HistoricalWeekCache(new HistoricalWeekCacheProperties(), meterRegistry);
+        service = new CachingTimeEntryService(delegate, new RequestCoalescer(meterRegistry), cache);
+    }
+
+    @Test
+    void shouldNotJoinLoadStartedBeforeACommittedWrite() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getTimeEntries(1L, null, WEEK_START, WEEK_END))
+            .thenAnswer(invocation -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return List.of(entry("2.00"));
+            })
+            .thenReturn(List.of(entry("3.00")));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<List<TimeEntryResponse>> stale = executor.submit(() -> service.getTimeEntries(1L, null, WEEK_START,
+                WEEK_END));
+            started.await(5, TimeUnit.SECONDS);
+            cache.onTimeEntryChanged(TimeEntryChangedEvent.updated(snapshot("2.00"), snapshot("3.00")));
+
+            assertThat(service.getTimeEntries(1L, null, WEEK_START, WEEK_END))
+                .extracting(TimeEntryResponse::getHours)
+                .containsExactly(new BigDecimal("3.00"));
+
+            release.countDown();
+            assertThat(stale.get(5, TimeUnit.SECONDS)).extracting(TimeEntryResponse::getHours)
+                .containsExactly(new BigDecimal("2.00"));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(service.getTimeEntries(1L, null, WEEK_START, WEEK_END))
+            .extracting(TimeEntryResponse::getHours)
+            .containsExactly(new BigDecimal("3.00"));
+    }
+
+    private TimeEntryResponse entry(String hours) {
+        return TimeEntryResponse.builder()
+            .id(1L)
+            .employeeId(1L)
+            .projectId(1L)
+            .date(WEEK_START)
+            .hours(new BigDecimal(hours))
+            .build();
+    }
+
+    private TimeEntrySnapshot snapshot(String hours) {
+        return TimeEntrySnapshot.builder()
+            .id(1L)
+            .employeeId(1L)
+            .projectId(1L)
+            .date(WEEK_START)
+            .hours(new BigDecimal(hours))
+            .build();
+    }
+}
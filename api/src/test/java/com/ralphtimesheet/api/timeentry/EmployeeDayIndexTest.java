@@ -0,0 +1,173 @@
+package com.ralphtimesheet.api.timeentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeDayIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private TimeEntryRepository timeEntryRepository;
+    private EmployeeDayIndex index;
+
+    @BeforeEach
+    void setUp() {
+        timeEntryRepository = mock(TimeEntryRepository.class);
+        index = new EmployeeDayIndex(
+            timeEntryRepository,
+            new EmployeeDayIndexProperties(),
+            new TimeEntryArchiveProperties(),
+            new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    void shouldAnswerDailyAndProjectTotalsAfterLoading() {
+        List<DailyHoursTotal> totals = List.of(
+            total(1L, 10L, TODAY, "6.00"),
+            total(1L, 20L, TODAY, "2.25"),
+            total(1L, 10L, TODAY.minusDays(400), "3.50"),
+            total(2L, 10L, TODAY.minusDays(1), "8.00")
+        );
+        when(timeEntryRepository.sumHoursByDaySince(any())).thenReturn(totals);
+
+        assertThat(index.isLoaded()).isFalse();
+        index.load();
+
+        assertThat(index.covers(TODAY)).isTrue();
+        assertThat(index.covers(TODAY.minusYears(3))).isFalse();
+        assertThat(index.hoursOn(1L, null, TODAY)).isEqualByComparingTo("8.25");
+        assertThat(index.hoursOn(1L, 20L, TODAY)).isEqualByComparingTo("2.25");
+        assertThat(index.hoursOn(1L, null, TODAY.minusDays(400))).isEqualByComparingTo("3.50");
+        assertThat(index.hoursOn(1L, null, TODAY.minusDays(1))).isEqualByComparingTo("0.00");
+        assertThat(index.hoursOn(2L, 10L, TODAY.minusDays(1))).isEqualByComparingTo("8.00");
+        assertThat(index.hoursOn(3L, null, TODAY)).isEqualByComparingTo("0.00");
+        assertThat(index.getEmployeeCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldApplyCommittedChanges() {
+        when(timeEntryRepository.sumHoursByDaySince(any())).thenReturn(List.of());
+        index.load();
+        TimeEntrySnapshot original = snapshot(1L, 10L, TODAY, "4.00");
+        TimeEntrySnapshot moved = snapshot(1L, 20L, TODAY.minusDays(1), "5.00");
+
+        index.onTimeEntryChanged(TimeEntryChangedEvent.created(original));
+        assertThat(index.hoursOn(1L, null, TODAY)).isEqualByComparingTo("4.00");
+
+        index.onTimeEntryChanged(TimeEntryChangedEvent.updated(original, moved));
+        assertThat(index.hoursOn(1L, null, TODAY)).isEqualByComparingTo("0.00");
+        assertThat(index.hoursOn(1L, 20L, TODAY.minusDays(1))).isEqualByComparingTo("5.00");
+
+        index.onTimeEntryChanged(TimeEntryChangedEvent.deleted(moved));
+        assertThat(index.hoursOn(1L, null, TODAY.minusDays(1))).isEqualByComparingTo("0.00");
+    }
+
+    @Test
+    void shouldIgnoreChangesBeforeLoadingAndOutsideCoverage() {
+        index.onTimeEntryChanged(TimeEntryChangedEvent.created(snapshot(1L, 10L, TODAY, "4.00")));
+        when(timeEntryRepository.sumHoursByDaySince(any())).thenReturn(List.of());
+        index.load();
+
+        index.onTimeEntryChanged(TimeEntryChangedEvent.created(snapshot(1L, 10L, TODAY.minusYears(5), "4.00")));
+
+        assertThat(index.hoursOn(1L, null, TODAY)).isEqualByComparingTo("0.00");
+        assertThat(index.getEmployeeCount()).isZero();
+    }
+
+    @Test
+    void shouldRereadEmployeesChangedWhileLoading() {
+        TimeEntrySnapshot created = snapshot(1L, 10L, TODAY, "4.00");
+        when(timeEntryRepository.sumHoursByDaySince(any())).thenAnswer(invocation -> {
+            index.onTimeEntryChanged(TimeEntryChangedEvent.created(created));
+            return List.of(total(2L, 10L, TODAY, "8.00"));
+        });
+        when(timeEntryRepository.sumHoursByDaySinceForEmployees(any(), eq(Set.of(1L))))
+            .thenReturn(List.of(total(1L, 10L, TODAY, "4.00")));
+
+        index.load();
+
+        assertThat(index.hoursOn(1L, 10L, TODAY)).isEqualByComparingTo("4.00");
+        assertThat(index.hoursOn(2L, null, TODAY)).isEqualByComparingTo("8.00");
+    }
+
+    @Test
+    void shouldReloadWhenBulkChangeArrivesWhileLoading() {
+        TimeEntryBulkChangedEvent bulk = TimeEntryBulkChangedEvent.builder()
+            .type(TimeEntryChangeType.BULK_DELETED)
+            .projectId(10L)
+            .affected(1)
+            .build();
+        when(timeEntryRepository.sumHoursByDaySince(any()))
+            .thenAnswer(invocation -> {
+                index.onTimeEntriesBulkChanged(bulk);
+                return List.of(total(1L, 10L, TODAY, "4.00"));
+            })
+            .thenReturn(List.of());
+
+        index.load();
+
+        verify(timeEntryRepository, times(2)).sumHoursByDaySince(any());
+        assertThat(index.hoursOn(1L, null, TODAY)).isEqualByComparingTo("0.00");
+    }
+
+    @Test
+    void shouldReportFootprintPerEmployeeYear() {
+        List<DailyHoursTotal> totals = TODAY.minusDays(364).datesUntil(TODAY.plusDays(1))
+            .map(date -> total(1L, 10L, date, "8.00"))
+            .toList();
+        when(timeEntryRepository.sumHoursByDaySince(any())).thenReturn(totals);
+
+        index.load();
+
+        assertThat(index.getEstimatedBytes()).isGreaterThan(365L * Integer.BYTES);
+        assertThat(index.getEstimatedBytesPerEmployeeYear()).isBetween(365.0 * Integer.BYTES, 64_000.0);
+    }
+
+    private TimeEntrySnapshot snapshot(Long employeeId, Long projectId, LocalDate date, String hours) {
+        return TimeEntrySnapshot.builder()
+            .id(1L)
+            .employeeId(employeeId)
+            .projectId(projectId)
+            .date(date)
+            .hours(new BigDecimal(hours))
+            .build();
+    }
+
+    private DailyHoursTotal total(Long employeeId, Long projectId, LocalDate date, String hours) {
+        return new DailyHoursTotal() {
+            @Override
+            public LocalDate getDate() {
+                return date;
+            }
+
+            @Override
+            public Long getEmployeeId() {
+                return employeeId;
+            }
+
+            @Override
+            public Long getProjectId() {
+                return projectId;
+            }
+
+            @Override
+            public BigDecimal getHours() {
+                return new BigDecimal(hours);
+            }
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package com.ralphtimesheet.api.timeentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HistoricalWeekCacheTest {
+
+    private static final LocalDate WEEK_START = LocalDate.of(2024, 6, 3);
+
+    private HistoricalWeekCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new HistoricalWeekCache(new HistoricalWeekCacheProperties(), new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void shouldOnlyCacheCompleteWeeksBeforeTheCurrentWeek() {
+        LocalDate currentWeek = HistoricalWeekCache.weekStartOf(LocalDate.now());
+
+        assertThat(cache.isCacheable(WEEK_START, WEEK_START.plusDays(6))).isTrue();
+        assertThat(cache.isCacheable(WEEK_START, WEEK_START.plusDays(5))).isFalse();
+        assertThat(cache.isCacheable(WEEK_START.plusDays(1), WEEK_START.plusDays(7))).isFalse();
+        assertThat(cache.isCacheable(currentWeek, currentWeek.plusDays(6))).isFalse();
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        load(HistoricalWeekCache.Scope.EMPLOYEE, 1L);
+        load(HistoricalWeekCache.Scope.EMPLOYEE, 1L);
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void shouldInvalidateOldAndNewEmployeeAndProjectWeeksOnUpdate() {
+        load(HistoricalWeekCache.Scope.EMPLOYEE, 1L);
+        load(HistoricalWeekCache.Scope.PROJECT, 1L);
+        load(HistoricalWeekCache.Scope.PROJECT, 2L);
+        load(HistoricalWeekCache.Scope.EMPLOYEE, 3L);
+
+        cache.onTimeEntryChanged(TimeEntryChangedEvent.updated(snapshot(1L, 1L), snapshot(1L, 2L)));
+
+        assertThat(cache.size()).isEqualTo(1);
+        load(HistoricalWeekCache.Scope.EMPLOYEE, 3L);
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void shouldNotCacheResultLoadedWhileAWriteWasInvalidating() {
+        cache.getOrLoad(HistoricalWeekCache.Scope.EMPLOYEE, 1L, WEEK_START, HistoricalWeekCache.View.LIST, generation -> {
+            cache.onTimeEntryChanged(TimeEntryChangedEvent.created(snapshot(1L, 1L)));
+            return "stale";
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldInvalidateWeeksCoveredByBulkChange() {
+        load(HistoricalWeekCache.Scope.PROJECT, 2L);
+        load(HistoricalWeekCache.Scope.PROJECT, 3L);
+
+        cache.onTimeEntriesBulkChanged(TimeEntryBulkChangedEvent.builder()
+            .type(TimeEntryChangeType.BULK_REASSIGNED)
+            .projectId(1L)
+            .targetProjectId(2L)
+            .startDate(WEEK_START)
+            .endDate(WEEK_START)
+            .affected(1)
+            .build());
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    private void load(HistoricalWeekCache.Scope scope, Long id) {
+        cache.getOrLoad(scope, id, WEEK_START, HistoricalWeekCache.View.LIST, generation -> "load-" + loads.incrementAndGet());
+    }
+
+    private TimeEntrySnapshot snapshot(Long employeeId, Long projectId) {
+        return TimeEntrySnapshot.builder()
+            .id(1L)
+            .employeeId(employeeId)
+            .projectId(projectId)
+            .date(WEEK_START.plusDays(2))
+            .hours(new BigDecimal("1.00"))
+            .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.ralphtimesheet.api.timeentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+
+import com.ralphtimesheet.api.timeentry.dto.ArchiveRunResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:archive;MODE=PostgreSQL;DATABASE_TO_UPPER=false;LOCK_TIMEOUT=10000"
+})
+@DirtiesContext
+class TimeEntryArchiveIntegrationTest {
+
+    @Autowired
+    private TimeEntryArchiveService archiveService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @SpyBean
+    private ArchivedTimeEntryRepository archivedTimeEntryRepository;
+
+    @Test
+    void shouldKeepEntriesWrittenWhileArchiveRuns() throws Exception {
+        ArchivedTimeEntryRepository repository = new JpaRepositoryFactory(entityManager)
+            .getRepository(ArchivedTimeEntryRepository.class);
+        AtomicReference<CompletableFuture<Integer>> concurrentUpdate = new AtomicReference<>();
+        doAnswer(invocation -> {
+            CompletableFuture.runAsync(() -> jdbcTemplate.update(
+                    "insert into time_entries (employee_id, project_id, date, hours, description)"
+                        + " values (2, 1, '2024-06-10', 1.25, 'Written mid-archive')"))
+                .get(5, TimeUnit.SECONDS);
+            CompletableFuture<Integer> update = CompletableFuture.supplyAsync(() -> jdbcTemplate.update(
+                "update time_entries set hours = 8.00 where id = 1"));
+            Thread.sleep(200);
+            assertThat(update).isNotDone();
+            concurrentUpdate.set(update);
+            return delegatesTo(repository).answer(invocation);
+        }).when(archivedTimeEntryRepository).archiveByIds(anyCollection(), any());
+
+        ArchiveRunResponse response = archiveService.archiveEntries();
+
+        assertThat(response.getArchived()).isEqualTo(4);
+        assertThat(concurrentUpdate.get().get(5, TimeUnit.SECONDS)).isZero();
+        assertThat(jdbcTemplate.queryForList("select description from time_entries", String.class))
+            .containsExactly("Written mid-archive");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from time_entries_archive", Long.class))
+            .isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject("select hours from time_entries_archive where id = 1", String.class))
+            .isEqualTo("4.50");
+    }
+}
@@ -1,26 +1,44 @@
 package com.ralphtimesheet.api.timeentry;
 
+import static com.ralphtimesheet.api.support.StatementBudget.countStatements;
+import static com.ralphtimesheet.api.support.StatementBudget.flush;
+import static com.ralphtimesheet.api.support.StatementBudget.statementsAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ralphtimesheet.api.employee.dto.EmployeeRequest;
+import com.ralphtimesheet.api.project.dto.ProjectRequest;
+import com.ralphtimesheet.api.support.StatementBudget;
+import com.ralphtimesheet.api.timeentry.dto.BulkReassignRequest;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryPatchRequest;
 import com.ralphtimesheet.api.timeentry.dto.TimeEntryRequest;
+import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.transaction.AfterTransaction;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +53,17 @@ class TimeEntryControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TimeEntrySearchIndex timeEntrySearchIndex;
+
+    @AfterTransaction
+    void resetSearchIndex() {
+        timeEntrySearchIndex.rebuild();
+    }
+
     @Test
     void shouldReturnAllTimeEntries() throws Exception {
         mockMvc.perform(get("/api/v1/time-entries"))
@@ -84,6 +113,61 @@ class TimeEntryControllerIntegrationTest {
             )));
     }
 
+    @Test
+    void shouldReturnWeeklySummaryForEmployee() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries/summary/weekly")
+                .param("employeeId", "1")
+                .param("weekStart", "2024-06-03"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.weekEnd").value("2024-06-09"))
+            .andExpect(jsonPath("$.totalHours", is(8.25)))
+            .andExpect(jsonPath("$.days", hasSize(7)))
+            .andExpect(jsonPath("$.days[0].hours", is(4.5)))
+            .andExpect(jsonPath("$.days[1].hours", is(3.75)));
+    }
+
+    @Test
+    void shouldReportWeeklyOvertimeAgainstWorkingDayCalendar() throws Exception {
+        for (int day = 17; day <= 20; day++) {
+            mockMvc.perform(post("/api/v1/time-entries")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(TimeEntryRequest.builder()
+                        .employeeId(3L)
+                        .projectId(1L)
+                        .date(LocalDate.of(2024, 6, day))
+                        .hours(new BigDecimal("10.00"))
+                        .build())))
+                .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/api/v1/time-entries/summary/weekly")
+                .param("employeeId", "3")
+                .param("weekStart", "2024-06-17"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalHours", is(40.00)))
+            .andExpect(jsonPath("$.expectedHours", is(32.00)))
+            .andExpect(jsonPath("$.overtimeHours", is(8.00)));
+
+        mockMvc.perform(get("/api/v1/time-entries/summary/weekly")
+                .param("employeeId", "1")
+                .param("weekStart", "2024-06-03"))
+            .andExpect(jsonPath("$.expectedHours", is(40.00)))
+            .andExpect(jsonPath("$.overtimeHours", is(0)));
+
+        mockMvc.perform(get("/api/v1/time-entries/summary/weekly")
+                .param("projectId", "1")
+                .param("weekStart", "2024-06-17"))
+            .andExpect(jsonPath("$.expectedHours").doesNotExist());
+    }
+
+    @Test
+    void shouldRejectWeeklySummaryNotStartingOnMonday() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries/summary/weekly")
+                .param("projectId", "1")
+                .param("weekStart", "2024-06-04"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldReturnTimeEntryById() throws Exception {
         mockMvc.perform(get("/api/v1/time-entries/{id}", 1L))
@@ -119,6 +203,63 @@ class TimeEntryControllerIntegrationTest {
             .andExpect(jsonPath("$.description").value("Design sync"));
     }
 
+    @Test
+    void shouldReplayCreateWithSameIdempotencyKey() throws Exception {
+        TimeEntryRequest request = TimeEntryRequest.builder()
+            .employeeId(1L)
+            .projectId(1L)
+            .date(LocalDate.of(2024, 6, 6))
+            .hours(new BigDecimal("2.50"))
+            .description("Design sync")
+            .build();
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        String firstBody = mockMvc.perform(post("/api/v1/time-entries")
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        mockMvc.perform(post("/api/v1/time-entries")
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(header().string("Idempotent-Replayed", "true"))
+            .andExpect(header().string("Location", containsString("/api/v1/time-entries/")))
+            .andExpect(content().json(firstBody));
+
+        mockMvc.perform(get("/api/v1/time-entries").param("employeeId", "1"))
+            .andExpect(jsonPath("$", hasSize(3)));
+    }
+
+    @Test
+    void shouldScopeIdempotencyKeysToTheClient() throws Exception {
+        TimeEntryRequest request = TimeEntryRequest.builder()
+            .employeeId(1L)
+            .projectId(1L)
+            .date(LocalDate.of(2024, 6, 6))
+            .hours(new BigDecimal("2.50"))
+            .description("Design sync")
+            .build();
+
+        for (String apiKey : List.of("kiosk-1", "kiosk-2")) {
+            mockMvc.perform(post("/api/v1/time-entries")
+                    .header("Idempotency-Key", "1")
+                    .header("X-API-Key", apiKey)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+        }
+
+        mockMvc.perform(get("/api/v1/time-entries").param("employeeId", "1"))
+            .andExpect(jsonPath("$", hasSize(4)));
+    }
+
     @Test
     void shouldRejectInvalidTimeEntryRequest() throws Exception {
         TimeEntryRequest request = TimeEntryRequest.builder()
@@ -168,6 +309,43 @@ class TimeEntryControllerIntegrationTest {
             .andExpect(status().isNotFound());
     }
 
+    @Test
+    void shouldPatchTimeEntryDescription() throws Exception {
+        TimeEntryPatchRequest request = TimeEntryPatchRequest.builder()
+            .description("Wireframe review")
+            .build();
+
+        mockMvc.perform(patch("/api/v1/time-entries/{id}", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.description").value("Wireframe review"))
+            .andExpect(jsonPath("$.projectCode").value("PRJ-ENG-001"))
+            .andExpect(jsonPath("$.hours", is(4.5)));
+    }
+
+    @Test
+    void shouldRejectPatchThatExceedsDailyLimit() throws Exception {
+        TimeEntryPatchRequest request = TimeEntryPatchRequest.builder()
+            .hours(new BigDecimal("20.00"))
+            .date(LocalDate.of(2024, 6, 3))
+            .employeeId(2L)
+            .build();
+
+        mockMvc.perform(patch("/api/v1/time-entries/{id}", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturn404WhenPatchingMissingTimeEntry() throws Exception {
+        mockMvc.perform(patch("/api/v1/time-entries/{id}", 9999L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\":\"Ghost\"}"))
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     void shouldDeleteTimeEntry() throws Exception {
         mockMvc.perform(delete("/api/v1/time-entries/{id}", 4L))
@@ -176,4 +354,587 @@ class TimeEntryControllerIntegrationTest {
         mockMvc.perform(get("/api/v1/time-entries/{id}", 4L))
             .andExpect(status().isNotFound());
     }
+
+    @Test
+    void shouldCountMatchingTimeEntriesOnBulkDeleteDryRun() throws Exception {
+        mockMvc.perform(delete("/api/v1/time-entries")
+                .param("employeeId", "1")
+                .param("dryRun", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.matched", is(2)))
+            .andExpect(jsonPath("$.affected", is(0)))
+            .andExpect(jsonPath("$.dryRun", is(true)));
+
+        mockMvc.perform(get("/api/v1/time-entries").param("employeeId", "1"))
+            .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    void shouldBulkDeleteMatchingTimeEntries() throws Exception {
+        mockMvc.perform(delete("/api/v1/time-entries")
+                .param("projectId", "2")
+                .param("startDate", "2024-06-03")
+                .param("endDate", "2024-06-03"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.matched", is(1)))
+            .andExpect(jsonPath("$.affected", is(1)))
+            .andExpect(jsonPath("$.dryRun", is(false)));
+
+        mockMvc.perform(get("/api/v1/time-entries"))
+            .andExpect(jsonPath("$", hasSize(3)));
+    }
+
+    @Test
+    void shouldRejectBulkDeleteWithoutFilters() throws Exception {
+        mockMvc.perform(delete("/api/v1/time-entries"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldBulkReassignTimeEntries() throws Exception {
+        BulkReassignRequest request = BulkReassignRequest.builder()
+            .sourceProjectId(2L)
+            .targetProjectId(1L)
+            .employeeId(1L)
+            .build();
+
+        mockMvc.perform(post("/api/v1/time-entries/reassign")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.matched", is(1)))
+            .andExpect(jsonPath("$.affected", is(1)));
+
+        mockMvc.perform(get("/api/v1/time-entries/{id}", 2L))
+            .andExpect(jsonPath("$.projectCode").value("PRJ-ENG-001"));
+    }
+
+    @Test
+    void shouldOpenTimeEntryChangeStream() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries/stream")
+                .param("projectId", "1")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(status().isOk())
+            .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void shouldReturnChangesAfterCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries/changes").param("since", "1").param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes", hasSize(2)))
+            .andExpect(jsonPath("$.changes[0].sequence", is(2)))
+            .andExpect(jsonPath("$.changes[1].sequence", is(3)))
+            .andExpect(jsonPath("$.nextCursor", is(3)))
+            .andExpect(jsonPath("$.hasMore", is(true)));
+    }
+
+    @Test
+    void shouldRecordTombstoneWhenTimeEntryDeleted() throws Exception {
+        mockMvc.perform(delete("/api/v1/time-entries/{id}", 4L))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/time-entries/changes").param("since", "4"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes", hasSize(1)))
+            .andExpect(jsonPath("$.changes[0].type").value("DELETED"))
+            .andExpect(jsonPath("$.changes[0].timeEntryId", is(4)))
+            .andExpect(jsonPath("$.hasMore", is(false)));
+    }
+
+    @Test
+    void shouldRecordChangesForBulkReassign() throws Exception {
+        BulkReassignRequest request = BulkReassignRequest.builder()
+            .sourceProjectId(2L)
+            .targetProjectId(1L)
+            .build();
+
+        mockMvc.perform(post("/api/v1/time-entries/reassign")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/time-entries/changes").param("since", "4"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes", hasSize(2)))
+            .andExpect(jsonPath("$.changes[*].type", containsInAnyOrder("UPDATED", "UPDATED")))
+            .andExpect(jsonPath("$.changes[*].projectId", containsInAnyOrder(1, 1)));
+    }
+
+    @Test
+    void shouldServeArchivedTimeEntriesTransparently() throws Exception {
+        mockMvc.perform(post("/api/v1/time-entries/archive"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.archived", is(4)));
+
+        mockMvc.perform(get("/api/v1/time-entries").param("employeeId", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].id", is(1)))
+            .andExpect(jsonPath("$[1].id", is(2)));
+
+        mockMvc.perform(get("/api/v1/time-entries/{id}", 4L))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.projectCode").value("PRJ-OPS-003"));
+
+        mockMvc.perform(delete("/api/v1/time-entries/{id}", 4L))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldMoveArchivedRowsOutOfTheHotReadModel() throws Exception {
+        mockMvc.perform(post("/api/v1/time-entries/archive"))
+            .andExpect(status().isOk());
+        mockMvc.perform(put("/api/v1/projects/{id}", 3L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ProjectRequest.builder()
+                    .name("ERP Migration")
+                    .code("PRJ-OPS-033")
+                    .active(false)
+                    .build())))
+            .andExpect(status().isOk());
+
+        assertThat(entityManager.createNativeQuery("select count(*) from time_entry_views").getSingleResult())
+            .isEqualTo(0L);
+        assertThat(entityManager.createNativeQuery("select count(*) from time_entry_archive_views").getSingleResult())
+            .isEqualTo(4L);
+        mockMvc.perform(get("/api/v1/time-entries").param("projectId", "3"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].projectCode", contains("PRJ-OPS-033")));
+        mockMvc.perform(get("/api/v1/time-entries/read-model/consistency"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.consistent", is(true)))
+            .andExpect(jsonPath("$.viewRows", is(4)));
+    }
+
+    @Test
+    void shouldSearchTimeEntriesByTermAndPrefix() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries/search").param("q", "Vendor"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", is(1)))
+            .andExpect(jsonPath("$.hits[0].timeEntry.id", is(4)))
+            .andExpect(jsonPath("$.hits[0].timeEntry.projectCode", is("PRJ-OPS-003")));
+
+        mockMvc.perform(get("/api/v1/time-entries/search").param("q", "plan*"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", is(2)))
+            .andExpect(jsonPath("$.hits[*].timeEntry.id", containsInAnyOrder(1, 3)));
+
+        mockMvc.perform(get("/api/v1/time-entries/search").param("q", "plan"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", is(0)))
+            .andExpect(jsonPath("$.hits", hasSize(0)));
+    }
+
+    @Test
+    void shouldCombineSearchWithFiltersAndPaging() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries/search")
+                .param("q", "planning")
+                .param("employeeId", "2")
+                .param("startDate", "2024-06-03")
+                .param("endDate", "2024-06-09"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", is(1)))
+            .andExpect(jsonPath("$.hits[0].timeEntry.id", is(3)));
+
+        mockMvc.perform(get("/api/v1/time-entries/search").param("q", "planning").param("size", "1").param("page", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", is(2)))
+            .andExpect(jsonPath("$.page", is(1)))
+            .andExpect(jsonPath("$.hits", hasSize(1)));
+    }
+
+    @Test
+    void shouldSearchArchivedTimeEntries() throws Exception {
+        mockMvc.perform(post("/api/v1/time-entries/archive"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/time-entries/search").param("q", "vendor sync"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", is(1)))
+            .andExpect(jsonPath("$.hits[0].timeEntry.id", is(4)))
+            .andExpect(jsonPath("$.hits[0].timeEntry.employeeLastName", is("Turner")));
+    }
+
+    @Test
+    void shouldReturnEveryRuleViolationAsProblemDetail() throws Exception {
+        TimeEntryRequest request = TimeEntryRequest.builder()
+            .employeeId(1L)
+            .projectId(1L)
+            .date(LocalDate.now().plusDays(3))
+            .hours(new BigDecimal("1.10"))
+            .build();
+
+        mockMvc.perform(post("/api/v1/time-entries")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest())
+            .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+            .andExpect(jsonPath("$.status", is(400)))
+            .andExpect(jsonPath("$.title", is("Time entry rules violated")))
+            .andExpect(jsonPath("$.instance", is("/api/v1/time-entries")))
+            .andExpect(jsonPath("$.violations[*].rule", containsInAnyOrder("hours.quarter-hour", "date.not-future")));
+    }
+
+    @Test
+    void shouldReportConstraintViolationsAsProblemDetail() throws Exception {
+        mockMvc.perform(post("/api/v1/time-entries")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"hours\": 30}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+            .andExpect(jsonPath("$.violations[*].field",
+                containsInAnyOrder("employeeId", "projectId", "date", "hours")));
+    }
+
+    @Test
+    void shouldValidateTimeEntryWithoutSavingIt() throws Exception {
+        TimeEntryRequest invalid = TimeEntryRequest.builder()
+            .employeeId(999L)
+            .date(LocalDate.now().plusDays(1))
+            .hours(new BigDecimal("1.10"))
+            .build();
+
+        mockMvc.perform(post("/api/v1/time-entries/validate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(invalid)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.valid", is(false)))
+            .andExpect(jsonPath("$.violations[*].rule", containsInAnyOrder(
+                "constraint.NotNull", "employee.exists", "hours.quarter-hour", "date.not-future")));
+
+        TimeEntryRequest valid = TimeEntryRequest.builder()
+            .employeeId(1L)
+            .projectId(1L)
+            .date(LocalDate.of(2024, 6, 3))
+            .hours(new BigDecimal("8.00"))
+            .build();
+
+        mockMvc.perform(post("/api/v1/time-entries/validate")
+                .with(countStatements())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(valid)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.valid", is(true)))
+            .andExpect(jsonPath("$.violations", hasSize(0)))
+            .andExpect(statementsAtMost(4));
+
+        mockMvc.perform(get("/api/v1/time-entries").param("employeeId", "1"))
+            .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    void shouldValidateUpdateAgainstOtherEntriesOfTheDay() throws Exception {
+        TimeEntryRequest request = TimeEntryRequest.builder()
+            .employeeId(2L)
+            .projectId(1L)
+            .date(LocalDate.of(2024, 6, 3))
+            .hours(new BigDecimal("18.25"))
+            .build();
+
+        mockMvc.perform(post("/api/v1/time-entries/validate")
+                .param("id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.valid", is(false)))
+            .andExpect(jsonPath("$.violations[0].rule", is("hours.daily-limit")))
+            .andExpect(jsonPath("$.violations[0].field", is("hours")));
+
+        mockMvc.perform(post("/api/v1/time-entries/validate")
+                .param("id", "3")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.valid", is(true)));
+    }
+
+    @Test
+    void shouldKeepReadModelConsistentAcrossWrites() throws Exception {
+        TimeEntryRequest update = TimeEntryRequest.builder()
+            .employeeId(2L)
+            .projectId(3L)
+            .date(LocalDate.of(2024, 6, 6))
+            .hours(new BigDecimal("5.00"))
+            .description("Moved to ERP")
+            .build();
+        mockMvc.perform(put("/api/v1/time-entries/{id}", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/time-entries").param("employeeId", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[1].id", is(1)))
+            .andExpect(jsonPath("$[1].employeeLastName", is("Garcia")))
+            .andExpect(jsonPath("$[1].projectCode", is("PRJ-OPS-003")))
+            .andExpect(jsonPath("$[1].description", is("Moved to ERP")));
+
+        mockMvc.perform(delete("/api/v1/time-entries/{id}", 2L))
+            .andExpect(status().isNoContent());
+        mockMvc.perform(post("/api/v1/time-entries/reassign")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(BulkReassignRequest.builder()
+                    .sourceProjectId(3L)
+                    .targetProjectId(1L)
+                    .build())))
+            .andExpect(status().isOk());
+        mockMvc.perform(post("/api/v1/time-entries/archive"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/time-entries/read-model/consistency"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.consistent", is(true)))
+            .andExpect(jsonPath("$.sourceRows", is(3)))
+            .andExpect(jsonPath("$.viewRows", is(3)));
+    }
+
+    @Test
+    void shouldFanOutEmployeeAndProjectRenamesToReadModel() throws Exception {
+        mockMvc.perform(put("/api/v1/employees/{id}", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(EmployeeRequest.builder()
+                    .firstName("Ava")
+                    .lastName("Stone-Hill")
+                    .email("ava.hill@example.com")
+                    .department("Engineering")
+                    .build())))
+            .andExpect(status().isOk());
+        mockMvc.perform(put("/api/v1/projects/{id}", 2L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ProjectRequest.builder()
+                    .name("Mobile Relaunch")
+                    .code("PRJ-MOB-022")
+                    .active(true)
+                    .build())))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/time-entries").param("projectId", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].projectName", containsInAnyOrder("Mobile Relaunch", "Mobile Relaunch")))
+            .andExpect(jsonPath("$[*].employeeLastName", containsInAnyOrder("Garcia", "Stone-Hill")))
+            .andExpect(jsonPath("$[*].employeeEmail",
+                containsInAnyOrder("noah.garcia@example.com", "ava.hill@example.com")));
+
+        mockMvc.perform(get("/api/v1/time-entries/read-model/consistency"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.consistent", is(true)));
+    }
+
+    @Test
+    void shouldReportDriftAndRepairItWithRebuild() throws Exception {
+        entityManager.createNativeQuery("delete from time_entry_views where id = 1").executeUpdate();
+        entityManager.createNativeQuery("update time_entry_views set project_name = 'Stale' where id = 2")
+            .executeUpdate();
+        entityManager.createNativeQuery("insert into time_entry_views (id, employee_id, employee_first_name,"
+                + " employee_last_name, employee_email, project_id, project_name, project_code, date, hours)"
+                + " values (99, 1, 'Ava', 'Stone', 'ava.stone@example.com', 1, 'Apollo Redesign', 'PRJ-ENG-001',"
+                + " date '2024-06-07', 1.00)")
+            .executeUpdate();
+
+        mockMvc.perform(get("/api/v1/time-entries/read-model/consistency"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.consistent", is(false)))
+            .andExpect(jsonPath("$.missing", is(1)))
+            .andExpect(jsonPath("$.missingIds[0]", is(1)))
+            .andExpect(jsonPath("$.orphaned", is(1)))
+            .andExpect(jsonPath("$.orphanedIds[0]", is(99)))
+            .andExpect(jsonPath("$.stale", is(1)))
+            .andExpect(jsonPath("$.staleIds[0]", is(2)));
+
+        mockMvc.perform(post("/api/v1/time-entries/read-model/rebuild"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.removed", is(4)))
+            .andExpect(jsonPath("$.rows", is(4)));
+
+        mockMvc.perform(get("/api/v1/time-entries/read-model/consistency"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.consistent", is(true)));
+        mockMvc.perform(get("/api/v1/time-entries/{id}", 2L))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.projectName", is("Mobile Launch")));
+    }
+
+    @Test
+    void shouldRejectInvalidSearchRequests() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries/search").param("q", " * "))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/time-entries/search").param("q", "vendor").param("size", "0"))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/time-entries/search").param("q", "vendor").param("page", "-1"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldSearchTimeEntriesWithinStatementBudget() throws Exception {
+        timeEntrySearchIndex.rebuild();
+
+        mockMvc.perform(get("/api/v1/time-entries/search").with(countStatements()).param("q", "seeded"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", is(1000)))
+            .andExpect(jsonPath("$.hits", hasSize(20)))
+            .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldListAllTimeEntriesWithinStatementBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries").with(countStatements()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1004)))
+            .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldListTimeEntriesByEmployeeAndRangeWithinStatementBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries")
+                .with(countStatements())
+                .param("employeeId", "100")
+                .param("startDate", "2024-06-03")
+                .param("endDate", "2024-06-09"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(20)))
+            .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldListTimeEntriesByProjectWithinStatementBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries").with(countStatements()).param("projectId", "100"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(50)))
+            .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldGetWeeklySummaryWithinStatementBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries/summary/weekly")
+                .with(countStatements())
+                .param("projectId", "100")
+                .param("weekStart", "2024-06-03"))
+            .andExpect(status().isOk())
+            .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldListChangesWithinStatementBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries/changes").with(countStatements()))
+            .andExpect(status().isOk())
+            .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldGetTimeEntryWithinStatementBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/time-entries/{id}", 1000L).with(countStatements()))
+            .andExpect(status().isOk())
+            .andExpect(statementsAtMost(1));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldCreateTimeEntryWithinStatementBudget() throws Exception {
+        TimeEntryRequest request = TimeEntryRequest.builder()
+            .employeeId(101L)
+            .projectId(101L)
+            .date(LocalDate.of(2024, 6, 10))
+            .hours(new BigDecimal("1.00"))
+            .build();
+
+        mockMvc.perform(post("/api/v1/time-entries")
+                .with(countStatements())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andDo(flush(entityManager))
+            .andExpect(statementsAtMost(7));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldUpdateTimeEntryWithinStatementBudget() throws Exception {
+        TimeEntryRequest request = TimeEntryRequest.builder()
+            .employeeId(100L)
+            .projectId(101L)
+            .date(LocalDate.of(2024, 6, 3))
+            .hours(new BigDecimal("2.00"))
+            .build();
+
+        mockMvc.perform(put("/api/v1/time-entries/{id}", 1000L)
+                .with(countStatements())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andDo(flush(entityManager))
+            .andExpect(statementsAtMost(8));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldPatchTimeEntryWithinStatementBudget() throws Exception {
+        TimeEntryPatchRequest request = TimeEntryPatchRequest.builder()
+            .hours(new BigDecimal("2.00"))
+            .build();
+
+        mockMvc.perform(patch("/api/v1/time-entries/{id}", 1000L)
+                .with(countStatements())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andDo(flush(entityManager))
+            .andExpect(statementsAtMost(6));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldDeleteTimeEntryWithinStatementBudget() throws Exception {
+        mockMvc.perform(delete("/api/v1/time-entries/{id}", 1000L).with(countStatements()))
+            .andExpect(status().isNoContent())
+            .andDo(flush(entityManager))
+            .andExpect(statementsAtMost(4));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldBulkDeleteTimeEntriesWithinStatementBudget() throws Exception {
+        mockMvc.perform(delete("/api/v1/time-entries").with(countStatements()).param("projectId", "100"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.affected", is(50)))
+            .andDo(flush(entityManager))
+            .andExpect(statementsAtMost(4));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldReassignTimeEntriesWithinStatementBudget() throws Exception {
+        BulkReassignRequest request = BulkReassignRequest.builder()
+            .sourceProjectId(100L)
+            .targetProjectId(101L)
+            .build();
+
+        mockMvc.perform(post("/api/v1/time-entries/reassign")
+                .with(countStatements())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.affected", is(50)))
+            .andDo(flush(entityManager))
+            .andExpect(statementsAtMost(5));
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldArchiveTimeEntriesWithinStatementBudget() throws Exception {
+        mockMvc.perform(post("/api/v1/time-entries/archive").with(countStatements()))
+            .andExpect(status().isOk())
+            .andDo(flush(entityManager))
+            .andExpect(statementsAtMost(9));
+    }
 }
@@ -0,0 +1,72 @@
+package com.ralphtimesheet.api.timeentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TimeEntryEventBusTest {
+
+    private final List<Runnable> pendingDispatches = new ArrayList<>();
+
+    private TimeEntryEventBus eventBus;
+
+    @BeforeEach
+    void setUp() {
+        TimeEntryStreamProperties properties = new TimeEntryStreamProperties();
+        properties.setBufferSize(2);
+        eventBus = new TimeEntryEventBus(properties, new SimpleMeterRegistry(), pendingDispatches::add);
+    }
+
+    @Test
+    void shouldOnlyDispatchEventsMatchingSubscriberFilter() {
+        eventBus.subscribe(null, 2L);
+
+        eventBus.onTimeEntryChanged(TimeEntryChangedEvent.created(snapshot(1L, 1L, 1L)));
+        assertThat(pendingDispatches).isEmpty();
+
+        eventBus.onTimeEntryChanged(TimeEntryChangedEvent.updated(snapshot(1L, 1L, 1L), snapshot(1L, 1L, 2L)));
+        assertThat(pendingDispatches).hasSize(1);
+    }
+
+    @Test
+    void shouldEvictSubscriberWhoseBufferIsFull() {
+        eventBus.subscribe(1L, null);
+
+        for (int i = 0; i < 3; i++) {
+            eventBus.onTimeEntryChanged(TimeEntryChangedEvent.created(snapshot((long) i, 1L, 1L)));
+        }
+
+        assertThat(eventBus.getSubscriberCount()).isZero();
+        assertThat(eventBus.getEvictionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldKeepSubscriberThatDrainsItsBuffer() {
+        eventBus.subscribe(1L, null);
+
+        for (int i = 0; i < 5; i++) {
+            eventBus.onTimeEntryChanged(TimeEntryChangedEvent.created(snapshot((long) i, 1L, 1L)));
+            pendingDispatches.forEach(Runnable::run);
+            pendingDispatches.clear();
+        }
+
+        assertThat(eventBus.getSubscriberCount()).isEqualTo(1);
+        assertThat(eventBus.getEvictionCount()).isZero();
+    }
+
+    private TimeEntrySnapshot snapshot(Long id, Long employeeId, Long projectId) {
+        return TimeEntrySnapshot.builder()
+            .id(id)
+            .employeeId(employeeId)
+            .projectId(projectId)
+            .date(LocalDate.of(2024, 6, 3))
+            .hours(new BigDecimal("1.00"))
+            .build();
+    }
+}
@@ -0,0 +1,209 @@
+package com.ralphtimesheet.api.timeentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TimeEntrySearchIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 6, 3);
+
+    private TimeEntryRepository timeEntryRepository;
+    private ArchivedTimeEntryRepository archivedTimeEntryRepository;
+    private TimeEntrySearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        timeEntryRepository = mock(TimeEntryRepository.class);
+        archivedTimeEntryRepository = mock(ArchivedTimeEntryRepository.class);
+        index = new TimeEntrySearchIndex(timeEntryRepository, archivedTimeEntryRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldRankByRelevanceAcrossHotAndArchivedEntries() {
+        List<TimeEntryDocument> hot = List.of(
+            document(1L, 1L, 10L, DAY, "Vendor sync"),
+            document(2L, 1L, 10L, DAY, "Vendor sync, vendor onboarding and contract review with procurement"),
+            document(3L, 2L, 20L, DAY, "Sprint planning")
+        );
+        List<TimeEntryDocument> archived = List.of(document(4L, 3L, 30L, DAY.minusYears(3), "Quarterly vendor sync"));
+        when(timeEntryRepository.findAllDocuments()).thenReturn(hot);
+        when(archivedTimeEntryRepository.findAllDocuments()).thenReturn(archived);
+
+        index.rebuild();
+
+        assertThat(ids(search("vendor sync"))).containsExactly(1L, 4L, 2L);
+        assertThat(ids(search("VENDOR"))).hasSize(3);
+        assertThat(ids(search("vendor planning"))).isEmpty();
+        assertThat(index.getDocumentCount()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldMatchPrefixesAndApplyFilters() {
+        List<TimeEntryDocument> hot = List.of(
+            document(1L, 1L, 10L, DAY, "Sprint planning"),
+            document(2L, 2L, 10L, DAY.plusDays(1), "Release plan"),
+            document(3L, 2L, 20L, DAY.plusDays(2), "Planned outage")
+        );
+        when(timeEntryRepository.findAllDocuments()).thenReturn(hot);
+        when(archivedTimeEntryRepository.findAllDocuments()).thenReturn(List.of());
+        index.rebuild();
+
+        assertThat(ids(search("plan*"))).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(ids(search("plan"))).containsExactly(2L);
+        assertThat(ids(index.search(TimeEntrySearchIndex.parseQuery("plan*"), 2L, null, null, null, 0, 10)))
+            .containsExactlyInAnyOrder(2L, 3L);
+        assertThat(ids(index.search(TimeEntrySearchIndex.parseQuery("plan*"), null, 10L, DAY.plusDays(1), null, 0, 10)))
+            .containsExactly(2L);
+    }
+
+    @Test
+    void shouldPageThroughRankedHits() {
+        List<TimeEntryDocument> hot = List.of(
+            document(1L, 1L, 10L, DAY, "Standup"),
+            document(2L, 1L, 10L, DAY.plusDays(1), "Standup"),
+            document(3L, 1L, 10L, DAY.plusDays(2), "Standup")
+        );
+        when(timeEntryRepository.findAllDocuments()).thenReturn(hot);
+        when(archivedTimeEntryRepository.findAllDocuments()).thenReturn(List.of());
+        index.rebuild();
+
+        List<TimeEntrySearchIndex.QueryTerm> terms = TimeEntrySearchIndex.parseQuery("standup");
+        TimeEntrySearchIndex.Result first = index.search(terms, null, null, null, null, 0, 2);
+        TimeEntrySearchIndex.Result second = index.search(terms, null, null, null, null, 2, 2);
+
+        assertThat(first.total()).isEqualTo(3);
+        assertThat(ids(first)).containsExactly(3L, 2L);
+        assertThat(ids(second)).containsExactly(1L);
+    }
+
+    @Test
+    void shouldApplyCommittedChanges() {
+        when(timeEntryRepository.findAllDocuments()).thenReturn(List.of());
+        when(archivedTimeEntryRepository.findAllDocuments()).thenReturn(List.of());
+        index.rebuild();
+        TimeEntrySnapshot created = snapshot(1L, "Vendor sync");
+        TimeEntrySnapshot updated = snapshot(1L, "Budget review");
+
+        index.onTimeEntryChanged(TimeEntryChangedEvent.created(created));
+        assertThat(ids(search("vendor"))).containsExactly(1L);
+
+        index.onTimeEntryChanged(TimeEntryChangedEvent.updated(created, updated));
+        assertThat(ids(search("vendor"))).isEmpty();
+        assertThat(ids(search("budget"))).containsExactly(1L);
+
+        index.onTimeEntryChanged(TimeEntryChangedEvent.deleted(updated));
+        assertThat(ids(search("budget"))).isEmpty();
+        assertThat(index.getDocumentCount()).isZero();
+        assertThat(index.getTermCount()).isZero();
+    }
+
+    @Test
+    void shouldApplyBulkChangesToHotEntriesOnly() {
+        when(timeEntryRepository.findAllDocuments()).thenReturn(List.of(
+            document(1L, 1L, 10L, DAY, "Vendor sync"),
+            document(2L, 2L, 10L, DAY, "Vendor onboarding"),
+            document(3L, 1L, 10L, DAY.plusDays(1), "Vendor review")
+        ));
+        when(archivedTimeEntryRepository.findAllDocuments())
+            .thenReturn(List.of(document(4L, 1L, 10L, DAY.minusYears(3), "Vendor audit")));
+        index.rebuild();
+        index.onTimeEntriesArchived(new TimeEntriesArchivedEvent(List.of(3L)));
+
+        index.onTimeEntriesBulkChanged(TimeEntryBulkChangedEvent.builder()
+            .type(TimeEntryChangeType.BULK_REASSIGNED)
+            .employeeId(1L)
+            .projectId(10L)
+            .targetProjectId(20L)
+            .build());
+        assertThat(ids(index.search(TimeEntrySearchIndex.parseQuery("vendor"), null, 20L, null, null, 0, 10)))
+            .containsExactly(1L);
+
+        index.onTimeEntriesBulkChanged(TimeEntryBulkChangedEvent.builder()
+            .type(TimeEntryChangeType.BULK_DELETED)
+            .startDate(DAY.minusYears(5))
+            .build());
+        assertThat(ids(search("vendor"))).containsExactlyInAnyOrder(3L, 4L);
+    }
+
+    @Test
+    void shouldReplayChangesCommittedDuringRebuild() {
+        when(archivedTimeEntryRepository.findAllDocuments()).thenReturn(List.of());
+        when(timeEntryRepository.findAllDocuments()).thenAnswer(invocation -> {
+            index.onTimeEntryChanged(TimeEntryChangedEvent.created(snapshot(2L, "Budget review")));
+            return List.of(document(1L, 1L, 10L, DAY, "Vendor sync"), document(2L, 1L, 10L, DAY, "Budget review"));
+        });
+
+        index.rebuild();
+
+        assertThat(ids(search("budget"))).containsExactly(2L);
+        assertThat(index.getDocumentCount()).isEqualTo(2);
+        assertThat(index.getTermCount()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldParseTermsAndPrefixes() {
+        assertThat(TimeEntrySearchIndex.parseQuery("  Vendor-sync plan* "))
+            .containsExactly(
+                new TimeEntrySearchIndex.QueryTerm("vendor", false),
+                new TimeEntrySearchIndex.QueryTerm("sync", false),
+                new TimeEntrySearchIndex.QueryTerm("plan", true)
+            );
+        assertThat(TimeEntrySearchIndex.parseQuery(" * ")).isEmpty();
+    }
+
+    private TimeEntrySearchIndex.Result search(String query) {
+        return index.search(TimeEntrySearchIndex.parseQuery(query), null, null, null, null, 0, 10);
+    }
+
+    private List<Long> ids(TimeEntrySearchIndex.Result result) {
+        return result.hits().stream().map(TimeEntrySearchIndex.Hit::id).toList();
+    }
+
+    private TimeEntrySnapshot snapshot(Long id, String description) {
+        return TimeEntrySnapshot.builder()
+            .id(id)
+            .employeeId(1L)
+            .projectId(10L)
+            .date(DAY)
+            .hours(new BigDecimal("1.00"))
+            .description(description)
+            .build();
+    }
+
+    private TimeEntryDocument document(Long id, Long employeeId, Long projectId, LocalDate date, String description) {
+        return new TimeEntryDocument() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getEmployeeId() {
+                return employeeId;
+            }
+
+            @Override
+            public Long getProjectId() {
+                return projectId;
+            }
+
+            @Override
+            public LocalDate getDate() {
+                return date;
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+        };
+    }
+}
@@ -3,18 +3,31 @@ package com.ralphtimesheet.api.timeentry;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.ralphtimesheet.api.calendar.WorkingCalendar;
+import com.ralphtimesheet.api.calendar.WorkingCalendarProperties;
 import com.ralphtimesheet.api.employee.Employee;
 import com.ralphtimesheet.api.employee.EmployeeRepository;
 import com.ralphtimesheet.api.project.Project;
 import com.ralphtimesheet.api.project.ProjectRepository;
+import com.ralphtimesheet.api.timeentry.dto.BulkOperationResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryChangeFeedResponse;
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryPatchRequest;
 import com.ralphtimesheet.api.timeentry.dto.TimeEntryRequest;
 import com.ralphtimesheet.api.timeentry.dto.TimeEntryResponse;
+import com.ralphtimesheet.api.timeentry.rule.DailyHourLimitRule;
+import com.ralphtimesheet.api.timeentry.rule.FutureDateRule;
+import com.ralphtimesheet.api.timeentry.rule.QuarterHourIncrementRule;
+import com.ralphtimesheet.api.timeentry.rule.TimeEntryRuleEngine;
+import jakarta.validation.Validation;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.Period;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +35,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 @ExtendWith(MockitoExtension.class)
 class TimeEntryServiceImplTest {
@@ -29,12 +44,34 @@ class TimeEntryServiceImplTest {
     @Mock
     private TimeEntryRepository timeEntryRepository;
 
+    @Mock
+    private TimeEntryChangeRepository timeEntryChangeRepository;
+
+    @Mock
+    private ArchivedTimeEntryRepository archivedTimeEntryRepository;
+
+    @Mock
+    private TimeEntryViewRepository timeEntryViewRepository;
+
     @Mock
     private EmployeeRepository employeeRepository;
 
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private EmployeeDayIndex employeeDayIndex;
+
+    @Mock
+    private TimeEntrySearchIndex timeEntrySearchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TimeEntryBulkProperties bulkProperties;
+
+    private TimeEntryArchiveProperties archiveProperties;
+
     private TimeEntryServiceImpl timeEntryService;
 
     private Employee employee;
@@ -42,7 +79,33 @@ class TimeEntryServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        timeEntryService = new TimeEntryServiceImpl(timeEntryRepository, employeeRepository, projectRepository);
+        bulkProperties = new TimeEntryBulkProperties();
+        archiveProperties = new TimeEntryArchiveProperties();
+        archiveProperties.setHorizon(Period.ofYears(100));
+        timeEntryService = new TimeEntryServiceImpl(
+            timeEntryRepository,
+            timeEntryChangeRepository,
+            archivedTimeEntryRepository,
+            timeEntryViewRepository,
+            employeeRepository,
+            projectRepository,
+            bulkProperties,
+            archiveProperties,
+            new TimeEntryChangeFeedProperties(),
+            employeeDayIndex,
+            timeEntrySearchIndex,
+            new TimeEntryRuleEngine(
+                List.of(
+                    new QuarterHourIncrementRule(),
+                    new FutureDateRule(),
+                    new DailyHourLimitRule(timeEntryRepository, archivedTimeEntryRepository, employeeDayIndex,
+                        archiveProperties)
+                ),
+                Validation.buildDefaultValidatorFactory().getValidator()
+            ),
+            new WorkingCalendar(new WorkingCalendarProperties()),
+            eventPublisher
+        );
 
         employee = Employee.builder()
             .id(1L)
@@ -111,6 +174,29 @@ class TimeEntryServiceImplTest {
         verify(timeEntryRepository, never()).save(any(TimeEntry.class));
     }
 
+    @Test
+    void updateTimeEntryShouldCheckDailyLimitAgainstDayIndexWhenItCoversTheDate() {
+        LocalDate date = LocalDate.of(2024, 6, 6);
+        TimeEntry existingEntry = TimeEntry.builder()
+            .id(10L)
+            .employee(employee)
+            .project(project)
+            .date(date)
+            .hours(new BigDecimal("8.00"))
+            .build();
+
+        when(timeEntryRepository.findById(10L)).thenReturn(Optional.of(existingEntry));
+        mockEmployeeAndProject();
+        when(employeeDayIndex.covers(date)).thenReturn(true);
+        when(employeeDayIndex.hoursOn(1L, null, date)).thenReturn(new BigDecimal("18.00"));
+
+        assertThatThrownBy(() -> timeEntryService.updateTimeEntry(10L, baseRequest(new BigDecimal("14.25"), date)))
+            .isInstanceOf(TimeEntryValidationException.class)
+            .hasMessage("Total hours per day cannot exceed 24.");
+
+        verify(timeEntryRepository, never()).findByEmployeeIdAndDateBetween(any(), any(), any());
+    }
+
     @Test
     void updateTimeEntryShouldIgnoreExistingEntryWhenCheckingDailyLimit() {
         LocalDate date = LocalDate.of(2024, 6, 6);
@@ -142,6 +228,138 @@ class TimeEntryServiceImplTest {
 
         assertThat(response.getHours()).isEqualByComparingTo(new BigDecimal("14.00"));
         verify(timeEntryRepository).save(any(TimeEntry.class));
+        verify(timeEntryChangeRepository).save(any(TimeEntryChange.class));
+        verify(eventPublisher).publishEvent(any(TimeEntryChangedEvent.class));
+    }
+
+    @Test
+    void patchTimeEntryShouldSkipReferenceLookupsWhenOnlyDescriptionChanges() {
+        LocalDate date = LocalDate.of(2024, 6, 6);
+        TimeEntry existingEntry = TimeEntry.builder()
+            .id(10L)
+            .employee(employee)
+            .project(project)
+            .date(date)
+            .hours(new BigDecimal("8.00"))
+            .description("Existing")
+            .build();
+
+        when(timeEntryRepository.findWithReferencesById(10L)).thenReturn(Optional.of(existingEntry));
+        when(timeEntryRepository.save(any(TimeEntry.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TimeEntryPatchRequest request = TimeEntryPatchRequest.builder()
+            .employeeId(1L)
+            .hours(new BigDecimal("8.0"))
+            .description("Fixed typo")
+            .build();
+
+        TimeEntryResponse response = timeEntryService.patchTimeEntry(10L, request);
+
+        assertThat(response.getDescription()).isEqualTo("Fixed typo");
+        assertThat(response.getHours()).isEqualByComparingTo(new BigDecimal("8.00"));
+        verify(employeeRepository, never()).findById(anyLong());
+        verify(projectRepository, never()).findById(anyLong());
+        verify(timeEntryRepository, never()).findByEmployeeIdAndDateBetween(any(), any(), any());
+    }
+
+    @Test
+    void patchTimeEntryShouldRevalidateDailyLimitWhenHoursChange() {
+        LocalDate date = LocalDate.of(2024, 6, 6);
+        TimeEntry existingEntry = TimeEntry.builder()
+            .id(10L)
+            .employee(employee)
+            .project(project)
+            .date(date)
+            .hours(new BigDecimal("8.00"))
+            .build();
+        TimeEntry otherEntry = TimeEntry.builder()
+            .id(11L)
+            .employee(employee)
+            .project(project)
+            .date(date)
+            .hours(new BigDecimal("12.00"))
+            .build();
+
+        when(timeEntryRepository.findWithReferencesById(10L)).thenReturn(Optional.of(existingEntry));
+        when(timeEntryRepository.findByEmployeeIdAndDateBetween(1L, date, date))
+            .thenReturn(List.of(existingEntry, otherEntry));
+
+        TimeEntryPatchRequest request = TimeEntryPatchRequest.builder()
+            .hours(new BigDecimal("12.25"))
+            .build();
+
+        assertThatThrownBy(() -> timeEntryService.patchTimeEntry(10L, request))
+            .isInstanceOf(TimeEntryValidationException.class)
+            .hasMessage("Total hours per day cannot exceed 24.");
+
+        verify(timeEntryRepository, never()).save(any(TimeEntry.class));
+    }
+
+    @Test
+    void createTimeEntryShouldIncludeArchivedHoursWhenDateIsBeyondArchiveHorizon() {
+        archiveProperties.setHorizon(Period.ofYears(1));
+        LocalDate date = LocalDate.now().minusYears(2);
+        TimeEntryRequest request = baseRequest(new BigDecimal("4.00"), date);
+
+        mockEmployeeAndProject();
+        when(timeEntryRepository.findByEmployeeIdAndDateBetween(1L, date, date)).thenReturn(List.of());
+        when(archivedTimeEntryRepository.sumHoursByEmployeeIdAndDate(1L, date)).thenReturn(new BigDecimal("21.00"));
+
+        assertThatThrownBy(() -> timeEntryService.createTimeEntry(request))
+            .isInstanceOf(TimeEntryValidationException.class)
+            .hasMessage("Total hours per day cannot exceed 24.");
+    }
+
+    @Test
+    void getTimeEntriesShouldReadArchiveViewOnlyWhenRangeReachesArchiveHorizon() {
+        archiveProperties.setHorizon(Period.ofYears(1));
+        LocalDate recent = LocalDate.now().minusMonths(1);
+        LocalDate old = LocalDate.now().minusYears(2);
+        TimeEntryResponse later = TimeEntryResponse.builder().id(1L).date(recent).build();
+        TimeEntryResponse earlier = TimeEntryResponse.builder().id(2L).date(old).build();
+        when(timeEntryViewRepository.findMatching(1L, null, recent, null)).thenReturn(List.of(later));
+        when(timeEntryViewRepository.findMatchingWithArchive(1L, null, old, null)).thenReturn(List.of(later, earlier));
+
+        assertThat(timeEntryService.getTimeEntries(1L, null, recent, null)).containsExactly(later);
+        assertThat(timeEntryService.getTimeEntries(1L, null, old, null)).containsExactly(earlier, later);
+        verify(timeEntryViewRepository, never()).findMatchingWithArchive(1L, null, recent, null);
+    }
+
+    @Test
+    void getChangesShouldStopBeforeChangesWithinCommitLag() {
+        Instant now = Instant.now();
+        when(timeEntryChangeRepository.findBySequenceGreaterThanOrderBySequenceAsc(4L, Limit.of(101)))
+            .thenReturn(List.of(change(5L, now.minusSeconds(120)), change(7L, now), change(8L, now.minusSeconds(120))));
+
+        TimeEntryChangeFeedResponse response = timeEntryService.getChanges(4L, 100);
+
+        assertThat(response.getChanges()).extracting("sequence").containsExactly(5L);
+        assertThat(response.getNextCursor()).isEqualTo(5L);
+        assertThat(response.isHasMore()).isFalse();
+    }
+
+    @Test
+    void deleteTimeEntriesShouldRejectWhenMatchCountExceedsLimit() {
+        bulkProperties.setMaxAffectedRows(1);
+        when(timeEntryRepository.countMatching(1L, null, null, null)).thenReturn(2L);
+
+        assertThatThrownBy(() -> timeEntryService.deleteTimeEntries(1L, null, null, null, false))
+            .isInstanceOf(TimeEntryValidationException.class)
+            .hasMessage("Bulk operation would affect 2 entries, exceeding the limit of 1.");
+
+        verify(timeEntryRepository, never()).deleteMatching(any(), any(), any(), any());
+    }
+
+    @Test
+    void deleteTimeEntriesShouldOnlyCountOnDryRun() {
+        when(timeEntryRepository.countMatching(1L, null, null, null)).thenReturn(2L);
+
+        BulkOperationResponse response = timeEntryService.deleteTimeEntries(1L, null, null, null, true);
+
+        assertThat(response.getMatched()).isEqualTo(2L);
+        assertThat(response.getAffected()).isZero();
+        assertThat(response.isDryRun()).isTrue();
+        verify(timeEntryRepository, never()).deleteMatching(any(), any(), any(), any());
     }
 
     private void mockEmployeeAndProject() {
@@ -158,4 +376,17 @@ class TimeEntryServiceImplTest {
             .description("Working on Apollo")
             .build();
     }
+
+    private TimeEntryChange change(Long sequence, Instant changedAt) {
+        return TimeEntryChange.builder()
+            .sequence(sequence)
+            .timeEntryId(sequence)
+            .type(TimeEntryChangeType.UPDATED)
+            .employeeId(1L)
+            .projectId(1L)
+            .date(LocalDate.of(2024, 6, 3))
+            .hours(new BigDecimal("1.00"))
+            .changedAt(changedAt)
+            .build();
+    }
 }
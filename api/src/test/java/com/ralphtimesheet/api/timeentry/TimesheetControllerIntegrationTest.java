@@ -0,0 +1,304 @@
+package com.ralphtimesheet.api.timeentry;
+
+import static com.ralphtimesheet.api.support.StatementBudget.countStatements;
+import static com.ralphtimesheet.api.support.StatementBudget.flush;
+import static com.ralphtimesheet.api.support.StatementBudget.statementsAtMost;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ralphtimesheet.api.support.StatementBudget;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetRequest;
+import com.ralphtimesheet.api.timeentry.dto.WeeklyTimesheetRowRequest;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class TimesheetControllerIntegrationTest {
+
+    private static final String SEEDED_WEEK = "2024-06-03";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void shouldApplyOnlyTheDifferencesToTheWeek() throws Exception {
+        WeeklyTimesheetRequest request = timesheet(
+            row(1L, "Wireframe review and planning", "4.50", "2.00", null, null, null, null, null)
+        );
+
+        saveTimesheet(1L, SEEDED_WEEK, request)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.employeeId", is(1)))
+            .andExpect(jsonPath("$.weekEnd", is("2024-06-09")))
+            .andExpect(jsonPath("$.created", is(1)))
+            .andExpect(jsonPath("$.updated", is(0)))
+            .andExpect(jsonPath("$.deleted", is(1)))
+            .andExpect(jsonPath("$.rows", hasSize(1)))
+            .andExpect(jsonPath("$.rows[0].projectCode", is("PRJ-ENG-001")))
+            .andExpect(jsonPath("$.rows[0].hours[1]", is(2.00)))
+            .andExpect(jsonPath("$.days", hasSize(7)))
+            .andExpect(jsonPath("$.days[0].hours", is(4.50)));
+
+        mockMvc.perform(get("/api/v1/time-entries").param("employeeId", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[*].hours", containsInAnyOrder(4.50, 2.00)))
+            .andExpect(jsonPath("$[*].date", containsInAnyOrder("2024-06-03", "2024-06-04")));
+    }
+
+    @Test
+    void shouldUpdateChangedCellsInPlace() throws Exception {
+        WeeklyTimesheetRequest request = timesheet(
+            row(1L, null, "5.00", null, null, null, null, null, null),
+            row(2L, "Release testing", null, "3.75", null, null, null, null, null)
+        );
+
+        saveTimesheet(1L, SEEDED_WEEK, request)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created", is(0)))
+            .andExpect(jsonPath("$.updated", is(2)))
+            .andExpect(jsonPath("$.deleted", is(0)));
+
+        mockMvc.perform(get("/api/v1/time-entries/1"))
+            .andExpect(jsonPath("$.hours", is(5.00)))
+            .andExpect(jsonPath("$.description", is("Wireframe review and planning")));
+        mockMvc.perform(get("/api/v1/time-entries/2"))
+            .andExpect(jsonPath("$.hours", is(3.75)))
+            .andExpect(jsonPath("$.description", is("Release testing")));
+    }
+
+    @Test
+    void shouldClearTheWeekWhenGridIsEmpty() throws Exception {
+        saveTimesheet(1L, SEEDED_WEEK, timesheet())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.deleted", is(2)));
+
+        mockMvc.perform(get("/api/v1/time-entries").param("employeeId", "1"))
+            .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void shouldRejectDayOverDailyLimit() throws Exception {
+        WeeklyTimesheetRequest request = timesheet(
+            row(1L, null, "12.00", null, null, null, null, null, null),
+            row(2L, null, "12.25", null, null, null, null, null, null)
+        );
+
+        saveTimesheet(1L, SEEDED_WEEK, request)
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReportEveryInvalidCellAtOnce() throws Exception {
+        WeeklyTimesheetRequest request = timesheet(
+            row(1L, null, "12.00", "1.10", null, null, null, null, null),
+            row(2L, null, "12.25", null, "0.30", null, null, null, null)
+        );
+
+        saveTimesheet(1L, SEEDED_WEEK, request)
+            .andExpect(status().isBadRequest())
+            .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+            .andExpect(jsonPath("$.violations", hasSize(3)))
+            .andExpect(jsonPath("$.violations[*].field",
+                containsInAnyOrder("rows[0].hours[1]", "rows[1].hours[2]", "days[0]")))
+            .andExpect(jsonPath("$.violations[*].rule",
+                containsInAnyOrder("hours.quarter-hour", "hours.quarter-hour", "hours.daily-limit")));
+    }
+
+    @Test
+    void shouldRejectWeekStartThatIsNotMonday() throws Exception {
+        saveTimesheet(1L, "2024-06-04", timesheet())
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldRejectDuplicateProjectRows() throws Exception {
+        WeeklyTimesheetRequest request = timesheet(
+            row(1L, null, "1.00", null, null, null, null, null, null),
+            row(1L, null, null, "1.00", null, null, null, null, null)
+        );
+
+        saveTimesheet(1L, SEEDED_WEEK, request)
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldRejectRowsWithoutSevenDays() throws Exception {
+        WeeklyTimesheetRowRequest row = WeeklyTimesheetRowRequest.builder()
+            .projectId(1L)
+            .hours(List.of(BigDecimal.ONE))
+            .build();
+
+        saveTimesheet(1L, SEEDED_WEEK, timesheet(row))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldRejectHoursInFutureDays() throws Exception {
+        LocalDate nextWeek = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+        saveTimesheet(1L, nextWeek.toString(), timesheet(row(1L, null, "1.00", null, null, null, null, null, null)))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownProject() throws Exception {
+        saveTimesheet(1L, SEEDED_WEEK, timesheet(row(999L, null, "1.00", null, null, null, null, null, null)))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownEmployee() throws Exception {
+        saveTimesheet(999L, SEEDED_WEEK, timesheet())
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldSaveTimesheetWithinStatementBudget() throws Exception {
+        WeeklyTimesheetRequest request = timesheet(
+            row(111L, null, "1.00", "2.00", null, null, null, null, null)
+        );
+
+        mockMvc.perform(put("/api/v1/employees/{employeeId}/timesheets/{weekStart}", 110L, SEEDED_WEEK)
+                .with(countStatements())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created", is(2)))
+            .andExpect(jsonPath("$.deleted", is(20)))
+            .andDo(flush(entityManager))
+            .andExpect(statementsAtMost(11));
+    }
+
+    @Test
+    void shouldCopyPreviousWeekIntoTheGivenWeek() throws Exception {
+        copyTimesheet(1L, "2024-06-10", SEEDED_WEEK)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.sourceWeekStart", is(SEEDED_WEEK)))
+            .andExpect(jsonPath("$.weekEnd", is("2024-06-16")))
+            .andExpect(jsonPath("$.copied", is(2)))
+            .andExpect(jsonPath("$.skipped", is(0)))
+            .andExpect(jsonPath("$.rows", hasSize(2)))
+            .andExpect(jsonPath("$.rows[0].projectCode", is("PRJ-ENG-001")))
+            .andExpect(jsonPath("$.rows[0].hours[0]", is(4.5)))
+            .andExpect(jsonPath("$.rows[1].hours[1]", is(3.75)))
+            .andExpect(jsonPath("$.days[1].hours", is(3.75)));
+
+        mockMvc.perform(get("/api/v1/time-entries")
+                .param("employeeId", "1")
+                .param("startDate", "2024-06-10")
+                .param("endDate", "2024-06-16"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].date", containsInAnyOrder("2024-06-10", "2024-06-11")))
+            .andExpect(jsonPath("$[*].description", containsInAnyOrder(
+                "Wireframe review and planning", "Mobile onboarding QA session")));
+    }
+
+    @Test
+    void shouldSkipInactiveProjectsWhenCopying() throws Exception {
+        copyTimesheet(3L, "2024-06-10", SEEDED_WEEK)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.copied", is(0)))
+            .andExpect(jsonPath("$.skipped", is(1)))
+            .andExpect(jsonPath("$.rows", hasSize(0)));
+    }
+
+    @Test
+    void shouldSkipFutureDatesWhenCopying() throws Exception {
+        LocalDate nextWeek = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+        copyTimesheet(1L, nextWeek.toString(), SEEDED_WEEK)
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.copied", is(0)))
+            .andExpect(jsonPath("$.skipped", is(2)));
+    }
+
+    @Test
+    void shouldRejectCopyThatExceedsDailyLimit() throws Exception {
+        saveTimesheet(1L, "2024-06-10", timesheet(row(2L, null, "20.00", null, null, null, null, null, null)))
+            .andExpect(status().isOk());
+
+        copyTimesheet(1L, "2024-06-10", SEEDED_WEEK)
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.violations", hasSize(1)))
+            .andExpect(jsonPath("$.violations[0].rule", is("hours.daily-limit")))
+            .andExpect(jsonPath("$.violations[0].field", is("days[0]")));
+    }
+
+    @Test
+    void shouldRejectCopyOntoTheSameWeek() throws Exception {
+        copyTimesheet(1L, SEEDED_WEEK, SEEDED_WEEK)
+            .andExpect(status().isBadRequest());
+        copyTimesheet(1L, "2024-06-11", SEEDED_WEEK)
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Sql(StatementBudget.DATASET)
+    void shouldCopyWeekWithinStatementBudget() throws Exception {
+        mockMvc.perform(post("/api/v1/employees/{employeeId}/timesheets/{weekStart}/copy-from/{sourceWeekStart}",
+                110L, "2024-06-10", SEEDED_WEEK)
+                .with(countStatements()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.copied", is(20)))
+            .andDo(flush(entityManager))
+            .andExpect(statementsAtMost(8));
+    }
+
+    private ResultActions saveTimesheet(Long employeeId, String weekStart, WeeklyTimesheetRequest request)
+        throws Exception {
+        return mockMvc.perform(put("/api/v1/employees/{employeeId}/timesheets/{weekStart}", employeeId, weekStart)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private ResultActions copyTimesheet(Long employeeId, String weekStart, String sourceWeekStart) throws Exception {
+        return mockMvc.perform(post("/api/v1/employees/{employeeId}/timesheets/{weekStart}/copy-from/{sourceWeekStart}",
+            employeeId, weekStart, sourceWeekStart));
+    }
+
+    private WeeklyTimesheetRequest timesheet(WeeklyTimesheetRowRequest... rows) {
+        return WeeklyTimesheetRequest.builder()
+            .rows(List.of(rows))
+            .build();
+    }
+
+    private WeeklyTimesheetRowRequest row(Long projectId, String description, String... hours) {
+        return WeeklyTimesheetRowRequest.builder()
+            .projectId(projectId)
+            .description(description)
+            .hours(Arrays.stream(hours).map(value -> value != null ? new BigDecimal(value) : null).toList())
+            .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.ralphtimesheet.api.timeentry.rule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.ralphtimesheet.api.timeentry.dto.TimeEntryRequest;
+import jakarta.validation.Validation;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class TimeEntryRuleEngineTest {
+
+    private final TimeEntryRule descriptionRule = candidate -> "TBD".equals(candidate.getDescription())
+        ? Optional.of(new RuleViolation("description.placeholder", "description", "Description must not be TBD."))
+        : Optional.empty();
+
+    private final TimeEntryRuleEngine engine = new TimeEntryRuleEngine(
+        List.of(new QuarterHourIncrementRule(), new FutureDateRule(), descriptionRule),
+        Validation.buildDefaultValidatorFactory().getValidator()
+    );
+
+    @Test
+    void shouldReportEveryViolatedRule() {
+        TimeEntryCandidate candidate = TimeEntryCandidate.builder()
+            .date(LocalDate.now().plusDays(2))
+            .hours(new BigDecimal("1.10"))
+            .description("TBD")
+            .build();
+
+        List<RuleViolation> violations = engine.evaluate(candidate);
+
+        assertThat(violations).extracting(RuleViolation::getRule)
+            .containsExactly("hours.quarter-hour", "date.not-future", "description.placeholder");
+        assertThatThrownBy(() -> engine.enforce(candidate))
+            .isInstanceOfSatisfying(TimeEntryRulesException.class,
+                ex -> assertThat(ex.getViolations()).hasSize(3));
+    }
+
+    @Test
+    void shouldReusePreallocatedStacklessExceptionForSingleViolation() {
+        TimeEntryCandidate candidate = TimeEntryCandidate.builder()
+            .date(LocalDate.now().minusDays(1))
+            .hours(new BigDecimal("1.10"))
+            .build();
+
+        TimeEntryRulesException first = catchRulesException(candidate);
+        TimeEntryRulesException second = catchRulesException(candidate);
+
+        assertThat(first).isSameAs(second);
+        assertThat(first.getStackTrace()).isEmpty();
+        assertThat(first).hasMessage("Hours must be in 15-minute increments.");
+    }
+
+    @Test
+    void shouldTranslateBeanConstraintsIntoViolations() {
+        TimeEntryRequest request = TimeEntryRequest.builder()
+            .hours(new BigDecimal("30.00"))
+            .build();
+
+        assertThat(engine.checkConstraints(request)).extracting(RuleViolation::getField, RuleViolation::getRule)
+            .containsExactly(
+                tuple("date", "constraint.NotNull"),
+                tuple("employeeId", "constraint.NotNull"),
+                tuple("hours", "constraint.DecimalMax"),
+                tuple("projectId", "constraint.NotNull")
+            );
+    }
+
+    private TimeEntryRulesException catchRulesException(TimeEntryCandidate candidate) {
+        try {
+            engine.enforce(candidate);
+        } catch (TimeEntryRulesException ex) {
+            return ex;
+        }
+        throw new AssertionError("Expected rules to reject the candidate");
+    }
+}
@@ -0,0 +1,56 @@
+package com.ralphtimesheet.api.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:warmup;MODE=PostgreSQL;DATABASE_TO_UPPER=false",
+    "timesheet.warmup.enabled=true",
+    "timesheet.warmup.iterations=25",
+    "management.endpoint.health.probes.enabled=true",
+    "management.endpoint.health.group.readiness.include=readinessState,warmup",
+    "management.endpoint.health.group.readiness.show-details=always"
+})
+@AutoConfigureMockMvc
+@DirtiesContext
+class WarmupIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WarmupRunner warmupRunner;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldReportReadyOnlyAfterWarmupCompletesWithoutWriting() throws Exception {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (warmupRunner.getPhase() != WarmupRunner.Phase.COMPLETED && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status", is("UP")))
+            .andExpect(jsonPath("$.components.warmup.details.phase", is("COMPLETED")))
+            .andExpect(jsonPath("$.components.warmup.details.iterations", is(25)))
+            .andExpect(jsonPath("$.components.warmup.details.failedIterations", is(0)));
+
+        assertThat(warmupRunner.getDuration()).isPositive();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from time_entries", Long.class)).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from time_entry_changes", Long.class)).isEqualTo(4);
+    }
+}
@@ -0,0 +1,117 @@
+package com.ralphtimesheet.api.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ralphtimesheet.api.employee.EmployeeService;
+import com.ralphtimesheet.api.employee.dto.EmployeeResponse;
+import com.ralphtimesheet.api.project.ProjectService;
+import com.ralphtimesheet.api.project.dto.ProjectResponse;
+import com.ralphtimesheet.api.timeentry.TimeEntryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class WarmupRunnerTest {
+
+    private TimeEntryService timeEntryService;
+    private EmployeeService employeeService;
+    private ProjectService projectService;
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private WarmupProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        timeEntryService = mock(TimeEntryService.class);
+        employeeService = mock(EmployeeService.class);
+        projectService = mock(ProjectService.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new WarmupProperties();
+        properties.setIterations(6);
+        when(employeeService.getEmployees()).thenReturn(List.of(employee(1L), employee(2L)));
+        when(projectService.getProjects(null)).thenReturn(List.of(project(10L)));
+    }
+
+    @Test
+    void shouldRunWorkloadInReadOnlyTransactionsAndReportReadiness() {
+        WarmupRunner runner = runner();
+        WarmupHealthIndicator health = new WarmupHealthIndicator(runner);
+        assertThat(health.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        runner.run();
+
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(8)).getTransaction(definitions.capture());
+        assertThat(definitions.getAllValues()).allMatch(TransactionDefinition::isReadOnly);
+        verify(employeeService, times(3)).getEmployee(1L);
+        verify(employeeService, times(3)).getEmployee(2L);
+        verify(timeEntryService, times(12)).getWeeklySummary(any(), any(), any());
+        assertThat(runner.getPhase()).isEqualTo(WarmupRunner.Phase.COMPLETED);
+        assertThat(runner.getCompletedIterations()).isEqualTo(6);
+        assertThat(health.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(meterRegistry.timer("timesheet.warmup.duration").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBecomeReadyWhenWarmupTimesOut() {
+        properties.setTimeout(Duration.ZERO);
+        WarmupRunner runner = runner();
+
+        runner.run();
+
+        verify(employeeService, never()).getEmployee(anyLong());
+        assertThat(runner.getPhase()).isEqualTo(WarmupRunner.Phase.TIMED_OUT);
+        assertThat(new WarmupHealthIndicator(runner).health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void shouldCountFailedIterationsAndKeepGoing() {
+        when(projectService.getProject(10L)).thenThrow(new IllegalStateException("boom"));
+        WarmupRunner runner = runner();
+
+        runner.run();
+
+        assertThat(runner.getPhase()).isEqualTo(WarmupRunner.Phase.COMPLETED);
+        assertThat(runner.getFailedIterations()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldStayReadyWhenDisabled() {
+        properties.setEnabled(false);
+        WarmupRunner runner = runner();
+
+        runner.onApplicationReady();
+
+        assertThat(runner.getPhase()).isEqualTo(WarmupRunner.Phase.DISABLED);
+        assertThat(new WarmupHealthIndicator(runner).health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    private WarmupRunner runner() {
+        return new WarmupRunner(timeEntryService, employeeService, projectService, properties, transactionManager,
+            meterRegistry);
+    }
+
+    private static EmployeeResponse employee(Long id) {
+        return EmployeeResponse.builder().id(id).build();
+    }
+
+    private static ProjectResponse project(Long id) {
+        return ProjectResponse.builder().id(id).build();
+    }
+}
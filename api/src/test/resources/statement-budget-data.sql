@@ -0,0 +1,18 @@
+INSERT INTO employees (id, first_name, last_name, email, department)
+SELECT 100 + X, 'Employee', 'Number ' || X, 'employee' || X || '@example.com', 'Engineering'
+FROM SYSTEM_RANGE(0, 49);
+
+INSERT INTO projects (id, name, code, description, active)
+SELECT 100 + X, 'Project ' || X, 'PRJ-BDG-' || (100 + X), 'Seeded for statement budgets.', TRUE
+FROM SYSTEM_RANGE(0, 19);
+
+INSERT INTO time_entries (id, employee_id, project_id, date, hours, description)
+SELECT 1000 + X, 100 + MOD(X, 50), 100 + MOD(X, 20), DATEADD('DAY', MOD(X, 5), DATE '2024-06-03'), 1.00, 'Seeded entry ' || X
+FROM SYSTEM_RANGE(0, 999);
+
+INSERT INTO time_entry_views (id, employee_id, employee_first_name, employee_last_name, employee_email, project_id, project_name, project_code, date, hours, description)
+SELECT e.id, e.employee_id, emp.first_name, emp.last_name, emp.email, e.project_id, p.name, p.code, e.date, e.hours, e.description
+FROM time_entries e
+JOIN employees emp ON emp.id = e.employee_id
+JOIN projects p ON p.id = e.project_id
+WHERE e.id >= 1000;
@@ -0,0 +1,61 @@
+#!/bin/bash
+# Startup benchmark - compares the standard jar with the fast-startup (AOT + CDS) build
+# Usage: ./startup-benchmark.sh [runs]
+
+set -e
+
+RUNS="${1:-5}"
+PORT="${PORT:-18080}"
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+API_DIR="$SCRIPT_DIR/../api"
+READY_URL="http://localhost:$PORT/actuator/health/readiness"
+
+cd "$API_DIR"
+echo "Building fast-startup artifacts..."
+./mvnw -B -q -Pfast-startup clean package -DskipTests > /dev/null
+
+JAR="$(ls target/api-*.jar | head -1)"
+FAST_DIR="target/fast-startup"
+
+now_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+measure() {
+  local dir="$1"
+  shift
+  local start pid ready rss
+  start=$(now_ms)
+  (cd "$dir" && exec "$@" --server.port="$PORT") > /dev/null 2>&1 &
+  pid=$!
+
+  until curl -sf "$READY_URL" 2>/dev/null | grep -q '"UP"'; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "application exited before becoming ready" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  ready=$(( $(now_ms) - start ))
+  rss=$(awk '/VmRSS/ { print int($2 / 1024) }' "/proc/$pid/status")
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  echo "$ready $rss"
+}
+
+run_variant() {
+  local name="$1"
+  shift
+  local total_ready=0 total_rss=0 result
+  for i in $(seq 1 "$RUNS"); do
+    result=$(measure "$@")
+    total_ready=$(( total_ready + ${result% *} ))
+    total_rss=$(( total_rss + ${result#* } ))
+  done
+  printf "%-14s %14d %10d\n" "$name" $(( total_ready / RUNS )) $(( total_rss / RUNS ))
+}
+
+printf "%-14s %14s %10s\n" "variant" "ready (ms)" "rss (MB)"
+run_variant "standard" . java -jar "$JAR"
+run_variant "fast-startup" "$FAST_DIR" java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar "$(basename "$JAR")"